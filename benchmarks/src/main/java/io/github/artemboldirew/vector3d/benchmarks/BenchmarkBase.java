@@ -0,0 +1,12 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+// Общие параметры форка для всех бенчмарков (@Fork наследуется подклассами). Модуль
+// jdk.incubator.vector подключается так же, как в тестах (argLine в pom.xml), поэтому MathUtil
+// и всё, что через него проходит, замеряется на векторном бэкенде, как в рабочей конфигурации.
+// Скалярные цифры: java -jar target/benchmarks.jar -jvmArgsPrepend -Dvector3d.simd=false
+// (не -jvmArgsAppend: он заменил бы аргументы отсюда вместе с модулем).
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public abstract class BenchmarkBase {
+}
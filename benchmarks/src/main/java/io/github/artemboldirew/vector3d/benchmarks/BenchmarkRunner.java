@@ -0,0 +1,20 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.Arrays;
+
+// Точка входа benchmarks.jar: принимает обычные аргументы JMH и, если профилировщик не задан,
+// добавляет -prof gc, чтобы в отчёте были скорость выделения памяти и байты на операцию.
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("-prof")) {
+            Main.main(args);
+            return;
+        }
+        String[] argv = Arrays.copyOf(args, args.length + 2);
+        argv[args.length] = "-prof";
+        argv[args.length + 1] = "gc";
+        Main.main(argv);
+    }
+}
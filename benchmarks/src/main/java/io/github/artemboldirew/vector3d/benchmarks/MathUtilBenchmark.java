@@ -0,0 +1,126 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MathUtilBenchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    @Param({"4", "64", "256"})
+    int size;
+
+    float num;
+    float[][] a;
+    float[][] b;
+    float[][] column;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        num = 1.0f;
+        a = randomArray(random, size, size);
+        b = randomArray(random, size, size);
+        column = randomArray(random, size, 1);
+    }
+
+    // Данные для пакетных замеров не зависят от size, поэтому вынесены в отдельное состояние
+    @State(Scope.Thread)
+    public static class Bulk {
+        float[][][] mats4;
+        float[][][] columns4;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            mats4 = new float[BULK][][];
+            columns4 = new float[BULK][][];
+            for (int i = 0; i < BULK; i++) {
+                mats4[i] = randomArray(random, 4, 4);
+                columns4[i] = randomArray(random, 4, 1);
+            }
+        }
+    }
+
+    static float[][] randomArray(SplittableRandom random, int rows, int cols) {
+        float[][] arr = new float[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                arr[i][j] = (float) random.nextDouble(-1.0, 1.0);
+            }
+        }
+        return arr;
+    }
+
+    @Benchmark
+    public float[][] multiplyMatrices() {
+        return MathUtil.multiplyMatrices(a, b);
+    }
+
+    @Benchmark
+    public float[][] multiplyMatrixByColumn() {
+        return MathUtil.multiplyMatrices(a, column);
+    }
+
+    @Benchmark
+    public float[][] transposeMatrix() {
+        return MathUtil.transposeMatrix(a);
+    }
+
+    @Benchmark
+    public float[][] addArrays() {
+        return MathUtil.addArrays(a, b);
+    }
+
+    @Benchmark
+    public float[][] substractArrays() {
+        return MathUtil.substractArrays(a, b);
+    }
+
+    @Benchmark
+    public float[][] multiplyByNum() {
+        return MathUtil.multiplyByNum(a, num);
+    }
+
+    @Benchmark
+    public float[][] divideByNum() {
+        return MathUtil.divideByNum(a, num);
+    }
+
+    @Benchmark
+    public float scalarArrayProduct() {
+        return MathUtil.scalarArrayProduct(column, column);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyMatrices4x4Bulk(Bulk data, Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(MathUtil.multiplyMatrices(data.mats4[i], data.mats4[BULK - 1 - i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyMatrix4ByColumnBulk(Bulk data, Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(MathUtil.multiplyMatrices(data.mats4[i], data.columns4[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void scalarArrayProduct4Bulk(Bulk data, Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(MathUtil.scalarArrayProduct(data.columns4[i], data.columns4[BULK - 1 - i]));
+        }
+    }
+}
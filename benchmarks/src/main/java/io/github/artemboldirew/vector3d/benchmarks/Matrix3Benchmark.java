@@ -0,0 +1,199 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Matrix3Benchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    Matrix3 a;
+    Matrix3 b;
+    Matrix3 dest;
+    Vector3 v;
+    Vector3 vDest;
+    Matrix3[] as;
+    Matrix3[] bs;
+    Matrix3[] dests;
+    Vector3[] vs;
+    Vector3[] vDests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        a = randomMatrix3(random);
+        b = randomMatrix3(random);
+        dest = new Matrix3();
+        v = randomVector3(random);
+        vDest = new Vector3();
+        as = new Matrix3[BULK];
+        bs = new Matrix3[BULK];
+        dests = new Matrix3[BULK];
+        vs = new Vector3[BULK];
+        vDests = new Vector3[BULK];
+        for (int i = 0; i < BULK; i++) {
+            as[i] = randomMatrix3(random);
+            bs[i] = randomMatrix3(random);
+            dests[i] = new Matrix3();
+            vs[i] = randomVector3(random);
+            vDests[i] = new Vector3();
+        }
+    }
+
+    static Matrix3 randomMatrix3(SplittableRandom random) {
+        Matrix3 mat = new Matrix3();
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                mat.set(row, col, (float) random.nextDouble(-1.0, 1.0));
+            }
+        }
+        return mat;
+    }
+
+    static Vector3 randomVector3(SplittableRandom random) {
+        return new Vector3(new float[][]{{(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}});
+    }
+
+    @Benchmark
+    public Matrix3 multiply() {
+        return dest.set(a).multiply(b);
+    }
+
+    @Benchmark
+    public Matrix3 transpose() {
+        return dest.set(a).transpose();
+    }
+
+    @Benchmark
+    public Matrix3 add() {
+        return dest.set(a).add(b);
+    }
+
+    @Benchmark
+    public Matrix3 subtract() {
+        return dest.set(a).subtract(b);
+    }
+
+    @Benchmark
+    public Matrix3 multiplyInto() {
+        return Matrix3.multiply(a, b, dest);
+    }
+
+    @Benchmark
+    public Matrix3 transposeInto() {
+        return Matrix3.transpose(a, dest);
+    }
+
+    @Benchmark
+    public Matrix3 addInto() {
+        return Matrix3.add(a, b, dest);
+    }
+
+    @Benchmark
+    public Matrix3 subtractInto() {
+        return Matrix3.subtract(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector3 multiplyVector() {
+        return a.multiply(v);
+    }
+
+    @Benchmark
+    public Vector3 multiplyVectorInto() {
+        return a.multiply(v, vDest);
+    }
+
+    @Benchmark
+    public float[][] getMatrix() {
+        return a.getMatrix();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).multiply(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void transposeBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).transpose();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).add(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).subtract(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix3.multiply(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void transposeIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix3.transpose(as[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix3.add(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix3.subtract(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyVectorBulk() {
+        for (int i = 0; i < BULK; i++) {
+            vDests[i] = a.multiply(vs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyVectorIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            a.multiply(vs[i], vDests[i]);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Matrix4Benchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    Matrix4 a;
+    Matrix4 b;
+    Matrix4 dest;
+    Vector4 v;
+    Vector4 vDest;
+    Matrix4[] as;
+    Matrix4[] bs;
+    Matrix4[] dests;
+    Vector4[] vs;
+    Vector4[] vDests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        a = randomMatrix4(random);
+        b = randomMatrix4(random);
+        dest = new Matrix4();
+        v = randomVector4(random);
+        vDest = new Vector4();
+        as = new Matrix4[BULK];
+        bs = new Matrix4[BULK];
+        dests = new Matrix4[BULK];
+        vs = new Vector4[BULK];
+        vDests = new Vector4[BULK];
+        for (int i = 0; i < BULK; i++) {
+            as[i] = randomMatrix4(random);
+            bs[i] = randomMatrix4(random);
+            dests[i] = new Matrix4();
+            vs[i] = randomVector4(random);
+            vDests[i] = new Vector4();
+        }
+    }
+
+    static Matrix4 randomMatrix4(SplittableRandom random) {
+        Matrix4 mat = new Matrix4();
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                mat.set(row, col, (float) random.nextDouble(-1.0, 1.0));
+            }
+        }
+        return mat;
+    }
+
+    static Vector4 randomVector4(SplittableRandom random) {
+        return new Vector4(new float[][]{{(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}});
+    }
+
+    @Benchmark
+    public Matrix4 multiply() {
+        return dest.set(a).multiply(b);
+    }
+
+    @Benchmark
+    public Matrix4 transpose() {
+        return dest.set(a).transpose();
+    }
+
+    @Benchmark
+    public Matrix4 add() {
+        return dest.set(a).add(b);
+    }
+
+    @Benchmark
+    public Matrix4 subtract() {
+        return dest.set(a).subtract(b);
+    }
+
+    @Benchmark
+    public Matrix4 multiplyInto() {
+        return Matrix4.multiply(a, b, dest);
+    }
+
+    @Benchmark
+    public Matrix4 transposeInto() {
+        return Matrix4.transpose(a, dest);
+    }
+
+    @Benchmark
+    public Matrix4 addInto() {
+        return Matrix4.add(a, b, dest);
+    }
+
+    @Benchmark
+    public Matrix4 subtractInto() {
+        return Matrix4.subtract(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector4 multiplyVector() {
+        return a.multiply(v);
+    }
+
+    @Benchmark
+    public Vector4 multiplyVectorInto() {
+        return a.multiply(v, vDest);
+    }
+
+    @Benchmark
+    public float determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public Matrix4 inverseInto() {
+        return Matrix4.inverse(a, dest);
+    }
+
+    @Benchmark
+    public Matrix4 affineInverseInto() {
+        return Matrix4.affineInverse(a, dest);
+    }
+
+    @Benchmark
+    public float[][] getMatrix() {
+        return a.getMatrix();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).multiply(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void transposeBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).transpose();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).add(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).subtract(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix4.multiply(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void transposeIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix4.transpose(as[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix4.add(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Matrix4.subtract(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyVectorBulk() {
+        for (int i = 0; i < BULK; i++) {
+            vDests[i] = a.multiply(vs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyVectorIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            a.multiply(vs[i], vDests[i]);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Matrix4Stack;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Обход дерева глубины DEPTH: на каждом уровне push, умножение на матрицу узла, преобразование точки, затем pop.
+// Сравнивается стек с копированием Matrix4 на каждом уровне, как без Matrix4Stack.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Matrix4StackBenchmark extends BenchmarkBase {
+    static final int DEPTH = 16;
+
+    Matrix4Stack stack;
+    Matrix4 step;
+    Vector4 point;
+    Vector4 dest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = new Matrix4Stack(DEPTH + 1);
+        step = new Matrix4(new float[][]{
+                {0.8f, -0.6f, 0.0f, 1.0f},
+                {0.6f, 0.8f, 0.0f, 0.5f},
+                {0.0f, 0.0f, 1.0f, 0.25f},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        });
+        point = new Vector4(new float[][]{{1.0f}, {2.0f}, {3.0f}, {1.0f}});
+        dest = new Vector4();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPTH)
+    public Vector4 stackTraversal() {
+        for (int i = 0; i < DEPTH; i++) {
+            stack.push().multiply(step).multiply(point, dest);
+        }
+        for (int i = 0; i < DEPTH; i++) {
+            stack.pop();
+        }
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPTH)
+    public Vector4 stackTranslateRotate() {
+        for (int i = 0; i < DEPTH; i++) {
+            stack.push().translate(1.0f, 0.5f, 0.25f).rotate(0.1f, 0.0f, 0.0f, 1.0f).multiply(point, dest);
+        }
+        for (int i = 0; i < DEPTH; i++) {
+            stack.pop();
+        }
+        return dest;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPTH)
+    public Vector4 copyingTraversal() {
+        Matrix4 current = new Matrix4(step);
+        for (int i = 0; i < DEPTH; i++) {
+            current = new Matrix4(current).multiply(step);
+            current.multiply(point, dest);
+        }
+        return dest;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.render.FrameBuffer;
+import io.github.artemboldirew.vector3d.render.Rasterizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Сквозной кадр: преобразование вершин, отсечение, раскладка по тайлам и растеризация
+// TRIANGLES случайных треугольников в буфер 512x512. Однопоточный пул против общего.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class RasterizerBenchmark extends BenchmarkBase {
+    static final int TRIANGLES = 100_000;
+    static final int SIZE = 512;
+
+    @Param({"16", "32", "64"})
+    int tileSize;
+
+    Vector3Buffer positions;
+    int[] indices;
+    int[] colors;
+    Matrix4 mvp;
+    FrameBuffer target;
+    Rasterizer single;
+    Rasterizer parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(1);
+        positions = new Vector3Buffer(TRIANGLES * 3);
+        indices = new int[TRIANGLES * 3];
+        colors = new int[TRIANGLES];
+        for (int t = 0; t < TRIANGLES; t++) {
+            float cx = random.nextFloat() * 20.0f - 10.0f, cy = random.nextFloat() * 20.0f - 10.0f;
+            float cz = -1.0f - random.nextFloat() * 30.0f;
+            for (int k = 0; k < 3; k++) {
+                positions.set(t * 3 + k, cx + random.nextFloat() - 0.5f, cy + random.nextFloat() - 0.5f, cz + random.nextFloat());
+                indices[t * 3 + k] = t * 3 + k;
+            }
+            colors[t] = random.nextInt();
+        }
+        float n = 0.1f, f = 100.0f;
+        mvp = new Matrix4(new float[][]{
+                {1.0f, 0.0f, 0.0f, 0.0f},
+                {0.0f, 1.0f, 0.0f, 0.0f},
+                {0.0f, 0.0f, -(f + n) / (f - n), -2.0f * f * n / (f - n)},
+                {0.0f, 0.0f, -1.0f, 0.0f}
+        });
+        target = new FrameBuffer(SIZE, SIZE);
+        single = new Rasterizer(tileSize, new ForkJoinPool(1));
+        parallel = new Rasterizer(tileSize, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public FrameBuffer singleThread() {
+        single.draw(positions, indices, colors, mvp, target.clear(0, 1.0f));
+        return target;
+    }
+
+    @Benchmark
+    public FrameBuffer parallel() {
+        parallel.draw(positions, indices, colors, mvp, target.clear(0, 1.0f));
+        return target;
+    }
+}
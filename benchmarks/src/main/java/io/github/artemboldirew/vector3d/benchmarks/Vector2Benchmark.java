@@ -0,0 +1,202 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Vector2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Vector2Benchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    float num;
+    Vector2 a;
+    Vector2 b;
+    Vector2 dest;
+    Vector2[] as;
+    Vector2[] bs;
+    Vector2[] dests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        num = 1.0f;
+        a = randomVector2(random);
+        b = randomVector2(random);
+        dest = new Vector2();
+        as = new Vector2[BULK];
+        bs = new Vector2[BULK];
+        dests = new Vector2[BULK];
+        for (int i = 0; i < BULK; i++) {
+            as[i] = randomVector2(random);
+            bs[i] = randomVector2(random);
+            dests[i] = new Vector2();
+        }
+    }
+
+    static Vector2 randomVector2(SplittableRandom random) {
+        return new Vector2(new float[][]{{(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}});
+    }
+
+    @Benchmark
+    public Vector2 multiply() {
+        return dest.set(a).multiply(num);
+    }
+
+    @Benchmark
+    public Vector2 divide() {
+        return dest.set(a).divide(num);
+    }
+
+    @Benchmark
+    public Vector2 add() {
+        return dest.set(a).add(b);
+    }
+
+    @Benchmark
+    public Vector2 subtract() {
+        return dest.set(a).subtract(b);
+    }
+
+    @Benchmark
+    public Vector2 normalize() {
+        return dest.set(a).normalize();
+    }
+
+    @Benchmark
+    public Vector2 addInto() {
+        return Vector2.add(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector2 subtractInto() {
+        return Vector2.subtract(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector2 multiplyInto() {
+        return Vector2.multiply(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector2 divideInto() {
+        return Vector2.divide(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector2 normalizeInto() {
+        return Vector2.normalize(a, dest);
+    }
+
+    @Benchmark
+    public float getLength() {
+        return a.getLength();
+    }
+
+    @Benchmark
+    public float scalarProduct() {
+        return a.scalarProduct(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).multiply(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).divide(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).add(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).subtract(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).normalize();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector2.add(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector2.subtract(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector2.multiply(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector2.divide(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector2.normalize(as[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void getLengthBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].getLength());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void scalarProductBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].scalarProduct(bs[i]));
+        }
+    }
+}
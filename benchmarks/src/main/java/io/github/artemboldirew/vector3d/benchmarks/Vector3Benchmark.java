@@ -0,0 +1,238 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Vector3;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Vector3Benchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    float num;
+    Vector3 a;
+    Vector3 b;
+    Vector3 dest;
+    Vector3[] as;
+    Vector3[] bs;
+    Vector3[] dests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        num = 1.0f;
+        a = randomVector3(random);
+        b = randomVector3(random);
+        dest = new Vector3();
+        as = new Vector3[BULK];
+        bs = new Vector3[BULK];
+        dests = new Vector3[BULK];
+        for (int i = 0; i < BULK; i++) {
+            as[i] = randomVector3(random);
+            bs[i] = randomVector3(random);
+            dests[i] = new Vector3();
+        }
+    }
+
+    static Vector3 randomVector3(SplittableRandom random) {
+        return new Vector3(new float[][]{{(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}});
+    }
+
+    @Benchmark
+    public Vector3 multiply() {
+        return dest.set(a).multiply(num);
+    }
+
+    @Benchmark
+    public Vector3 divide() {
+        return dest.set(a).divide(num);
+    }
+
+    @Benchmark
+    public Vector3 add() {
+        return dest.set(a).add(b);
+    }
+
+    @Benchmark
+    public Vector3 subtract() {
+        return dest.set(a).subtract(b);
+    }
+
+    @Benchmark
+    public Vector3 normalize() {
+        return dest.set(a).normalize();
+    }
+
+    @Benchmark
+    public Vector3 vectorProduct() {
+        return dest.set(a).vectorProduct(b);
+    }
+
+    @Benchmark
+    public Vector3 addInto() {
+        return Vector3.add(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector3 subtractInto() {
+        return Vector3.subtract(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector3 multiplyInto() {
+        return Vector3.multiply(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector3 divideInto() {
+        return Vector3.divide(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector3 normalizeInto() {
+        return Vector3.normalize(a, dest);
+    }
+
+    @Benchmark
+    public Vector3 vectorProductInto() {
+        return Vector3.vectorProduct(a, b, dest);
+    }
+
+    @Benchmark
+    public float getLength() {
+        return a.getLength();
+    }
+
+    @Benchmark
+    public float lengthSquared() {
+        return a.lengthSquared();
+    }
+
+    @Benchmark
+    public float distanceSquared() {
+        return a.distanceSquared(b);
+    }
+
+    @Benchmark
+    public float scalarProduct() {
+        return a.scalarProduct(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).multiply(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).divide(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).add(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).subtract(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).normalize();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void vectorProductBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).vectorProduct(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.add(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.subtract(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.multiply(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.divide(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.normalize(as[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void vectorProductIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector3.vectorProduct(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void getLengthBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].getLength());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void scalarProductBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].scalarProduct(bs[i]));
+        }
+    }
+}
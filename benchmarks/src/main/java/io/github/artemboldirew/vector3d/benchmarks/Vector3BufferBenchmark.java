@@ -0,0 +1,83 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Vector3BufferBenchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    Vector3Buffer a;
+    Vector3Buffer b;
+    float[] dots;
+    Matrix3 rotation;
+    Matrix4 transform;
+    float[] initialX;
+    float[] initialY;
+    float[] initialZ;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        a = new Vector3Buffer(BULK);
+        b = new Vector3Buffer(BULK);
+        for (int i = 0; i < BULK; i++) {
+            a.set(i, (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0));
+            b.set(i, (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0));
+        }
+        dots = new float[BULK];
+        // Ортогональные матрицы, чтобы повторные преобразования не уводили значения в бесконечность
+        rotation = new Matrix3(new float[][]{{0.0f, -1.0f, 0.0f}, {1.0f, 0.0f, 0.0f}, {0.0f, 0.0f, 1.0f}});
+        transform = new Matrix4(new float[][]{{0.0f, -1.0f, 0.0f, 0.0f}, {1.0f, 0.0f, 0.0f, 0.0f}, {0.0f, 0.0f, 1.0f, 0.0f}, {0.0f, 0.0f, 0.0f, 1.0f}});
+        initialX = a.getX().clone();
+        initialY = a.getY().clone();
+        initialZ = a.getZ().clone();
+    }
+
+    // Операции меняют a на месте (add накапливает b), поэтому каждая итерация начинает с исходных данных
+    @Setup(Level.Iteration)
+    public void reset() {
+        System.arraycopy(initialX, 0, a.getX(), 0, BULK);
+        System.arraycopy(initialY, 0, a.getY(), 0, BULK);
+        System.arraycopy(initialZ, 0, a.getZ(), 0, BULK);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public Vector3Buffer add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public Vector3Buffer normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public float[] scalarProduct() {
+        return a.scalarProduct(b, dots);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public Vector3Buffer transformMatrix3() {
+        return a.transform(rotation);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public Vector3Buffer transformMatrix4() {
+        return a.transform(transform);
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.artemboldirew.vector3d.benchmarks;
+
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class Vector4Benchmark extends BenchmarkBase {
+    static final int BULK = 1_000_000;
+
+    float num;
+    Vector4 a;
+    Vector4 b;
+    Vector4 dest;
+    Vector4[] as;
+    Vector4[] bs;
+    Vector4[] dests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        num = 1.0f;
+        a = randomVector4(random);
+        b = randomVector4(random);
+        dest = new Vector4();
+        as = new Vector4[BULK];
+        bs = new Vector4[BULK];
+        dests = new Vector4[BULK];
+        for (int i = 0; i < BULK; i++) {
+            as[i] = randomVector4(random);
+            bs[i] = randomVector4(random);
+            dests[i] = new Vector4();
+        }
+    }
+
+    static Vector4 randomVector4(SplittableRandom random) {
+        return new Vector4(new float[][]{{(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}, {(float) random.nextDouble(-1.0, 1.0)}});
+    }
+
+    @Benchmark
+    public Vector4 multiply() {
+        return dest.set(a).multiply(num);
+    }
+
+    @Benchmark
+    public Vector4 divide() {
+        return dest.set(a).divide(num);
+    }
+
+    @Benchmark
+    public Vector4 add() {
+        return dest.set(a).add(b);
+    }
+
+    @Benchmark
+    public Vector4 subtract() {
+        return dest.set(a).subtract(b);
+    }
+
+    @Benchmark
+    public Vector4 normalize() {
+        return dest.set(a).normalize();
+    }
+
+    @Benchmark
+    public Vector4 addInto() {
+        return Vector4.add(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector4 subtractInto() {
+        return Vector4.subtract(a, b, dest);
+    }
+
+    @Benchmark
+    public Vector4 multiplyInto() {
+        return Vector4.multiply(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector4 divideInto() {
+        return Vector4.divide(a, num, dest);
+    }
+
+    @Benchmark
+    public Vector4 normalizeInto() {
+        return Vector4.normalize(a, dest);
+    }
+
+    @Benchmark
+    public float getLength() {
+        return a.getLength();
+    }
+
+    @Benchmark
+    public float scalarProduct() {
+        return a.scalarProduct(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).multiply(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).divide(num);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).add(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).subtract(bs[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeBulk() {
+        for (int i = 0; i < BULK; i++) {
+            dests[i].set(as[i]).normalize();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void addIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector4.add(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void subtractIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector4.subtract(as[i], bs[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void multiplyIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector4.multiply(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void divideIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector4.divide(as[i], num, dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void normalizeIntoBulk() {
+        for (int i = 0; i < BULK; i++) {
+            Vector4.normalize(as[i], dests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void getLengthBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].getLength());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void scalarProductBulk(Blackhole bh) {
+        for (int i = 0; i < BULK; i++) {
+            bh.consume(as[i].scalarProduct(bs[i]));
+        }
+    }
+}
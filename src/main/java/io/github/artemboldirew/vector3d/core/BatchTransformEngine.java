@@ -0,0 +1,177 @@
+package io.github.artemboldirew.vector3d.core;
+
+import io.github.artemboldirew.vector3d.metrics.BatchOperationEvent;
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Параллельное применение матриц к большим наборам векторов через ForkJoinPool.
+// Диапазон индексов делится пополам, пока его длина больше порога; каждый элемент
+// результата пишется ровно одной задачей по своему индексу, поэтому порядок вывода
+// не зависит от разбиения и числа потоков.
+public class BatchTransformEngine {
+    public static final int DEFAULT_THRESHOLD = 16_384;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public BatchTransformEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public BatchTransformEngine(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public BatchTransformEngine(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Порог разбиения должен быть положительным");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Vector4Buffer transform(Matrix4 mat, Vector4Buffer vectors) {
+        run(vectors.size(), (from, to) -> vectors.transform(mat, (int) from, (int) to));
+        return vectors;
+    }
+
+    // Точки (x, y, z, 1), как в Vector3Buffer.transform(Matrix4)
+    public Vector3Buffer transform(Matrix4 mat, Vector3Buffer points) {
+        run(points.size(), (from, to) -> points.transform(mat, (int) from, (int) to));
+        return points;
+    }
+
+    public Vector3Buffer transform(Matrix3 mat, Vector3Buffer vectors) {
+        run(vectors.size(), (from, to) -> vectors.transform(mat, (int) from, (int) to));
+        return vectors;
+    }
+
+    // Сегмент должен быть доступен из других потоков (Arena.ofShared() или Arena.global())
+    public Vector4SegmentArray transform(Matrix4 mat, Vector4SegmentArray vectors) {
+        run(vectors.size(), (from, to) -> vectors.transform(mat, from, to));
+        return vectors;
+    }
+
+    public Vector4[] transform(Matrix4 mat, Vector4[] src, Vector4[] dest) {
+        checkLengths(src.length, dest.length);
+        run(src.length, (from, to) -> {
+            for (int i = (int) from; i < to; i++) {
+                mat.multiply(src[i], dest[i]);
+            }
+        });
+        return dest;
+    }
+
+    public Vector3[] transform(Matrix3 mat, Vector3[] src, Vector3[] dest) {
+        checkLengths(src.length, dest.length);
+        run(src.length, (from, to) -> {
+            for (int i = (int) from; i < to; i++) {
+                mat.multiply(src[i], dest[i]);
+            }
+        });
+        return dest;
+    }
+
+    // Поэлементный вариант: dest[i] = mats[i] * src[i]
+    public Vector4[] transform(Matrix4[] mats, Vector4[] src, Vector4[] dest) {
+        checkLengths(mats.length, src.length);
+        checkLengths(src.length, dest.length);
+        run(src.length, (from, to) -> {
+            for (int i = (int) from; i < to; i++) {
+                mats[i].multiply(src[i], dest[i]);
+            }
+        });
+        return dest;
+    }
+
+    public Vector3[] transform(Matrix3[] mats, Vector3[] src, Vector3[] dest) {
+        checkLengths(mats.length, src.length);
+        checkLengths(src.length, dest.length);
+        run(src.length, (from, to) -> {
+            for (int i = (int) from; i < to; i++) {
+                mats[i].multiply(src[i], dest[i]);
+            }
+        });
+        return dest;
+    }
+
+    // Матрицы нормалей для массива моделей, как Matrix3.normalMatrices
+    public Matrix3[] normalMatrices(Matrix4[] models, Matrix3[] dest) {
+        checkLengths(models.length, dest.length);
+        run(models.length, (from, to) -> Matrix3.normalMatrices(models, dest, (int) from, (int) to));
+        return dest;
+    }
+
+    // Выполняет action над [0, size), деля диапазон по порогу; доступно и для других пакетных операций
+    public void run(long size, RangeAction action) {
+        run(size, 1, action);
+    }
+
+    // Как run, но границы задач кратны alignment (кроме конца диапазона). Нужно, когда соседние
+    // элементы пишут в одно слово результата, например биты видимости по 64 объекта в long;
+    // порог по-прежнему считается в элементах
+    public void run(long size, int alignment, RangeAction action) {
+        if (alignment < 1) {
+            throw new IllegalArgumentException("Выравнивание должно быть положительным");
+        }
+        BatchOperationEvent event = Metrics.ENABLED ? Metrics.begin() : null;
+        if (size <= threshold) {
+            action.apply(0, size);
+        } else {
+            pool.invoke(new RangeTask(action, 0, size, threshold, alignment));
+        }
+        if (event != null) {
+            Metrics.end(event, Operation.BATCH, size);
+        }
+    }
+
+    private static void checkLengths(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Размеры массивов должны совпадать");
+        }
+    }
+
+    @FunctionalInterface
+    public interface RangeAction {
+        void apply(long from, long to);
+    }
+
+    static final class RangeTask extends RecursiveAction {
+        private final RangeAction action;
+        private final long from;
+        private final long to;
+        private final int threshold;
+        private final int alignment;
+
+        RangeTask(RangeAction action, long from, long to, int threshold) {
+            this(action, from, to, threshold, 1);
+        }
+
+        RangeTask(RangeAction action, long from, long to, int threshold, int alignment) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.alignment = alignment;
+        }
+
+        @Override
+        protected void compute() {
+            long mid = (from + to) >>> 1;
+            mid -= mid % alignment;
+            if (to - from <= threshold || mid <= from) {
+                action.apply(from, to);
+                return;
+            }
+            invokeAll(new RangeTask(action, from, mid, threshold, alignment),
+                    new RangeTask(action, mid, to, threshold, alignment));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Блочное умножение больших прямоугольных матриц для MathUtil.multiplyMatrices.
+// B обрабатывается панелями по PANEL_COLS столбцов: панель упаковывается так, что строки k
+// лежат подряд, поэтому внутренний цикл идёт по непрерывной памяти, а блок k × PANEL_COLS
+// помещается в кэш. Строки результата для панели делятся на блоки, которые считаются
+// параллельно в ForkJoinPool.
+final class BlockedMatrixMultiply {
+    // Ниже этого числа умножений-сложений (≈ 64³) упаковка и потоки не окупаются
+    static final long THRESHOLD = 64L * 64L * 64L;
+    // Узкий результат (матрица на столбец) быстрее считается скалярными произведениями строк
+    static final int MIN_COLUMNS = 16;
+
+    private static final int PANEL_COLS = 256;
+    private static final int DEPTH_BLOCK = 128;
+    private static final int ROW_BLOCK = 32;
+    // Наибольшая длина массива, которую гарантированно выделяет JVM
+    private static final long MAX_PACKED = Integer.MAX_VALUE - 8;
+
+    private BlockedMatrixMultiply() {
+    }
+
+    static void multiply(MathBackend backend, float[][] a, float[][] b, float[][] result) {
+        int aRows = a.length;
+        int depth = b.length;
+        int bCols = b[0].length;
+        // Панели пакуются по одной, поэтому буфер ограничен depth * PANEL_COLS, а не depth * bCols;
+        // если и он не помещается в массив, панель читается прямо из строк b
+        boolean packable = (long) depth * PANEL_COLS <= MAX_PACKED;
+        float[] packed = packable ? new float[depth * Math.min(PANEL_COLS, bCols)] : null;
+        for (int jj = 0; jj < bCols; jj += PANEL_COLS) {
+            int column = jj;
+            int width = Math.min(PANEL_COLS, bCols - jj);
+            if (packable) {
+                pack(b, depth, column, width, packed);
+            }
+            BatchTransformEngine.RangeAction action = (from, to) ->
+                    multiplyRows(backend, a, b, packed, depth, column, width, result, (int) from, (int) to);
+            if (aRows <= ROW_BLOCK) {
+                action.apply(0, aRows);
+            } else {
+                ForkJoinPool.commonPool().invoke(new BatchTransformEngine.RangeTask(action, 0, aRows, ROW_BLOCK));
+            }
+        }
+    }
+
+    // Столбцы [column, column + width) b подряд по строкам: строка k панели начинается с k * width
+    private static void pack(float[][] b, int depth, int column, int width, float[] packed) {
+        for (int k = 0; k < depth; k++) {
+            System.arraycopy(b[k], column, packed, k * width, width);
+        }
+    }
+
+    private static void multiplyRows(MathBackend backend, float[][] a, float[][] b, float[] packed, int depth,
+                                     int column, int width, float[][] result, int rowFrom, int rowTo) {
+        for (int kk = 0; kk < depth; kk += DEPTH_BLOCK) {
+            int kEnd = Math.min(kk + DEPTH_BLOCK, depth);
+            for (int i = rowFrom; i < rowTo; i++) {
+                float[] ai = a[i];
+                float[] ri = result[i];
+                if (packed != null) {
+                    for (int k = kk; k < kEnd; k++) {
+                        backend.axpy(ai[k], packed, k * width, ri, column, width);
+                    }
+                } else {
+                    for (int k = kk; k < kEnd; k++) {
+                        backend.axpy(ai[k], b[k], column, ri, column, width);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.Objects;
+
+// Пирамида видимости из шести плоскостей a·x + b·y + c·z + d >= 0 (внутренняя сторона),
+// извлечённых из матрицы вид-проекция (метод Gribb–Hartmann, векторы-столбцы, отсечение
+// по -w <= x, y, z <= w). Плоскости нормируются, поэтому d + n·p — расстояние до плоскости.
+// Пакетные проверки пишут видимость в битовое множество: бит i слова i >>> 6.
+public class Frustum {
+    public static final int LEFT = 0;
+    public static final int RIGHT = 1;
+    public static final int BOTTOM = 2;
+    public static final int TOP = 3;
+    public static final int NEAR = 4;
+    public static final int FAR = 5;
+    private static final int PLANES = 6;
+
+    private final float[] a = new float[PLANES];
+    private final float[] b = new float[PLANES];
+    private final float[] c = new float[PLANES];
+    private final float[] d = new float[PLANES];
+    // |a|, |b|, |c| для проверки AABB через центр и полуразмеры
+    private final float[] absA = new float[PLANES];
+    private final float[] absB = new float[PLANES];
+    private final float[] absC = new float[PLANES];
+
+    public Frustum() {
+    }
+
+    public Frustum(Matrix4 viewProjection) {
+        set(viewProjection);
+    }
+
+    public Frustum set(Matrix4 m) {
+        for (int col = 0; col < 4; col++) {
+            float r0 = m.get(0, col), r1 = m.get(1, col), r2 = m.get(2, col), r3 = m.get(3, col);
+            setComponent(LEFT, col, r3 + r0);
+            setComponent(RIGHT, col, r3 - r0);
+            setComponent(BOTTOM, col, r3 + r1);
+            setComponent(TOP, col, r3 - r1);
+            setComponent(NEAR, col, r3 + r2);
+            setComponent(FAR, col, r3 - r2);
+        }
+        for (int p = 0; p < PLANES; p++) {
+            float len = (float) Math.sqrt(a[p] * a[p] + b[p] * b[p] + c[p] * c[p]);
+            if (len == 0.0f) {
+                throw new IllegalArgumentException("Матрица не задаёт пирамиду видимости");
+            }
+            float inv = 1.0f / len;
+            a[p] *= inv;
+            b[p] *= inv;
+            c[p] *= inv;
+            d[p] *= inv;
+            absA[p] = Math.abs(a[p]);
+            absB[p] = Math.abs(b[p]);
+            absC[p] = Math.abs(c[p]);
+        }
+        return this;
+    }
+
+    private void setComponent(int plane, int col, float value) {
+        switch (col) {
+            case 0 -> a[plane] = value;
+            case 1 -> b[plane] = value;
+            case 2 -> c[plane] = value;
+            default -> d[plane] = value;
+        }
+    }
+
+    // Плоскость как (a, b, c, d)
+    public Vector4 getPlane(int plane, Vector4 dest) {
+        Objects.checkIndex(plane, PLANES);
+        float[][] v = dest.getVector();
+        v[0][0] = a[plane];
+        v[1][0] = b[plane];
+        v[2][0] = c[plane];
+        v[3][0] = d[plane];
+        return dest;
+    }
+
+    public boolean containsPoint(float x, float y, float z) {
+        return intersectsSphere(x, y, z, 0.0f);
+    }
+
+    public boolean intersectsSphere(float x, float y, float z, float radius) {
+        for (int p = 0; p < PLANES; p++) {
+            if (a[p] * x + b[p] * y + c[p] * z + d[p] + radius < 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Консервативная проверка: коробка за углом пирамиды может быть признана видимой
+    public boolean intersectsBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        float cx = (minX + maxX) * 0.5f, cy = (minY + maxY) * 0.5f, cz = (minZ + maxZ) * 0.5f;
+        float ex = (maxX - minX) * 0.5f, ey = (maxY - minY) * 0.5f, ez = (maxZ - minZ) * 0.5f;
+        for (int p = 0; p < PLANES; p++) {
+            if (a[p] * cx + b[p] * cy + c[p] * cz + d[p] + absA[p] * ex + absB[p] * ey + absC[p] * ez < 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long[] cullSpheres(Vector3Buffer centers, float[] radii, long[] visible) {
+        return cullSpheres(centers, radii, visible, 0, centers.size());
+    }
+
+    // Меняются только биты [from, to); остальные биты слов на границах сохраняются
+    public long[] cullSpheres(Vector3Buffer centers, float[] radii, long[] visible, int from, int to) {
+        checkBatch(centers.size(), radii.length, visible, from, to);
+        float[] x = centers.getX(), y = centers.getY(), z = centers.getZ();
+        for (int i = from; i < to; ) {
+            int end = Math.min(to, ((i >>> 6) + 1) << 6);
+            long word = 0L;
+            for (int j = i; j < end; j++) {
+                float px = x[j], py = y[j], pz = z[j], r = radii[j];
+                float m = a[0] * px + b[0] * py + c[0] * pz + d[0];
+                for (int p = 1; p < PLANES; p++) {
+                    m = Math.min(m, a[p] * px + b[p] * py + c[p] * pz + d[p]);
+                }
+                word |= (m + r >= 0.0f ? 1L : 0L) << j;
+            }
+            storeBits(visible, i, end, word);
+            i = end;
+        }
+        return visible;
+    }
+
+    public long[] cullBoxes(Vector3Buffer min, Vector3Buffer max, long[] visible) {
+        return cullBoxes(min, max, visible, 0, min.size());
+    }
+
+    public long[] cullBoxes(Vector3Buffer min, Vector3Buffer max, long[] visible, int from, int to) {
+        checkBatch(min.size(), max.size(), visible, from, to);
+        float[] x0 = min.getX(), y0 = min.getY(), z0 = min.getZ();
+        float[] x1 = max.getX(), y1 = max.getY(), z1 = max.getZ();
+        for (int i = from; i < to; ) {
+            int end = Math.min(to, ((i >>> 6) + 1) << 6);
+            long word = 0L;
+            for (int j = i; j < end; j++) {
+                float cx = (x0[j] + x1[j]) * 0.5f, cy = (y0[j] + y1[j]) * 0.5f, cz = (z0[j] + z1[j]) * 0.5f;
+                float ex = (x1[j] - x0[j]) * 0.5f, ey = (y1[j] - y0[j]) * 0.5f, ez = (z1[j] - z0[j]) * 0.5f;
+                float m = Float.POSITIVE_INFINITY;
+                for (int p = 0; p < PLANES; p++) {
+                    m = Math.min(m, a[p] * cx + b[p] * cy + c[p] * cz + d[p] + absA[p] * ex + absB[p] * ey + absC[p] * ez);
+                }
+                word |= (m >= 0.0f ? 1L : 0L) << j;
+            }
+            storeBits(visible, i, end, word);
+            i = end;
+        }
+        return visible;
+    }
+
+    // Параллельный вариант: порог engine — в объектах, границы задач кратны 64, поэтому
+    // задачи не пишут в одно слово
+    public long[] cullSpheres(Vector3Buffer centers, float[] radii, long[] visible, BatchTransformEngine engine) {
+        int size = centers.size();
+        checkBatch(size, radii.length, visible, 0, size);
+        engine.run(size, Long.SIZE, (from, to) -> cullSpheres(centers, radii, visible, (int) from, (int) to));
+        return visible;
+    }
+
+    public long[] cullBoxes(Vector3Buffer min, Vector3Buffer max, long[] visible, BatchTransformEngine engine) {
+        int size = min.size();
+        checkBatch(size, max.size(), visible, 0, size);
+        engine.run(size, Long.SIZE, (from, to) -> cullBoxes(min, max, visible, (int) from, (int) to));
+        return visible;
+    }
+
+    public static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    // Маска битов [from, to) одного слова; сдвиги в Java берутся по модулю 64
+    private static void storeBits(long[] bits, int from, int to, long word) {
+        long mask = (-1L << from) & (-1L >>> -to);
+        int index = from >>> 6;
+        bits[index] = (bits[index] & ~mask) | word;
+    }
+
+    private static void checkBatch(int size, int otherSize, long[] visible, int from, int to) {
+        if (size != otherSize) {
+            throw new IllegalArgumentException("Размеры массивов должны совпадать");
+        }
+        if (visible.length < words(size)) {
+            throw new IllegalArgumentException("Битовое множество меньше числа объектов");
+        }
+        Objects.checkFromToIndex(from, to, size);
+    }
+}
@@ -0,0 +1,326 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+// LU-разложение с выбором главного элемента по столбцу: P · A = L · U, L — нижняя треугольная
+// с единицами на диагонали, U — верхняя. Обе хранятся на месте A, как в LAPACK getrf.
+// Разложение блочное (правостороннее): панель из BLOCK столбцов раскладывается обычным
+// алгоритмом, затем решается треугольная система для полосы U справа от панели, и оставшаяся
+// подматрица обновляется A22 -= L21 · U12 ядром axpy бэкенда MathUtil по блокам столбцов,
+// которые помещаются в кэш. Обновление строк подматрицы независимо и для больших n идёт
+// параллельно. Перестановка строк — обмен ссылками на строки float[][], без копирования.
+// Разложение считается один раз и затем решает систему для любого числа правых частей.
+public final class LuDecomposition {
+    // Ширина панели и блока столбцов при обновлении подматрицы
+    private static final int BLOCK = 64;
+    private static final int COLUMN_BLOCK = 512;
+    // Начиная с этого размера обновление подматрицы по умолчанию распараллеливается
+    private static final int PARALLEL_MIN_SIZE = 256;
+    private static final int ROWS_PER_TASK = 32;
+
+    private final float[][] lu;
+    // permutation[i] — номер исходной строки A, стоящей на месте i
+    private final int[] permutation;
+    private final int swaps;
+
+    private LuDecomposition(float[][] lu, int[] permutation, int swaps) {
+        this.lu = lu;
+        this.permutation = permutation;
+        this.swaps = swaps;
+    }
+
+    // Разложение копии a; сама a не меняется
+    public static LuDecomposition decompose(float[][] a) {
+        checkSquare(a);
+        float[][] copy = new float[a.length][];
+        for (int i = 0; i < a.length; i++) {
+            copy[i] = a[i].clone();
+        }
+        return decomposeInPlace(copy);
+    }
+
+    // Разложение на месте: после вызова строки a переставлены и содержат L и U
+    public static LuDecomposition decomposeInPlace(float[][] a) {
+        checkSquare(a);
+        BatchTransformEngine engine = a.length >= PARALLEL_MIN_SIZE
+                ? new BatchTransformEngine(ForkJoinPool.commonPool(), ROWS_PER_TASK)
+                : null;
+        return factor(a, engine);
+    }
+
+    // Порог engine задаётся в строках подматрицы на одну задачу
+    public static LuDecomposition decomposeInPlace(float[][] a, BatchTransformEngine engine) {
+        checkSquare(a);
+        return factor(a, engine);
+    }
+
+    private static LuDecomposition factor(float[][] a, BatchTransformEngine engine) {
+        int n = a.length;
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        int swaps = 0;
+        MathBackend backend = MathUtil.backend();
+        for (int k0 = 0; k0 < n; k0 += BLOCK) {
+            int k1 = Math.min(k0 + BLOCK, n);
+            swaps += factorPanel(a, permutation, k0, k1);
+            if (k1 == n) {
+                break;
+            }
+            // U12 = L11⁻¹ · A12: строки панели справа от неё
+            for (int j = k0; j < k1; j++) {
+                for (int i = j + 1; i < k1; i++) {
+                    backend.axpy(-a[i][j], a[j], k1, a[i], k1, n - k1);
+                }
+            }
+            // A22 -= L21 · U12
+            int panel = k0;
+            BatchTransformEngine.RangeAction update = (from, to) ->
+                    updateTrailing(backend, a, panel, k1, k1 + (int) from, k1 + (int) to);
+            if (engine == null) {
+                update.apply(0, n - k1);
+            } else {
+                engine.run(n - k1, update);
+            }
+        }
+        return new LuDecomposition(a, permutation, swaps);
+    }
+
+    // Обычное разложение столбцов [k0, k1) по всем строкам ниже k0; возвращает число перестановок
+    private static int factorPanel(float[][] a, int[] permutation, int k0, int k1) {
+        int n = a.length;
+        int swaps = 0;
+        for (int j = k0; j < k1; j++) {
+            int pivot = j;
+            float max = Math.abs(a[j][j]);
+            for (int i = j + 1; i < n; i++) {
+                float v = Math.abs(a[i][j]);
+                if (v > max) {
+                    max = v;
+                    pivot = i;
+                }
+            }
+            if (max == 0.0f || !Float.isFinite(max)) {
+                throw new IllegalArgumentException("Матрица вырождена, LU-разложение с выбором главного элемента невозможно");
+            }
+            if (pivot != j) {
+                float[] row = a[j];
+                a[j] = a[pivot];
+                a[pivot] = row;
+                int p = permutation[j];
+                permutation[j] = permutation[pivot];
+                permutation[pivot] = p;
+                swaps++;
+            }
+            float[] pivotRow = a[j];
+            float inv = 1.0f / pivotRow[j];
+            for (int i = j + 1; i < n; i++) {
+                float[] row = a[i];
+                float l = row[j] * inv;
+                row[j] = l;
+                for (int c = j + 1; c < k1; c++) {
+                    row[c] -= l * pivotRow[c];
+                }
+            }
+        }
+        return swaps;
+    }
+
+    private static void updateTrailing(MathBackend backend, float[][] a, int k0, int k1, int fromRow, int toRow) {
+        int n = a.length;
+        for (int c0 = k1; c0 < n; c0 += COLUMN_BLOCK) {
+            int width = Math.min(COLUMN_BLOCK, n - c0);
+            for (int i = fromRow; i < toRow; i++) {
+                float[] row = a[i];
+                for (int j = k0; j < k1; j++) {
+                    float l = row[j];
+                    if (l != 0.0f) {
+                        backend.axpy(-l, a[j], c0, row, c0, width);
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return lu.length;
+    }
+
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    // Живая матрица: ниже диагонали L (без единиц), на диагонали и выше U
+    public float[][] getLU() {
+        return lu;
+    }
+
+    public float determinant() {
+        float det = (swaps & 1) == 0 ? 1.0f : -1.0f;
+        for (int i = 0; i < lu.length; i++) {
+            det *= lu[i][i];
+        }
+        return det;
+    }
+
+    public float[] solve(float[] b) {
+        return solve(b, new float[lu.length]);
+    }
+
+    // dest может совпадать с b
+    public float[] solve(float[] b, float[] dest) {
+        int n = lu.length;
+        if (b.length != n || dest.length != n) {
+            throw new IllegalArgumentException("Длина правой части должна быть равна " + n);
+        }
+        float[] x = b == dest ? b.clone() : b;
+        for (int i = 0; i < n; i++) {
+            dest[i] = x[permutation[i]];
+        }
+        for (int i = 0; i < n; i++) {
+            float[] row = lu[i];
+            float sum = dest[i];
+            for (int j = 0; j < i; j++) {
+                sum -= row[j] * dest[j];
+            }
+            dest[i] = sum;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            float[] row = lu[i];
+            float sum = dest[i];
+            for (int j = i + 1; j < n; j++) {
+                sum -= row[j] * dest[j];
+            }
+            dest[i] = sum / row[i];
+        }
+        return dest;
+    }
+
+    // Несколько правых частей сразу: столбцы b (n x m); строки результата обновляются через axpy
+    public float[][] solve(float[][] b) {
+        int n = lu.length;
+        if (b == null || b.length != n) {
+            throw new IllegalArgumentException("Число строк правой части должно быть равно " + n);
+        }
+        int m = n == 0 ? 0 : b[0].length;
+        float[][] x = new float[n][];
+        for (int i = 0; i < n; i++) {
+            if (b[permutation[i]].length != m) {
+                throw new IllegalArgumentException("Матрица должна быть прямоугольной");
+            }
+            x[i] = b[permutation[i]].clone();
+        }
+        MathBackend backend = MathUtil.backend();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                backend.axpy(-lu[i][j], x[j], 0, x[i], 0, m);
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i + 1; j < n; j++) {
+                backend.axpy(-lu[i][j], x[j], 0, x[i], 0, m);
+            }
+            float inv = 1.0f / lu[i][i];
+            for (int c = 0; c < m; c++) {
+                x[i][c] *= inv;
+            }
+        }
+        return x;
+    }
+
+    // Однократное решение A · x = b; для 3x3 и 4x4 — развёрнутые формулы без разложения
+    public static float[] solve(float[][] a, float[] b) {
+        checkSquare(a);
+        if (b.length != a.length) {
+            throw new IllegalArgumentException("Длина правой части должна быть равна " + a.length);
+        }
+        if (a.length == 3) {
+            Vector3 x = solve(new Matrix3(a), new Vector3(new float[][]{{b[0]}, {b[1]}, {b[2]}}), new Vector3());
+            return new float[]{x.getVector()[0][0], x.getVector()[1][0], x.getVector()[2][0]};
+        }
+        if (a.length == 4) {
+            Vector4 x = solve(new Matrix4(a), new Vector4(new float[][]{{b[0]}, {b[1]}, {b[2]}, {b[3]}}), new Vector4());
+            float[][] v = x.getVector();
+            return new float[]{v[0][0], v[1][0], v[2][0], v[3][0]};
+        }
+        return decompose(a).solve(b);
+    }
+
+    // 3x3 по правилу Крамера через алгебраические дополнения, как в Matrix3.inverse
+    public static Vector3 solve(Matrix3 a, Vector3 b, Vector3 dest) {
+        float a00 = a.get(0, 0), a01 = a.get(0, 1), a02 = a.get(0, 2);
+        float a10 = a.get(1, 0), a11 = a.get(1, 1), a12 = a.get(1, 2);
+        float a20 = a.get(2, 0), a21 = a.get(2, 1), a22 = a.get(2, 2);
+        float[][] v = b.getVector();
+        float b0 = v[0][0], b1 = v[1][0], b2 = v[2][0];
+
+        float c00 = a11 * a22 - a12 * a21;
+        float c01 = a12 * a20 - a10 * a22;
+        float c02 = a10 * a21 - a11 * a20;
+        float det = a00 * c00 + a01 * c01 + a02 * c02;
+        Matrix4.checkDeterminant(det);
+        float inv = 1.0f / det;
+        float c10 = a02 * a21 - a01 * a22;
+        float c11 = a00 * a22 - a02 * a20;
+        float c12 = a01 * a20 - a00 * a21;
+        float c20 = a01 * a12 - a02 * a11;
+        float c21 = a02 * a10 - a00 * a12;
+        float c22 = a00 * a11 - a01 * a10;
+
+        float[][] d = dest.getVector();
+        d[0][0] = (c00 * b0 + c10 * b1 + c20 * b2) * inv;
+        d[1][0] = (c01 * b0 + c11 * b1 + c21 * b2) * inv;
+        d[2][0] = (c02 * b0 + c12 * b1 + c22 * b2) * inv;
+        return dest;
+    }
+
+    // 4x4 через те же миноры 2x2, что и Matrix4.inverse, но без записи обратной матрицы
+    public static Vector4 solve(Matrix4 a, Vector4 b, Vector4 dest) {
+        float a00 = a.get(0, 0), a01 = a.get(0, 1), a02 = a.get(0, 2), a03 = a.get(0, 3);
+        float a10 = a.get(1, 0), a11 = a.get(1, 1), a12 = a.get(1, 2), a13 = a.get(1, 3);
+        float a20 = a.get(2, 0), a21 = a.get(2, 1), a22 = a.get(2, 2), a23 = a.get(2, 3);
+        float a30 = a.get(3, 0), a31 = a.get(3, 1), a32 = a.get(3, 2), a33 = a.get(3, 3);
+        float[][] v = b.getVector();
+        float x0 = v[0][0], x1 = v[1][0], x2 = v[2][0], x3 = v[3][0];
+
+        float b00 = a00 * a11 - a01 * a10;
+        float b01 = a00 * a12 - a02 * a10;
+        float b02 = a00 * a13 - a03 * a10;
+        float b03 = a01 * a12 - a02 * a11;
+        float b04 = a01 * a13 - a03 * a11;
+        float b05 = a02 * a13 - a03 * a12;
+        float b06 = a20 * a31 - a21 * a30;
+        float b07 = a20 * a32 - a22 * a30;
+        float b08 = a20 * a33 - a23 * a30;
+        float b09 = a21 * a32 - a22 * a31;
+        float b10 = a21 * a33 - a23 * a31;
+        float b11 = a22 * a33 - a23 * a32;
+
+        float det = b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+        Matrix4.checkDeterminant(det);
+        float inv = 1.0f / det;
+
+        float[][] d = dest.getVector();
+        d[0][0] = ((a11 * b11 - a12 * b10 + a13 * b09) * x0 + (a02 * b10 - a01 * b11 - a03 * b09) * x1
+                + (a31 * b05 - a32 * b04 + a33 * b03) * x2 + (a22 * b04 - a21 * b05 - a23 * b03) * x3) * inv;
+        d[1][0] = ((a12 * b08 - a10 * b11 - a13 * b07) * x0 + (a00 * b11 - a02 * b08 + a03 * b07) * x1
+                + (a32 * b02 - a30 * b05 - a33 * b01) * x2 + (a20 * b05 - a22 * b02 + a23 * b01) * x3) * inv;
+        d[2][0] = ((a10 * b10 - a11 * b08 + a13 * b06) * x0 + (a01 * b08 - a00 * b10 - a03 * b06) * x1
+                + (a30 * b04 - a31 * b02 + a33 * b00) * x2 + (a21 * b02 - a20 * b04 - a23 * b00) * x3) * inv;
+        d[3][0] = ((a11 * b07 - a10 * b09 - a12 * b06) * x0 + (a00 * b09 - a01 * b07 + a02 * b06) * x1
+                + (a31 * b01 - a30 * b03 - a32 * b00) * x2 + (a20 * b03 - a21 * b01 + a22 * b00) * x3) * inv;
+        return dest;
+    }
+
+    private static void checkSquare(float[][] a) {
+        if (a == null) {
+            throw new IllegalArgumentException("Матрица не может быть null");
+        }
+        for (float[] row : a) {
+            if (row.length != a.length) {
+                throw new IllegalArgumentException("Матрица должна быть квадратной");
+            }
+        }
+    }
+}
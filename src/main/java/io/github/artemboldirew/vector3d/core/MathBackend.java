@@ -0,0 +1,40 @@
+package io.github.artemboldirew.vector3d.core;
+
+// Реализация внутренних циклов MathUtil. Проверка аргументов остаётся в MathUtil,
+// сюда попадают уже согласованные по размерам прямоугольные массивы.
+interface MathBackend {
+    String SIMD_PROPERTY = "vector3d.simd";
+
+    void multiply(float[][] a, float[][] b, float[][] result);
+
+    void add(float[][] arr1, float[][] arr2);
+
+    void subtract(float[][] arr1, float[][] arr2);
+
+    void multiplyByNum(float[][] arr, float num);
+
+    void divideByNum(float[][] arr, float num);
+
+    float scalarProduct(float[][] arr1, float[][] arr2);
+
+    // y[yOff + j] += alpha * x[xOff + j] для j из [0, len): внутреннее ядро блочного умножения
+    void axpy(float alpha, float[] x, int xOff, float[] y, int yOff, int len);
+
+    String name();
+
+    // Векторный бэкенд выбирается, только если модуль jdk.incubator.vector подключён
+    // (--add-modules jdk.incubator.vector) и не отключён свойством -Dvector3d.simd=false
+    static MathBackend select() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))) {
+            return new ScalarMathBackend();
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarMathBackend();
+        }
+        try {
+            return new VectorApiMathBackend();
+        } catch (LinkageError e) {
+            return new ScalarMathBackend();
+        }
+    }
+}
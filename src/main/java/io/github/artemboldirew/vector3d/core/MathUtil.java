@@ -1,6 +1,12 @@
 package io.github.artemboldirew.vector3d.core;
 
+import io.github.artemboldirew.vector3d.metrics.BatchOperationEvent;
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
 public class MathUtil {
+    private static final MathBackend BACKEND = MathBackend.select();
+
     public static float[][] multiplyMatrices(float[][] a, float[][] b) {
         if (a == null || b == null) {
             throw new IllegalArgumentException("Матрицы не могут быть null");
@@ -35,18 +41,17 @@ public class MathUtil {
             }
         }
 
+        BatchOperationEvent event = Metrics.ENABLED ? Metrics.begin() : null;
         float[][] result = new float[aRows][bCols];
-
-        for (int i = 0; i < aRows; i++) {
-            for (int j = 0; j < bCols; j++) {
-                float sum = 0.0f;
-                for (int k = 0; k < aCols; k++) {
-                    sum += a[i][k] * b[k][j];
-                }
-                result[i][j] = sum;
-            }
+        if (bCols >= BlockedMatrixMultiply.MIN_COLUMNS && (long) aRows * aCols * bCols >= BlockedMatrixMultiply.THRESHOLD) {
+            BlockedMatrixMultiply.multiply(BACKEND, a, b, result);
+        } else {
+            BACKEND.multiply(a, b, result);
+        }
+        if (event != null) {
+            Metrics.count(Operation.ALLOCATION, (long) aRows * bCols);
+            Metrics.end(event, Operation.MATRIX_MULTIPLY, (long) aRows * bCols);
         }
-
         return result;
     }
 
@@ -73,6 +78,10 @@ public class MathUtil {
 
         // Создание транспонированной матрицы
         float[][] transposed = new float[cols][rows];
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.ALLOCATION, (long) rows * cols);
+            Metrics.count(Operation.MATRIX_TRANSPOSE, (long) rows * cols);
+        }
 
         // Транспонирование
         for (int i = 0; i < rows; i++) {
@@ -85,47 +94,56 @@ public class MathUtil {
     }
 
     public static float[][] addArrays(float[][] arr1, float[][] arr2) {
-        for (int i = 0; i < arr1.length; i++) {
-            for (int j = 0; j < arr1[0].length; j++) {
-                arr1[i][j] = arr1[i][j] + arr2[i][j];
-            }
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.ARRAY_ARITHMETIC, cells(arr1));
         }
+        BACKEND.add(arr1, arr2);
         return arr1;
     }
 
     public static float[][] substractArrays(float[][] arr1, float[][] arr2) {
-        for (int i = 0; i < arr1.length; i++) {
-            for (int j = 0; j < arr1[0].length; j++) {
-                arr1[i][j] = arr1[i][j] - arr2[i][j];
-            }
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.ARRAY_ARITHMETIC, cells(arr1));
         }
+        BACKEND.subtract(arr1, arr2);
         return arr1;
     }
 
     public static float[][] multiplyByNum(float[][] arr, float num) {
-        for (int i = 0; i < arr.length; i++) {
-            for (int j = 0; j < arr[0].length; j++) {
-                arr[i][j] = arr[i][j] * num;
-            }
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.ARRAY_ARITHMETIC, cells(arr));
         }
+        BACKEND.multiplyByNum(arr, num);
         return arr;
     }
 
     public static float[][] divideByNum(float[][] arr, float num) {
-        for (int i = 0; i < arr.length; i++) {
-            for (int j = 0; j < arr[0].length; j++) {
-                arr[i][j] = arr[i][j] / num;
-            }
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.ARRAY_ARITHMETIC, cells(arr));
         }
+        BACKEND.divideByNum(arr, num);
         return arr;
     }
 
     public static float scalarArrayProduct(float[][] arr1, float[][] arr2) {
-        float res = 0;
-        for (int i = 0; i < arr1.length; i++) {
-            res += (arr1[i][0] * arr2[i][0]);
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.SCALAR_PRODUCT, cells(arr1));
         }
-        return res;
+        return BACKEND.scalarProduct(arr1, arr2);
+    }
+
+    // Для других классов пакета, которым нужны ядра бэкенда (например, axpy в SparseMatrix)
+    static MathBackend backend() {
+        return BACKEND;
+    }
+
+    // Имя активного бэкенда: "scalar" или "vector-api/<ширина в битах>"
+    public static String backendName() {
+        return BACKEND.name();
+    }
+
+    private static long cells(float[][] arr) {
+        return arr.length == 0 ? 0 : (long) arr.length * arr[0].length;
     }
 
     public static void checkArray(float[][] matrix, int rows, int cols) {
@@ -1,42 +1,215 @@
 package io.github.artemboldirew.vector3d.core;
 
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
 public class Matrix3 {
     private static final int n = 3;
     private static final int m = 3;
-    private float[][] matrix;
+    // Элементы хранятся построчно в плоском массиве: elements[row * 3 + col]
+    private final float[] elements = new float[n * m];
 
+    public Matrix3() {
+    }
+
+    // Элементы initialMatrix копируются: последующие изменения массива на матрицу не влияют
     public Matrix3(float[][] initialMatrix) {
         MathUtil.checkArray(initialMatrix, n, m);
-        this.matrix = initialMatrix;
+        for (int i = 0; i < n; i++) {
+            if (initialMatrix[i].length != m) {
+                throw new IllegalArgumentException("Incorrect matrix");
+            }
+            System.arraycopy(initialMatrix[i], 0, elements, i * m, m);
+        }
+    }
+
+    public Matrix3(Matrix3 mat) {
+        System.arraycopy(mat.elements, 0, elements, 0, n * m);
     }
 
     public Matrix3 multiply(Matrix3 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        this.matrix = MathUtil.multiplyMatrices(this.matrix, mat.matrix);
-        return this;
+        return multiply(this, mat, this);
+    }
+
+    public static Matrix3 multiply(Matrix3 left, Matrix3 right, Matrix3 dest) {
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.MATRIX_MULTIPLY, 9);
+        }
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+
+        float a00 = a[0], a01 = a[1], a02 = a[2];
+        float a10 = a[3], a11 = a[4], a12 = a[5];
+        float a20 = a[6], a21 = a[7], a22 = a[8];
+
+        float b00 = b[0], b01 = b[1], b02 = b[2];
+        float b10 = b[3], b11 = b[4], b12 = b[5];
+        float b20 = b[6], b21 = b[7], b22 = b[8];
+
+        d[0] = a00 * b00 + a01 * b10 + a02 * b20;
+        d[1] = a00 * b01 + a01 * b11 + a02 * b21;
+        d[2] = a00 * b02 + a01 * b12 + a02 * b22;
+
+        d[3] = a10 * b00 + a11 * b10 + a12 * b20;
+        d[4] = a10 * b01 + a11 * b11 + a12 * b21;
+        d[5] = a10 * b02 + a11 * b12 + a12 * b22;
+
+        d[6] = a20 * b00 + a21 * b10 + a22 * b20;
+        d[7] = a20 * b01 + a21 * b11 + a22 * b21;
+        d[8] = a20 * b02 + a21 * b12 + a22 * b22;
+        return dest;
     }
 
     public Matrix3 transpose() {
-        this.matrix = MathUtil.transposeMatrix(this.matrix);
-        return this;
+        return transpose(this, this);
     }
 
-    public Matrix3 multiply(Vector3 vec) {
+    public static Matrix3 transpose(Matrix3 src, Matrix3 dest) {
+        float[] a = src.elements;
+        float[] d = dest.elements;
+        float t;
+        d[0] = a[0]; d[4] = a[4]; d[8] = a[8];
+        t = a[1]; d[1] = a[3]; d[3] = t;
+        t = a[2]; d[2] = a[6]; d[6] = t;
+        t = a[5]; d[5] = a[7]; d[7] = t;
+        return dest;
+    }
+
+    public Vector3 multiply(Vector3 vec) {
         MathUtil.checkArray(vec.getVector(), 3, 1);
-        this.matrix = MathUtil.multiplyMatrices(this.matrix, vec.getVector());
-        return this;
+        return multiply(vec, new Vector3());
+    }
+
+    public Vector3 multiply(Vector3 src, Vector3 dest) {
+        float[][] v = src.getVector();
+        float x = v[0][0], y = v[1][0], z = v[2][0];
+        float[] a = this.elements;
+        float[][] d = dest.getVector();
+        d[0][0] = a[0] * x + a[1] * y + a[2] * z;
+        d[1][0] = a[3] * x + a[4] * y + a[5] * z;
+        d[2][0] = a[6] * x + a[7] * y + a[8] * z;
+        return dest;
     }
 
     public Matrix3 add(Matrix3 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        MathUtil.addArrays(this.matrix, mat.getMatrix());
-        return this;
+        return add(this, mat, this);
+    }
+
+    public static Matrix3 add(Matrix3 left, Matrix3 right, Matrix3 dest) {
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+        d[0] = a[0] + b[0]; d[1] = a[1] + b[1]; d[2] = a[2] + b[2];
+        d[3] = a[3] + b[3]; d[4] = a[4] + b[4]; d[5] = a[5] + b[5];
+        d[6] = a[6] + b[6]; d[7] = a[7] + b[7]; d[8] = a[8] + b[8];
+        return dest;
     }
 
     public Matrix3 subtract(Matrix3 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        MathUtil.substractArrays(this.matrix, mat.getMatrix());
-        return this;
+        return subtract(this, mat, this);
+    }
+
+    public static Matrix3 subtract(Matrix3 left, Matrix3 right, Matrix3 dest) {
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+        d[0] = a[0] - b[0]; d[1] = a[1] - b[1]; d[2] = a[2] - b[2];
+        d[3] = a[3] - b[3]; d[4] = a[4] - b[4]; d[5] = a[5] - b[5];
+        d[6] = a[6] - b[6]; d[7] = a[7] - b[7]; d[8] = a[8] - b[8];
+        return dest;
+    }
+
+    public float determinant() {
+        float[] a = this.elements;
+        return a[0] * (a[4] * a[8] - a[5] * a[7])
+                + a[1] * (a[5] * a[6] - a[3] * a[8])
+                + a[2] * (a[3] * a[7] - a[4] * a[6]);
+    }
+
+    public Matrix3 inverse() {
+        return inverse(this, this);
+    }
+
+    // Обратная матрица через алгебраические дополнения: A⁻¹ = adj(A) / det(A)
+    public static Matrix3 inverse(Matrix3 src, Matrix3 dest) {
+        float[] a = src.elements;
+        float a00 = a[0], a01 = a[1], a02 = a[2];
+        float a10 = a[3], a11 = a[4], a12 = a[5];
+        float a20 = a[6], a21 = a[7], a22 = a[8];
+
+        float c00 = a11 * a22 - a12 * a21;
+        float c01 = a12 * a20 - a10 * a22;
+        float c02 = a10 * a21 - a11 * a20;
+        float det = a00 * c00 + a01 * c01 + a02 * c02;
+        Matrix4.checkDeterminant(det);
+        float inv = 1.0f / det;
+
+        float[] d = dest.elements;
+        d[0] = c00 * inv;
+        d[1] = (a02 * a21 - a01 * a22) * inv;
+        d[2] = (a01 * a12 - a02 * a11) * inv;
+        d[3] = c01 * inv;
+        d[4] = (a00 * a22 - a02 * a20) * inv;
+        d[5] = (a02 * a10 - a00 * a12) * inv;
+        d[6] = c02 * inv;
+        d[7] = (a01 * a20 - a00 * a21) * inv;
+        d[8] = (a00 * a11 - a01 * a10) * inv;
+        return dest;
+    }
+
+    // Матрица нормалей для модели model: (M⁻¹)ᵀ верхнего блока 3x3. Транспонированная обратная
+    // равна матрице алгебраических дополнений, делённой на определитель, поэтому ни обратная,
+    // ни транспонирование отдельно не считаются
+    public Matrix3 normalMatrix(Matrix4 model) {
+        return normalMatrix(model, this);
+    }
+
+    public static Matrix3 normalMatrix(Matrix4 model, Matrix3 dest) {
+        float a00 = model.get(0, 0), a01 = model.get(0, 1), a02 = model.get(0, 2);
+        float a10 = model.get(1, 0), a11 = model.get(1, 1), a12 = model.get(1, 2);
+        float a20 = model.get(2, 0), a21 = model.get(2, 1), a22 = model.get(2, 2);
+
+        float c00 = a11 * a22 - a12 * a21;
+        float c01 = a12 * a20 - a10 * a22;
+        float c02 = a10 * a21 - a11 * a20;
+        float det = a00 * c00 + a01 * c01 + a02 * c02;
+        Matrix4.checkDeterminant(det);
+        float inv = 1.0f / det;
+
+        float[] d = dest.elements;
+        d[0] = c00 * inv;
+        d[1] = c01 * inv;
+        d[2] = c02 * inv;
+        d[3] = (a02 * a21 - a01 * a22) * inv;
+        d[4] = (a00 * a22 - a02 * a20) * inv;
+        d[5] = (a01 * a20 - a00 * a21) * inv;
+        d[6] = (a01 * a12 - a02 * a11) * inv;
+        d[7] = (a02 * a10 - a00 * a12) * inv;
+        d[8] = (a00 * a11 - a01 * a10) * inv;
+        return dest;
+    }
+
+    // Пакетный вариант: dest[i] = матрица нормалей models[i], один проход без выделения памяти
+    public static Matrix3[] normalMatrices(Matrix4[] models, Matrix3[] dest) {
+        return normalMatrices(models, dest, 0, models.length);
+    }
+
+    public static Matrix3[] normalMatrices(Matrix4[] models, Matrix3[] dest, int from, int to) {
+        if (models.length != dest.length) {
+            throw new IllegalArgumentException("Размеры массивов должны совпадать");
+        }
+        Objects.checkFromToIndex(from, to, models.length);
+        for (int i = from; i < to; i++) {
+            normalMatrix(models[i], dest[i]);
+        }
+        return dest;
     }
 
     public static Matrix3 getE() {
@@ -51,7 +224,145 @@ public class Matrix3 {
         });
     }
 
+    public Matrix3 set(Matrix3 mat) {
+        System.arraycopy(mat.elements, 0, elements, 0, n * m);
+        return this;
+    }
+
+    public float get(int row, int col) {
+        return elements[row * m + col];
+    }
+
+    public Matrix3 set(int row, int col, float value) {
+        elements[row * m + col] = value;
+        return this;
+    }
+
+    // Запись в буфер по абсолютному индексу index; позиция буфера не меняется
+    public FloatBuffer get(FloatBuffer dest, int index, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            return dest.put(index, elements);
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.put(index + order.index(row, col, n), elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix3 set(FloatBuffer src, int index, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            src.get(index, elements);
+            return this;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.get(index + order.index(row, col, n));
+            }
+        }
+        return this;
+    }
+
+    // byteOffset в байтах; используется порядок байтов самого буфера
+    public ByteBuffer get(ByteBuffer dest, int byteOffset, MatrixOrder order) {
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.putFloat(byteOffset + order.index(row, col, n) * Float.BYTES, elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix3 set(ByteBuffer src, int byteOffset, MatrixOrder order) {
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.getFloat(byteOffset + order.index(row, col, n) * Float.BYTES);
+            }
+        }
+        return this;
+    }
+
+    // Порядок байтов платформы, как в Vector4SegmentArray и Matrix4SegmentArray
+    public MemorySegment get(MemorySegment dest, long byteOffset, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            MemorySegment.copy(elements, 0, dest, ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset, n * m);
+            return dest;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + (long) order.index(row, col, n) * Float.BYTES,
+                        elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix3 set(MemorySegment src, long byteOffset, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            MemorySegment.copy(src, ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset, elements, 0, n * m);
+            return this;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED,
+                        byteOffset + (long) order.index(row, col, n) * Float.BYTES);
+            }
+        }
+        return this;
+    }
+
+    // Пакетная запись: матрица i занимает 9 float начиная с index + 9 * i
+    public static FloatBuffer get(Matrix3[] mats, FloatBuffer dest, int index, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, index + i * n * m, order);
+        }
+        return dest;
+    }
+
+    public static Matrix3[] set(Matrix3[] mats, FloatBuffer src, int index, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, index + i * n * m, order);
+        }
+        return mats;
+    }
+
+    public static ByteBuffer get(Matrix3[] mats, ByteBuffer dest, int byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, byteOffset + i * n * m * Float.BYTES, order);
+        }
+        return dest;
+    }
+
+    public static Matrix3[] set(Matrix3[] mats, ByteBuffer src, int byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, byteOffset + i * n * m * Float.BYTES, order);
+        }
+        return mats;
+    }
+
+    public static MemorySegment get(Matrix3[] mats, MemorySegment dest, long byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, byteOffset + (long) i * n * m * Float.BYTES, order);
+        }
+        return dest;
+    }
+
+    public static Matrix3[] set(Matrix3[] mats, MemorySegment src, long byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, byteOffset + (long) i * n * m * Float.BYTES, order);
+        }
+        return mats;
+    }
+
+    // Совместимое представление: каждый вызов возвращает новую копию в виде float[3][3].
+    // Запись в полученный массив матрицу не меняет — для изменения элементов есть set(row, col, value)
     public float[][] getMatrix() {
-        return matrix;
+        float[] a = this.elements;
+        return new float[][]{
+                {a[0], a[1], a[2]},
+                {a[3], a[4], a[5]},
+                {a[6], a[7], a[8]}
+        };
     }
 }
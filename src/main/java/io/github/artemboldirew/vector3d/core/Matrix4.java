@@ -1,41 +1,257 @@
 package io.github.artemboldirew.vector3d.core;
 
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 public class Matrix4 {
     private static final int n = 4;
     private static final int m = 4;
-    private float[][] matrix;
+    // Элементы хранятся построчно в плоском массиве: elements[row * 4 + col]
+    private final float[] elements = new float[n * m];
 
+    public Matrix4() {
+    }
+
+    // Элементы initialMatrix копируются: последующие изменения массива на матрицу не влияют
     public Matrix4(float[][] initialMatrix) {
         MathUtil.checkArray(initialMatrix, n, m);
-        this.matrix = initialMatrix;
+        for (int i = 0; i < n; i++) {
+            if (initialMatrix[i].length != m) {
+                throw new IllegalArgumentException("Incorrect matrix");
+            }
+            System.arraycopy(initialMatrix[i], 0, elements, i * m, m);
+        }
+    }
+
+    public Matrix4(Matrix4 mat) {
+        System.arraycopy(mat.elements, 0, elements, 0, n * m);
     }
 
     public Matrix4 multiply(Matrix4 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        this.matrix = MathUtil.multiplyMatrices(this.matrix, mat.matrix);
-        return this;
+        return multiply(this, mat, this);
+    }
+
+    public static Matrix4 multiply(Matrix4 left, Matrix4 right, Matrix4 dest) {
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.MATRIX_MULTIPLY, 16);
+        }
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+
+        float a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        float a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        float a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        float a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+
+        float b00 = b[0], b01 = b[1], b02 = b[2], b03 = b[3];
+        float b10 = b[4], b11 = b[5], b12 = b[6], b13 = b[7];
+        float b20 = b[8], b21 = b[9], b22 = b[10], b23 = b[11];
+        float b30 = b[12], b31 = b[13], b32 = b[14], b33 = b[15];
+
+        d[0] = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+        d[1] = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+        d[2] = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+        d[3] = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+
+        d[4] = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+        d[5] = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+        d[6] = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+        d[7] = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+
+        d[8] = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+        d[9] = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+        d[10] = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+        d[11] = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+
+        d[12] = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+        d[13] = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+        d[14] = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+        d[15] = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
+        return dest;
     }
 
     public Matrix4 transpose() {
-        this.matrix = MathUtil.transposeMatrix(this.matrix);
-        return this;
+        return transpose(this, this);
+    }
+
+    public static Matrix4 transpose(Matrix4 src, Matrix4 dest) {
+        float[] a = src.elements;
+        float[] d = dest.elements;
+        float t;
+        d[0] = a[0]; d[5] = a[5]; d[10] = a[10]; d[15] = a[15];
+        t = a[1]; d[1] = a[4]; d[4] = t;
+        t = a[2]; d[2] = a[8]; d[8] = t;
+        t = a[3]; d[3] = a[12]; d[12] = t;
+        t = a[6]; d[6] = a[9]; d[9] = t;
+        t = a[7]; d[7] = a[13]; d[13] = t;
+        t = a[11]; d[11] = a[14]; d[14] = t;
+        return dest;
     }
 
     public Vector4 multiply(Vector4 m) {
         MathUtil.checkArray(m.getVector(), 4, 1);
-        return new Vector4(MathUtil.multiplyMatrices(this.matrix, m.getVector()));
+        return multiply(m, new Vector4());
+    }
+
+    public Vector4 multiply(Vector4 src, Vector4 dest) {
+        float[][] v = src.getVector();
+        float x = v[0][0], y = v[1][0], z = v[2][0], w = v[3][0];
+        float[] a = this.elements;
+        float[][] d = dest.getVector();
+        d[0][0] = a[0] * x + a[1] * y + a[2] * z + a[3] * w;
+        d[1][0] = a[4] * x + a[5] * y + a[6] * z + a[7] * w;
+        d[2][0] = a[8] * x + a[9] * y + a[10] * z + a[11] * w;
+        d[3][0] = a[12] * x + a[13] * y + a[14] * z + a[15] * w;
+        return dest;
     }
 
     public Matrix4 add(Matrix4 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        MathUtil.addArrays(this.matrix, mat.getMatrix());
-        return this;
+        return add(this, mat, this);
+    }
+
+    public static Matrix4 add(Matrix4 left, Matrix4 right, Matrix4 dest) {
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+        d[0] = a[0] + b[0]; d[1] = a[1] + b[1]; d[2] = a[2] + b[2]; d[3] = a[3] + b[3];
+        d[4] = a[4] + b[4]; d[5] = a[5] + b[5]; d[6] = a[6] + b[6]; d[7] = a[7] + b[7];
+        d[8] = a[8] + b[8]; d[9] = a[9] + b[9]; d[10] = a[10] + b[10]; d[11] = a[11] + b[11];
+        d[12] = a[12] + b[12]; d[13] = a[13] + b[13]; d[14] = a[14] + b[14]; d[15] = a[15] + b[15];
+        return dest;
     }
 
     public Matrix4 subtract(Matrix4 mat) {
-        MathUtil.checkArray(mat.getMatrix(), n, m);
-        MathUtil.substractArrays(this.matrix, mat.getMatrix());
-        return this;
+        return subtract(this, mat, this);
+    }
+
+    public static Matrix4 subtract(Matrix4 left, Matrix4 right, Matrix4 dest) {
+        float[] a = left.elements;
+        float[] b = right.elements;
+        float[] d = dest.elements;
+        d[0] = a[0] - b[0]; d[1] = a[1] - b[1]; d[2] = a[2] - b[2]; d[3] = a[3] - b[3];
+        d[4] = a[4] - b[4]; d[5] = a[5] - b[5]; d[6] = a[6] - b[6]; d[7] = a[7] - b[7];
+        d[8] = a[8] - b[8]; d[9] = a[9] - b[9]; d[10] = a[10] - b[10]; d[11] = a[11] - b[11];
+        d[12] = a[12] - b[12]; d[13] = a[13] - b[13]; d[14] = a[14] - b[14]; d[15] = a[15] - b[15];
+        return dest;
+    }
+
+    public float determinant() {
+        float[] a = this.elements;
+        float a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        float a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        float a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        float a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+        float b00 = a00 * a11 - a01 * a10;
+        float b01 = a00 * a12 - a02 * a10;
+        float b02 = a00 * a13 - a03 * a10;
+        float b03 = a01 * a12 - a02 * a11;
+        float b04 = a01 * a13 - a03 * a11;
+        float b05 = a02 * a13 - a03 * a12;
+        float b06 = a20 * a31 - a21 * a30;
+        float b07 = a20 * a32 - a22 * a30;
+        float b08 = a20 * a33 - a23 * a30;
+        float b09 = a21 * a32 - a22 * a31;
+        float b10 = a21 * a33 - a23 * a31;
+        float b11 = a22 * a33 - a23 * a32;
+        return b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+    }
+
+    public Matrix4 inverse() {
+        return inverse(this, this);
+    }
+
+    // Обратная матрица через алгебраические дополнения (миноры 2x2 двух верхних и двух нижних строк)
+    public static Matrix4 inverse(Matrix4 src, Matrix4 dest) {
+        float[] a = src.elements;
+        float a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        float a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        float a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        float a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+
+        float b00 = a00 * a11 - a01 * a10;
+        float b01 = a00 * a12 - a02 * a10;
+        float b02 = a00 * a13 - a03 * a10;
+        float b03 = a01 * a12 - a02 * a11;
+        float b04 = a01 * a13 - a03 * a11;
+        float b05 = a02 * a13 - a03 * a12;
+        float b06 = a20 * a31 - a21 * a30;
+        float b07 = a20 * a32 - a22 * a30;
+        float b08 = a20 * a33 - a23 * a30;
+        float b09 = a21 * a32 - a22 * a31;
+        float b10 = a21 * a33 - a23 * a31;
+        float b11 = a22 * a33 - a23 * a32;
+
+        float det = b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06;
+        checkDeterminant(det);
+        float inv = 1.0f / det;
+
+        float[] d = dest.elements;
+        d[0] = (a11 * b11 - a12 * b10 + a13 * b09) * inv;
+        d[1] = (a02 * b10 - a01 * b11 - a03 * b09) * inv;
+        d[2] = (a31 * b05 - a32 * b04 + a33 * b03) * inv;
+        d[3] = (a22 * b04 - a21 * b05 - a23 * b03) * inv;
+        d[4] = (a12 * b08 - a10 * b11 - a13 * b07) * inv;
+        d[5] = (a00 * b11 - a02 * b08 + a03 * b07) * inv;
+        d[6] = (a32 * b02 - a30 * b05 - a33 * b01) * inv;
+        d[7] = (a20 * b05 - a22 * b02 + a23 * b01) * inv;
+        d[8] = (a10 * b10 - a11 * b08 + a13 * b06) * inv;
+        d[9] = (a01 * b08 - a00 * b10 - a03 * b06) * inv;
+        d[10] = (a30 * b04 - a31 * b02 + a33 * b00) * inv;
+        d[11] = (a21 * b02 - a20 * b04 - a23 * b00) * inv;
+        d[12] = (a11 * b07 - a10 * b09 - a12 * b06) * inv;
+        d[13] = (a00 * b09 - a01 * b07 + a02 * b06) * inv;
+        d[14] = (a31 * b01 - a30 * b03 - a32 * b00) * inv;
+        d[15] = (a20 * b03 - a21 * b01 + a22 * b00) * inv;
+        return dest;
+    }
+
+    public Matrix4 affineInverse() {
+        return affineInverse(this, this);
+    }
+
+    // Для аффинных матриц с последней строкой [0, 0, 0, 1]: обращается только верхний блок 3x3,
+    // перенос получается как -R⁻¹·t. Последняя строка исходной матрицы не читается.
+    public static Matrix4 affineInverse(Matrix4 src, Matrix4 dest) {
+        float[] a = src.elements;
+        float r00 = a[0], r01 = a[1], r02 = a[2], tx = a[3];
+        float r10 = a[4], r11 = a[5], r12 = a[6], ty = a[7];
+        float r20 = a[8], r21 = a[9], r22 = a[10], tz = a[11];
+
+        float c00 = r11 * r22 - r12 * r21;
+        float c01 = r12 * r20 - r10 * r22;
+        float c02 = r10 * r21 - r11 * r20;
+        float det = r00 * c00 + r01 * c01 + r02 * c02;
+        checkDeterminant(det);
+        float inv = 1.0f / det;
+
+        float i00 = c00 * inv;
+        float i01 = (r02 * r21 - r01 * r22) * inv;
+        float i02 = (r01 * r12 - r02 * r11) * inv;
+        float i10 = c01 * inv;
+        float i11 = (r00 * r22 - r02 * r20) * inv;
+        float i12 = (r02 * r10 - r00 * r12) * inv;
+        float i20 = c02 * inv;
+        float i21 = (r01 * r20 - r00 * r21) * inv;
+        float i22 = (r00 * r11 - r01 * r10) * inv;
+
+        float[] d = dest.elements;
+        d[0] = i00; d[1] = i01; d[2] = i02; d[3] = -(i00 * tx + i01 * ty + i02 * tz);
+        d[4] = i10; d[5] = i11; d[6] = i12; d[7] = -(i10 * tx + i11 * ty + i12 * tz);
+        d[8] = i20; d[9] = i21; d[10] = i22; d[11] = -(i20 * tx + i21 * ty + i22 * tz);
+        d[12] = 0.0f; d[13] = 0.0f; d[14] = 0.0f; d[15] = 1.0f;
+        return dest;
+    }
+
+    static void checkDeterminant(float det) {
+        if (det == 0.0f || !Float.isFinite(det)) {
+            throw new IllegalArgumentException("Матрица вырождена, обратной матрицы не существует");
+        }
     }
 
     public static Matrix4 getE() {
@@ -51,7 +267,146 @@ public class Matrix4 {
         });
     }
 
+    public Matrix4 set(Matrix4 mat) {
+        System.arraycopy(mat.elements, 0, elements, 0, n * m);
+        return this;
+    }
+
+    public float get(int row, int col) {
+        return elements[row * m + col];
+    }
+
+    public Matrix4 set(int row, int col, float value) {
+        elements[row * m + col] = value;
+        return this;
+    }
+
+    // Запись в буфер по абсолютному индексу index; позиция буфера не меняется
+    public FloatBuffer get(FloatBuffer dest, int index, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            return dest.put(index, elements);
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.put(index + order.index(row, col, n), elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix4 set(FloatBuffer src, int index, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            src.get(index, elements);
+            return this;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.get(index + order.index(row, col, n));
+            }
+        }
+        return this;
+    }
+
+    // byteOffset в байтах; используется порядок байтов самого буфера
+    public ByteBuffer get(ByteBuffer dest, int byteOffset, MatrixOrder order) {
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.putFloat(byteOffset + order.index(row, col, n) * Float.BYTES, elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix4 set(ByteBuffer src, int byteOffset, MatrixOrder order) {
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.getFloat(byteOffset + order.index(row, col, n) * Float.BYTES);
+            }
+        }
+        return this;
+    }
+
+    // Порядок байтов платформы, как в Vector4SegmentArray и Matrix4SegmentArray
+    public MemorySegment get(MemorySegment dest, long byteOffset, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            MemorySegment.copy(elements, 0, dest, ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset, n * m);
+            return dest;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + (long) order.index(row, col, n) * Float.BYTES,
+                        elements[row * m + col]);
+            }
+        }
+        return dest;
+    }
+
+    public Matrix4 set(MemorySegment src, long byteOffset, MatrixOrder order) {
+        if (order == MatrixOrder.ROW_MAJOR) {
+            MemorySegment.copy(src, ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset, elements, 0, n * m);
+            return this;
+        }
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < m; col++) {
+                elements[row * m + col] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED,
+                        byteOffset + (long) order.index(row, col, n) * Float.BYTES);
+            }
+        }
+        return this;
+    }
+
+    // Пакетная запись: матрица i занимает 16 float начиная с index + 16 * i
+    public static FloatBuffer get(Matrix4[] mats, FloatBuffer dest, int index, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, index + i * n * m, order);
+        }
+        return dest;
+    }
+
+    public static Matrix4[] set(Matrix4[] mats, FloatBuffer src, int index, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, index + i * n * m, order);
+        }
+        return mats;
+    }
+
+    public static ByteBuffer get(Matrix4[] mats, ByteBuffer dest, int byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, byteOffset + i * n * m * Float.BYTES, order);
+        }
+        return dest;
+    }
+
+    public static Matrix4[] set(Matrix4[] mats, ByteBuffer src, int byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, byteOffset + i * n * m * Float.BYTES, order);
+        }
+        return mats;
+    }
+
+    public static MemorySegment get(Matrix4[] mats, MemorySegment dest, long byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].get(dest, byteOffset + (long) i * n * m * Float.BYTES, order);
+        }
+        return dest;
+    }
+
+    public static Matrix4[] set(Matrix4[] mats, MemorySegment src, long byteOffset, MatrixOrder order) {
+        for (int i = 0; i < mats.length; i++) {
+            mats[i].set(src, byteOffset + (long) i * n * m * Float.BYTES, order);
+        }
+        return mats;
+    }
+
+    // Совместимое представление: каждый вызов возвращает новую копию в виде float[4][4].
+    // Запись в полученный массив матрицу не меняет — для изменения элементов есть set(row, col, value)
     public float[][] getMatrix() {
-        return matrix;
+        float[] a = this.elements;
+        return new float[][]{
+                {a[0], a[1], a[2], a[3]},
+                {a[4], a[5], a[6], a[7]},
+                {a[8], a[9], a[10], a[11]},
+                {a[12], a[13], a[14], a[15]}
+        };
     }
 }
@@ -0,0 +1,119 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+// Массив матриц 4x4 вне кучи: по 16 float на матрицу, построчно, как в Matrix4.
+public class Matrix4SegmentArray {
+    public static final long BYTES = 16 * Float.BYTES;
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+
+    private final MemorySegment segment;
+    private final long size;
+
+    public Matrix4SegmentArray(MemorySegment segment) {
+        if (segment.byteSize() % BYTES != 0) {
+            throw new IllegalArgumentException("Размер сегмента должен быть кратен " + BYTES + " байтам");
+        }
+        this.segment = segment;
+        this.size = segment.byteSize() / BYTES;
+    }
+
+    public static Matrix4SegmentArray allocate(Arena arena, long size) {
+        return new Matrix4SegmentArray(arena.allocate(size * BYTES, Float.BYTES));
+    }
+
+    public static Matrix4SegmentArray map(FileChannel channel, FileChannel.MapMode mode, long offset, long size, Arena arena) throws IOException {
+        return new Matrix4SegmentArray(channel.map(mode, offset, size * BYTES, arena));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public Matrix4 get(long i, Matrix4 dest) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                dest.set(row, col, segment.get(FLOAT, offset + (row * 4L + col) * Float.BYTES));
+            }
+        }
+        return dest;
+    }
+
+    public Matrix4SegmentArray set(long i, Matrix4 mat) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                segment.set(FLOAT, offset + (row * 4L + col) * Float.BYTES, mat.get(row, col));
+            }
+        }
+        return this;
+    }
+
+    // Каждая матрица заменяется на m[i] * right, как Matrix4.multiply(Matrix4)
+    public Matrix4SegmentArray multiply(Matrix4 right) {
+        return multiply(right, 0, size);
+    }
+
+    public Matrix4SegmentArray multiply(Matrix4 right, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float b00 = right.get(0, 0), b01 = right.get(0, 1), b02 = right.get(0, 2), b03 = right.get(0, 3);
+        float b10 = right.get(1, 0), b11 = right.get(1, 1), b12 = right.get(1, 2), b13 = right.get(1, 3);
+        float b20 = right.get(2, 0), b21 = right.get(2, 1), b22 = right.get(2, 2), b23 = right.get(2, 3);
+        float b30 = right.get(3, 0), b31 = right.get(3, 1), b32 = right.get(3, 2), b33 = right.get(3, 3);
+        MemorySegment s = segment;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            // Строки независимы: каждая строка результата зависит только от той же строки m[i]
+            for (long row = offset; row < offset + BYTES; row += 4 * Float.BYTES) {
+                float a0 = s.get(FLOAT, row);
+                float a1 = s.get(FLOAT, row + 4);
+                float a2 = s.get(FLOAT, row + 8);
+                float a3 = s.get(FLOAT, row + 12);
+                s.set(FLOAT, row, a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30);
+                s.set(FLOAT, row + 4, a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31);
+                s.set(FLOAT, row + 8, a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32);
+                s.set(FLOAT, row + 12, a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33);
+            }
+        }
+        return this;
+    }
+
+    // Поэлементное преобразование: vectors[i] = m[i] * vectors[i]
+    public Vector4SegmentArray transform(Vector4SegmentArray vectors) {
+        return transform(vectors, 0, size);
+    }
+
+    public Vector4SegmentArray transform(Vector4SegmentArray vectors, long from, long to) {
+        if (vectors.size() != size) {
+            throw new IllegalArgumentException("Количество матриц и векторов должно совпадать");
+        }
+        Objects.checkFromToIndex(from, to, size);
+        MemorySegment m = segment;
+        MemorySegment v = vectors.segment();
+        for (long i = from; i < to; i++) {
+            long mo = i * BYTES;
+            long vo = i * Vector4SegmentArray.BYTES;
+            float x = v.get(FLOAT, vo);
+            float y = v.get(FLOAT, vo + 4);
+            float z = v.get(FLOAT, vo + 8);
+            float w = v.get(FLOAT, vo + 12);
+            for (int row = 0; row < 4; row++) {
+                long ro = mo + row * 16L;
+                v.set(FLOAT, vo + row * 4L, m.get(FLOAT, ro) * x + m.get(FLOAT, ro + 4) * y
+                        + m.get(FLOAT, ro + 8) * z + m.get(FLOAT, ro + 12) * w);
+            }
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.Objects;
+
+// Стек матриц 4x4 в одном заранее выделенном массиве: уровень i занимает [16 * i, 16 * i + 16),
+// построчно, как в Matrix4. Операции над вершиной умножают её справа (top = top * M), как
+// glTranslate/glRotate, поэтому преобразование, добавленное последним, применяется к вектору первым.
+// push и pop только сдвигают индекс и копируют 16 float, без выделения памяти.
+public class Matrix4Stack {
+    private static final int STRIDE = 16;
+
+    private final float[] storage;
+    private final int capacity;
+    private int top;
+
+    // capacity — максимальное число уровней, включая нижний; нижний уровень — единичная матрица
+    public Matrix4Stack(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Стек должен вмещать хотя бы одну матрицу");
+        }
+        this.capacity = capacity;
+        this.storage = new float[capacity * STRIDE];
+        loadIdentity();
+    }
+
+    public int depth() {
+        return top / STRIDE;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // Новая вершина — копия текущей
+    public Matrix4Stack push() {
+        if (top + STRIDE == storage.length) {
+            throw new IllegalStateException("Стек матриц переполнен");
+        }
+        System.arraycopy(storage, top, storage, top + STRIDE, STRIDE);
+        top += STRIDE;
+        return this;
+    }
+
+    public Matrix4Stack pop() {
+        if (top == 0) {
+            throw new IllegalStateException("Нельзя снять нижний уровень стека");
+        }
+        top -= STRIDE;
+        return this;
+    }
+
+    public Matrix4Stack loadIdentity() {
+        float[] s = storage;
+        for (int i = 0; i < STRIDE; i++) {
+            s[top + i] = (i % 5 == 0) ? 1.0f : 0.0f;
+        }
+        return this;
+    }
+
+    public Matrix4Stack set(Matrix4 mat) {
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                storage[top + row * 4 + col] = mat.get(row, col);
+            }
+        }
+        return this;
+    }
+
+    public Matrix4 get(Matrix4 dest) {
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                dest.set(row, col, storage[top + row * 4 + col]);
+            }
+        }
+        return dest;
+    }
+
+    public float get(int row, int col) {
+        Objects.checkIndex(row, 4);
+        Objects.checkIndex(col, 4);
+        return storage[top + row * 4 + col];
+    }
+
+    // top = top * mat
+    public Matrix4Stack multiply(Matrix4 mat) {
+        float b00 = mat.get(0, 0), b01 = mat.get(0, 1), b02 = mat.get(0, 2), b03 = mat.get(0, 3);
+        float b10 = mat.get(1, 0), b11 = mat.get(1, 1), b12 = mat.get(1, 2), b13 = mat.get(1, 3);
+        float b20 = mat.get(2, 0), b21 = mat.get(2, 1), b22 = mat.get(2, 2), b23 = mat.get(2, 3);
+        float b30 = mat.get(3, 0), b31 = mat.get(3, 1), b32 = mat.get(3, 2), b33 = mat.get(3, 3);
+        float[] s = storage;
+        for (int row = top; row < top + STRIDE; row += 4) {
+            float a0 = s[row], a1 = s[row + 1], a2 = s[row + 2], a3 = s[row + 3];
+            s[row] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+            s[row + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+            s[row + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+            s[row + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+        }
+        return this;
+    }
+
+    // top = top * T(x, y, z): меняется только столбец переноса
+    public Matrix4Stack translate(float x, float y, float z) {
+        float[] s = storage;
+        for (int row = top; row < top + STRIDE; row += 4) {
+            s[row + 3] += s[row] * x + s[row + 1] * y + s[row + 2] * z;
+        }
+        return this;
+    }
+
+    public Matrix4Stack scale(float x, float y, float z) {
+        float[] s = storage;
+        for (int row = top; row < top + STRIDE; row += 4) {
+            s[row] *= x;
+            s[row + 1] *= y;
+            s[row + 2] *= z;
+        }
+        return this;
+    }
+
+    // Поворот на angle радиан вокруг оси (ax, ay, az) по формуле Родрига
+    public Matrix4Stack rotate(float angle, float ax, float ay, float az) {
+        float len = (float) Math.sqrt(ax * ax + ay * ay + az * az);
+        if (len == 0.0f) {
+            throw new IllegalArgumentException("Ось поворота не может быть нулевой");
+        }
+        float inv = 1.0f / len;
+        float x = ax * inv, y = ay * inv, z = az * inv;
+        float c = (float) Math.cos(angle);
+        float s = (float) Math.sin(angle);
+        float t = 1.0f - c;
+        return rotate(
+                t * x * x + c, t * x * y - s * z, t * x * z + s * y,
+                t * x * y + s * z, t * y * y + c, t * y * z - s * x,
+                t * x * z - s * y, t * y * z + s * x, t * z * z + c);
+    }
+
+    // Кватернион должен быть единичным
+    public Matrix4Stack rotate(Quaternion q) {
+        float x = q.getX(), y = q.getY(), z = q.getZ(), w = q.getW();
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        return rotate(
+                1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+                2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+                2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy));
+    }
+
+    // top = top * R, где R — блок 3x3; столбец переноса не меняется
+    private Matrix4Stack rotate(float r00, float r01, float r02,
+                                float r10, float r11, float r12,
+                                float r20, float r21, float r22) {
+        float[] s = storage;
+        for (int row = top; row < top + STRIDE; row += 4) {
+            float a0 = s[row], a1 = s[row + 1], a2 = s[row + 2];
+            s[row] = a0 * r00 + a1 * r10 + a2 * r20;
+            s[row + 1] = a0 * r01 + a1 * r11 + a2 * r21;
+            s[row + 2] = a0 * r02 + a1 * r12 + a2 * r22;
+        }
+        return this;
+    }
+
+    // dest = top * src без выделения памяти; src и dest могут совпадать
+    public Vector4 multiply(Vector4 src, Vector4 dest) {
+        float[][] v = src.getVector();
+        float x = v[0][0], y = v[1][0], z = v[2][0], w = v[3][0];
+        float[][] d = dest.getVector();
+        float[] s = storage;
+        for (int row = 0; row < 4; row++) {
+            int o = top + row * 4;
+            d[row][0] = s[o] * x + s[o + 1] * y + s[o + 2] * z + s[o + 3] * w;
+        }
+        return dest;
+    }
+}
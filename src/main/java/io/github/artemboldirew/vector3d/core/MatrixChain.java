@@ -0,0 +1,304 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Ленивое произведение цепочки прямоугольных матриц A0 · A1 · … · An-1, где каждый множитель
+// может быть транспонирован. Массивы float[][] не копируются: цепочка хранит ссылки и считается
+// по их содержимому в момент evaluate/multiply. Matrix4 хранит элементы в плоском массиве,
+// поэтому of/times(Matrix4) берут копию getMatrix() и фиксируют матрицу на момент вызова.
+// Порядок умножения выбирается динамическим программированием по задаче о цепочке матриц
+// (минимум умножений-сложений), поэтому, например, (10 x 1000)(1000 x 10)(10 x 1000) считается
+// через промежуточную 10 x 10, а не 1000 x 1000. В multiply(column) вектор становится последним
+// множителем цепочки, и при узком правом операнде цепочка сворачивается в последовательность
+// произведений матрица-вектор без промежуточных матриц.
+public final class MatrixChain {
+    // Результат не шире этого считается прямым циклом, читающим транспонированный множитель
+    // на месте; более широкие произведения идут в MathUtil.multiplyMatrices
+    private static final int NARROW_COLUMNS = BlockedMatrixMultiply.MIN_COLUMNS;
+
+    private final List<Factor> factors = new ArrayList<>();
+
+    private MatrixChain() {
+    }
+
+    public static MatrixChain of(float[][] matrix) {
+        return new MatrixChain().times(matrix);
+    }
+
+    // Снимок matrix: последующие изменения матрицы на цепочку не влияют
+    public static MatrixChain of(Matrix4 matrix) {
+        return of(matrix.getMatrix());
+    }
+
+    public MatrixChain times(float[][] matrix) {
+        return append(matrix, false);
+    }
+
+    public MatrixChain timesTransposed(float[][] matrix) {
+        return append(matrix, true);
+    }
+
+    // Снимок matrix, как в of(Matrix4)
+    public MatrixChain times(Matrix4 matrix) {
+        return times(matrix.getMatrix());
+    }
+
+    // Дописывает множители другой цепочки
+    public MatrixChain times(MatrixChain other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Цепочку нельзя дописать к самой себе");
+        }
+        for (Factor factor : other.factors) {
+            append(factor.matrix, factor.transposed);
+        }
+        return this;
+    }
+
+    // (A0 · … · An-1)ᵀ = An-1ᵀ · … · A0ᵀ: порядок множителей обращается, флаги транспонирования меняются
+    public MatrixChain transpose() {
+        int n = factors.size();
+        for (int i = 0; i < n / 2; i++) {
+            Factor left = factors.get(i);
+            factors.set(i, factors.get(n - 1 - i).flip());
+            factors.set(n - 1 - i, left.flip());
+        }
+        if (n % 2 == 1) {
+            factors.set(n / 2, factors.get(n / 2).flip());
+        }
+        return this;
+    }
+
+    public int size() {
+        return factors.size();
+    }
+
+    public int getRows() {
+        return factors.get(0).rows();
+    }
+
+    public int getColumns() {
+        return factors.get(factors.size() - 1).columns();
+    }
+
+    // Число умножений-сложений при оптимальном порядке
+    public long cost() {
+        return new Plan(dimensions(null)).cost(0, factors.size() - 1);
+    }
+
+    // Число умножений-сложений при умножении слева направо, для сравнения
+    public long naiveCost() {
+        long total = 0;
+        int[] dims = dimensions(null);
+        for (int i = 1; i < factors.size(); i++) {
+            total += (long) dims[0] * dims[i] * dims[i + 1];
+        }
+        return total;
+    }
+
+    // Выбранная расстановка скобок, например "(A0 (A1 A2))"
+    public String order() {
+        StringBuilder sb = new StringBuilder();
+        new Plan(dimensions(null)).describe(0, factors.size() - 1, sb);
+        return sb.toString();
+    }
+
+    public float[][] evaluate() {
+        Plan plan = new Plan(dimensions(null));
+        Operand result = evaluate(plan, 0, factors.size() - 1, null);
+        return result.transposed || factors.size() == 1 ? materialize(result) : result.matrix;
+    }
+
+    // Цепочка, умноженная справа на матрицу column (обычно столбец rows x 1, как Vector4.getVector())
+    public float[][] multiply(float[][] column) {
+        if (column == null || column.length == 0 || column[0].length == 0) {
+            throw new IllegalArgumentException("Матрица не может быть пустой");
+        }
+        checkRectangular(column);
+        if (column.length != getColumns()) {
+            throw new IllegalArgumentException(String.format(
+                    "Несовместимые размеры: цепочка %dx%d и матрица %dx%d",
+                    getRows(), getColumns(), column.length, column[0].length));
+        }
+        Factor last = new Factor(column, false);
+        Plan plan = new Plan(dimensions(last));
+        return evaluate(plan, 0, factors.size(), last).matrix;
+    }
+
+    public Vector4 multiply(Vector4 src, Vector4 dest) {
+        float[][] result = multiply(src.getVector());
+        MathUtil.checkArray(result, 4, 1);
+        float[][] d = dest.getVector();
+        for (int i = 0; i < 4; i++) {
+            d[i][0] = result[i][0];
+        }
+        return dest;
+    }
+
+    private MatrixChain append(float[][] matrix, boolean transposed) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Матрица не может быть null");
+        }
+        if (matrix.length == 0 || matrix[0].length == 0) {
+            throw new IllegalArgumentException("Матрица не может быть пустой");
+        }
+        checkRectangular(matrix);
+        Factor factor = new Factor(matrix, transposed);
+        if (!factors.isEmpty() && getColumns() != factor.rows()) {
+            throw new IllegalArgumentException(String.format(
+                    "Несовместимые размеры: цепочка %dx%d и множитель %dx%d",
+                    getRows(), getColumns(), factor.rows(), factor.columns()));
+        }
+        factors.add(factor);
+        return this;
+    }
+
+    private static void checkRectangular(float[][] matrix) {
+        for (int i = 1; i < matrix.length; i++) {
+            if (matrix[i].length != matrix[0].length) {
+                throw new IllegalArgumentException("Матрица должна быть прямоугольной");
+            }
+        }
+    }
+
+    // Размерности p0..pn: множитель i имеет размер p[i] x p[i + 1]
+    private int[] dimensions(Factor extra) {
+        int n = factors.size() + (extra == null ? 0 : 1);
+        int[] dims = new int[n + 1];
+        for (int i = 0; i < factors.size(); i++) {
+            dims[i] = factors.get(i).rows();
+        }
+        dims[factors.size()] = getColumns();
+        if (extra != null) {
+            dims[n] = extra.columns();
+        }
+        return dims;
+    }
+
+    private Operand evaluate(Plan plan, int i, int j, Factor extra) {
+        if (i == j) {
+            Factor factor = i < factors.size() ? factors.get(i) : extra;
+            return new Operand(factor.matrix, factor.transposed);
+        }
+        int k = plan.split(i, j);
+        Operand left = evaluate(plan, i, k, extra);
+        Operand right = evaluate(plan, k + 1, j, extra);
+        return new Operand(product(left, right), false);
+    }
+
+    private static float[][] product(Operand a, Operand b) {
+        if (!a.transposed && !b.transposed) {
+            return MathUtil.multiplyMatrices(a.matrix, b.matrix);
+        }
+        if (b.columns() <= NARROW_COLUMNS) {
+            return narrowProduct(a, b);
+        }
+        return MathUtil.multiplyMatrices(a.transposed ? materialize(a) : a.matrix, b.transposed ? materialize(b) : b.matrix);
+    }
+
+    // Узкий результат без копирования транспонированных множителей: Aᵀ читается по строкам A
+    private static float[][] narrowProduct(Operand a, Operand b) {
+        int rows = a.rows();
+        int depth = a.columns();
+        int cols = b.columns();
+        float[][] result = new float[rows][cols];
+        float[][] m = a.matrix;
+        for (int j = 0; j < cols; j++) {
+            for (int k = 0; k < depth; k++) {
+                float bkj = b.transposed ? b.matrix[j][k] : b.matrix[k][j];
+                if (a.transposed) {
+                    float[] row = m[k];
+                    for (int i = 0; i < rows; i++) {
+                        result[i][j] += row[i] * bkj;
+                    }
+                } else {
+                    for (int i = 0; i < rows; i++) {
+                        result[i][j] += m[i][k] * bkj;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static float[][] materialize(Operand operand) {
+        if (operand.transposed) {
+            return MathUtil.transposeMatrix(operand.matrix);
+        }
+        float[][] copy = new float[operand.matrix.length][];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = operand.matrix[i].clone();
+        }
+        return copy;
+    }
+
+    private record Factor(float[][] matrix, boolean transposed) {
+        int rows() {
+            return transposed ? matrix[0].length : matrix.length;
+        }
+
+        int columns() {
+            return transposed ? matrix.length : matrix[0].length;
+        }
+
+        Factor flip() {
+            return new Factor(matrix, !transposed);
+        }
+    }
+
+    private record Operand(float[][] matrix, boolean transposed) {
+        int rows() {
+            return transposed ? matrix[0].length : matrix.length;
+        }
+
+        int columns() {
+            return transposed ? matrix.length : matrix[0].length;
+        }
+    }
+
+    // Классическое ДП: cost[i][j] — минимум умножений для Ai..Aj, split[i][j] — последнее умножение
+    // между A..k и Ak+1..; O(n³) по числу множителей, что мало рядом с самими умножениями
+    private static final class Plan {
+        private final long[][] cost;
+        private final int[][] split;
+
+        Plan(int[] dims) {
+            int n = dims.length - 1;
+            cost = new long[n][n];
+            split = new int[n][n];
+            for (int length = 2; length <= n; length++) {
+                for (int i = 0; i + length - 1 < n; i++) {
+                    int j = i + length - 1;
+                    cost[i][j] = Long.MAX_VALUE;
+                    for (int k = i; k < j; k++) {
+                        long c = cost[i][k] + cost[k + 1][j] + (long) dims[i] * dims[k + 1] * dims[j + 1];
+                        if (c < cost[i][j]) {
+                            cost[i][j] = c;
+                            split[i][j] = k;
+                        }
+                    }
+                }
+            }
+        }
+
+        long cost(int i, int j) {
+            return cost[i][j];
+        }
+
+        int split(int i, int j) {
+            return split[i][j];
+        }
+
+        void describe(int i, int j, StringBuilder sb) {
+            if (i == j) {
+                sb.append('A').append(i);
+                return;
+            }
+            sb.append('(');
+            describe(i, split[i][j], sb);
+            sb.append(' ');
+            describe(split[i][j] + 1, j, sb);
+            sb.append(')');
+        }
+    }
+}
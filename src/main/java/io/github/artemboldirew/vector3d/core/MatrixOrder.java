@@ -0,0 +1,14 @@
+package io.github.artemboldirew.vector3d.core;
+
+// Порядок элементов матрицы при обмене с буферами и сегментами памяти.
+// Внутри Matrix3/Matrix4 элементы всегда хранятся построчно.
+public enum MatrixOrder {
+    ROW_MAJOR,
+    // Как ожидают OpenGL/Vulkan (uniform-буферы без транспонирования)
+    COLUMN_MAJOR;
+
+    // Позиция элемента (row, col) матрицы size x size в плоском представлении
+    public int index(int row, int col, int size) {
+        return this == ROW_MAJOR ? row * size + col : col * size + row;
+    }
+}
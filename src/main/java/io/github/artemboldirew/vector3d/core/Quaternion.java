@@ -0,0 +1,239 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.Objects;
+
+// Кватернион поворота (x, y, z, w), w — скалярная часть. Соглашения совпадают с Matrix3:
+// правая система координат, векторы-столбцы (v' = R·v), a·b означает «сначала b, затем a».
+public class Quaternion {
+    private float x;
+    private float y;
+    private float z;
+    private float w;
+
+    public Quaternion() {
+        this.w = 1.0f;
+    }
+
+    public Quaternion(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public Quaternion(Quaternion q) {
+        this(q.x, q.y, q.z, q.w);
+    }
+
+    public Quaternion set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    public Quaternion set(Quaternion q) {
+        return set(q.x, q.y, q.z, q.w);
+    }
+
+    public Quaternion identity() {
+        return set(0.0f, 0.0f, 0.0f, 1.0f);
+    }
+
+    // Поворот на angle радиан вокруг оси (ax, ay, az); ось нормируется здесь же
+    public Quaternion setAxisAngle(float ax, float ay, float az, float angle) {
+        float len = (float) Math.sqrt(ax * ax + ay * ay + az * az);
+        if (len == 0.0f) {
+            throw new IllegalArgumentException("Ось поворота не может быть нулевой");
+        }
+        float half = angle * 0.5f;
+        float s = (float) Math.sin(half) / len;
+        return set(ax * s, ay * s, az * s, (float) Math.cos(half));
+    }
+
+    public Quaternion setAxisAngle(Vector3 axis, float angle) {
+        float[][] v = axis.getVector();
+        return setAxisAngle(v[0][0], v[1][0], v[2][0], angle);
+    }
+
+    public Quaternion multiply(Quaternion q) {
+        return multiply(this, q, this);
+    }
+
+    public static Quaternion multiply(Quaternion a, Quaternion b, Quaternion dest) {
+        float ax = a.x, ay = a.y, az = a.z, aw = a.w;
+        float bx = b.x, by = b.y, bz = b.z, bw = b.w;
+        return dest.set(
+                aw * bx + ax * bw + ay * bz - az * by,
+                aw * by - ax * bz + ay * bw + az * bx,
+                aw * bz + ax * by - ay * bx + az * bw,
+                aw * bw - ax * bx - ay * by - az * bz);
+    }
+
+    public Quaternion conjugate() {
+        return set(-x, -y, -z, w);
+    }
+
+    public float dot(Quaternion q) {
+        return x * q.x + y * q.y + z * q.z + w * q.w;
+    }
+
+    public float getLength() {
+        return (float) Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public Quaternion normalize() {
+        float inv = (float) (1.0 / Math.sqrt(x * x + y * y + z * z + w * w));
+        return set(x * inv, y * inv, z * inv, w * inv);
+    }
+
+    // Матрица должна быть ортонормированной (чистый поворот)
+    public Quaternion setFromMatrix(Matrix3 mat) {
+        return setFromRotation(
+                mat.get(0, 0), mat.get(0, 1), mat.get(0, 2),
+                mat.get(1, 0), mat.get(1, 1), mat.get(1, 2),
+                mat.get(2, 0), mat.get(2, 1), mat.get(2, 2));
+    }
+
+    // Используется верхний блок 3x3, перенос игнорируется
+    public Quaternion setFromMatrix(Matrix4 mat) {
+        return setFromRotation(
+                mat.get(0, 0), mat.get(0, 1), mat.get(0, 2),
+                mat.get(1, 0), mat.get(1, 1), mat.get(1, 2),
+                mat.get(2, 0), mat.get(2, 1), mat.get(2, 2));
+    }
+
+    // Метод Шеппарда: корень берётся из наибольшей диагональной комбинации, чтобы не терять точность
+    private Quaternion setFromRotation(float m00, float m01, float m02,
+                                       float m10, float m11, float m12,
+                                       float m20, float m21, float m22) {
+        float trace = m00 + m11 + m22;
+        if (trace > 0.0f) {
+            float s = (float) Math.sqrt(trace + 1.0f) * 2.0f;
+            return set((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, 0.25f * s);
+        }
+        if (m00 > m11 && m00 > m22) {
+            float s = (float) Math.sqrt(1.0f + m00 - m11 - m22) * 2.0f;
+            return set(0.25f * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        }
+        if (m11 > m22) {
+            float s = (float) Math.sqrt(1.0f + m11 - m00 - m22) * 2.0f;
+            return set((m01 + m10) / s, 0.25f * s, (m12 + m21) / s, (m02 - m20) / s);
+        }
+        float s = (float) Math.sqrt(1.0f + m22 - m00 - m11) * 2.0f;
+        return set((m02 + m20) / s, (m12 + m21) / s, 0.25f * s, (m10 - m01) / s);
+    }
+
+    public Matrix3 toMatrix(Matrix3 dest) {
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        dest.set(0, 0, 1.0f - 2.0f * (yy + zz)).set(0, 1, 2.0f * (xy - wz)).set(0, 2, 2.0f * (xz + wy));
+        dest.set(1, 0, 2.0f * (xy + wz)).set(1, 1, 1.0f - 2.0f * (xx + zz)).set(1, 2, 2.0f * (yz - wx));
+        dest.set(2, 0, 2.0f * (xz - wy)).set(2, 1, 2.0f * (yz + wx)).set(2, 2, 1.0f - 2.0f * (xx + yy));
+        return dest;
+    }
+
+    // Поворот без переноса: последняя строка и столбец заполняются как у единичной матрицы
+    public Matrix4 toMatrix(Matrix4 dest) {
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        dest.set(0, 0, 1.0f - 2.0f * (yy + zz)).set(0, 1, 2.0f * (xy - wz)).set(0, 2, 2.0f * (xz + wy)).set(0, 3, 0.0f);
+        dest.set(1, 0, 2.0f * (xy + wz)).set(1, 1, 1.0f - 2.0f * (xx + zz)).set(1, 2, 2.0f * (yz - wx)).set(1, 3, 0.0f);
+        dest.set(2, 0, 2.0f * (xz - wy)).set(2, 1, 2.0f * (yz + wx)).set(2, 2, 1.0f - 2.0f * (xx + yy)).set(2, 3, 0.0f);
+        dest.set(3, 0, 0.0f).set(3, 1, 0.0f).set(3, 2, 0.0f).set(3, 3, 1.0f);
+        return dest;
+    }
+
+    // Поворот вектора на месте: v' = v + 2w(q×v) + 2q×(q×v); кватернион должен быть единичным
+    public Vector3 rotate(Vector3 vec) {
+        float[][] v = vec.getVector();
+        float vx = v[0][0], vy = v[1][0], vz = v[2][0];
+        float tx = 2.0f * (y * vz - z * vy);
+        float ty = 2.0f * (z * vx - x * vz);
+        float tz = 2.0f * (x * vy - y * vx);
+        v[0][0] = vx + w * tx + (y * tz - z * ty);
+        v[1][0] = vy + w * ty + (z * tx - x * tz);
+        v[2][0] = vz + w * tz + (x * ty - y * tx);
+        return vec;
+    }
+
+    public Vector3[] rotate(Vector3[] vectors) {
+        for (Vector3 vec : vectors) {
+            rotate(vec);
+        }
+        return vectors;
+    }
+
+    public Vector3Buffer rotate(Vector3Buffer vectors) {
+        return rotate(vectors, 0, vectors.size());
+    }
+
+    public Vector3Buffer rotate(Vector3Buffer vectors, int from, int to) {
+        Objects.checkFromToIndex(from, to, vectors.size());
+        float qx = x, qy = y, qz = z, qw = w;
+        float[] xs = vectors.getX(), ys = vectors.getY(), zs = vectors.getZ();
+        for (int i = from; i < to; i++) {
+            float vx = xs[i], vy = ys[i], vz = zs[i];
+            float tx = 2.0f * (qy * vz - qz * vy);
+            float ty = 2.0f * (qz * vx - qx * vz);
+            float tz = 2.0f * (qx * vy - qy * vx);
+            xs[i] = vx + qw * tx + (qy * tz - qz * ty);
+            ys[i] = vy + qw * ty + (qz * tx - qx * tz);
+            zs[i] = vz + qw * tz + (qx * ty - qy * tx);
+        }
+        return vectors;
+    }
+
+    // Нормированная линейная интерполяция по кратчайшей дуге
+    public static Quaternion nlerp(Quaternion a, Quaternion b, float t, Quaternion dest) {
+        float sign = a.dot(b) < 0.0f ? -1.0f : 1.0f;
+        float s0 = 1.0f - t;
+        float s1 = t * sign;
+        return dest.set(
+                s0 * a.x + s1 * b.x,
+                s0 * a.y + s1 * b.y,
+                s0 * a.z + s1 * b.z,
+                s0 * a.w + s1 * b.w).normalize();
+    }
+
+    // Сферическая интерполяция по кратчайшей дуге; при почти совпадающих кватернионах переходит на nlerp
+    public static Quaternion slerp(Quaternion a, Quaternion b, float t, Quaternion dest) {
+        float cos = a.dot(b);
+        float sign = 1.0f;
+        if (cos < 0.0f) {
+            cos = -cos;
+            sign = -1.0f;
+        }
+        if (cos > 0.9995f) {
+            return nlerp(a, b, t, dest);
+        }
+        double theta = Math.acos(cos);
+        double sin = Math.sin(theta);
+        float s0 = (float) (Math.sin((1.0 - t) * theta) / sin);
+        float s1 = (float) (Math.sin(t * theta) / sin) * sign;
+        return dest.set(
+                s0 * a.x + s1 * b.x,
+                s0 * a.y + s1 * b.y,
+                s0 * a.z + s1 * b.z,
+                s0 * a.w + s1 * b.w);
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZ() {
+        return z;
+    }
+
+    public float getW() {
+        return w;
+    }
+}
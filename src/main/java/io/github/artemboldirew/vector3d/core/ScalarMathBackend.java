@@ -0,0 +1,76 @@
+package io.github.artemboldirew.vector3d.core;
+
+final class ScalarMathBackend implements MathBackend {
+    @Override
+    public void multiply(float[][] a, float[][] b, float[][] result) {
+        int aRows = a.length;
+        int aCols = a[0].length;
+        int bCols = b[0].length;
+        for (int i = 0; i < aRows; i++) {
+            for (int j = 0; j < bCols; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < aCols; k++) {
+                    sum += a[i][k] * b[k][j];
+                }
+                result[i][j] = sum;
+            }
+        }
+    }
+
+    @Override
+    public void add(float[][] arr1, float[][] arr2) {
+        for (int i = 0; i < arr1.length; i++) {
+            for (int j = 0; j < arr1[0].length; j++) {
+                arr1[i][j] = arr1[i][j] + arr2[i][j];
+            }
+        }
+    }
+
+    @Override
+    public void subtract(float[][] arr1, float[][] arr2) {
+        for (int i = 0; i < arr1.length; i++) {
+            for (int j = 0; j < arr1[0].length; j++) {
+                arr1[i][j] = arr1[i][j] - arr2[i][j];
+            }
+        }
+    }
+
+    @Override
+    public void multiplyByNum(float[][] arr, float num) {
+        for (int i = 0; i < arr.length; i++) {
+            for (int j = 0; j < arr[0].length; j++) {
+                arr[i][j] = arr[i][j] * num;
+            }
+        }
+    }
+
+    @Override
+    public void divideByNum(float[][] arr, float num) {
+        for (int i = 0; i < arr.length; i++) {
+            for (int j = 0; j < arr[0].length; j++) {
+                arr[i][j] = arr[i][j] / num;
+            }
+        }
+    }
+
+    @Override
+    public float scalarProduct(float[][] arr1, float[][] arr2) {
+        float res = 0;
+        for (int i = 0; i < arr1.length; i++) {
+            res += (arr1[i][0] * arr2[i][0]);
+        }
+        return res;
+    }
+
+    @Override
+    public void axpy(float alpha, float[] x, int xOff, float[] y, int yOff, int len) {
+        for (int j = 0; j < len; j++) {
+            y[yOff + j] += alpha * x[xOff + j];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
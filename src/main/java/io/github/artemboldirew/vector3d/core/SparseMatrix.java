@@ -0,0 +1,288 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Разреженная матрица в формате CSR: ненулевые элементы строки i лежат в values и columns
+// по индексам [rowPointers[i], rowPointers[i + 1]), столбцы внутри строки возрастают и не
+// повторяются. Памяти нужно O(rows + nonZeros) вместо rows * columns у float[][].
+// Операции не меняют матрицу: они создают новые массивы или пишут в переданный dest.
+public final class SparseMatrix {
+    private final int rows;
+    private final int columns;
+    private final int[] rowPointers;
+    private final int[] columnIndices;
+    private final float[] values;
+
+    // Массивы не копируются и проверяются на согласованность формата CSR
+    public SparseMatrix(int rows, int columns, int[] rowPointers, int[] columnIndices, float[] values) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Размеры матрицы не могут быть отрицательными");
+        }
+        if (rowPointers.length != rows + 1 || rowPointers[0] != 0) {
+            throw new IllegalArgumentException("rowPointers должен иметь длину rows + 1 и начинаться с 0");
+        }
+        int nonZeros = rowPointers[rows];
+        if (columnIndices.length < nonZeros || values.length < nonZeros) {
+            throw new IllegalArgumentException("Массивы columnIndices и values короче числа ненулевых элементов");
+        }
+        for (int i = 0; i < rows; i++) {
+            if (rowPointers[i] > rowPointers[i + 1]) {
+                throw new IllegalArgumentException("rowPointers должен не убывать");
+            }
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                int col = columnIndices[k];
+                if (col < 0 || col >= columns || k > rowPointers[i] && col <= columnIndices[k - 1]) {
+                    throw new IllegalArgumentException("Столбцы строки " + i + " должны возрастать и лежать в [0, " + columns + ")");
+                }
+            }
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    // Сборка из троек (row, col, value), как при сборке матриц жёсткости: повторы складываются.
+    // Два устойчивых прохода сортировки подсчётом — по столбцу, затем по строке — дают строки
+    // с возрастающими столбцами за O(rows + columns + n)
+    public static SparseMatrix fromTriplets(int rows, int columns, int[] rowIndices, int[] colIndices, float[] tripletValues) {
+        int n = rowIndices.length;
+        if (colIndices.length != n || tripletValues.length != n) {
+            throw new IllegalArgumentException("Массивы троек должны быть одной длины");
+        }
+        for (int t = 0; t < n; t++) {
+            Objects.checkIndex(rowIndices[t], rows);
+            Objects.checkIndex(colIndices[t], columns);
+        }
+        int[] byColumn = countingOrder(colIndices, columns, identity(n));
+        int[] order = countingOrder(rowIndices, rows, byColumn);
+
+        int[] rowPointers = new int[rows + 1];
+        int[] cols = new int[n];
+        float[] vals = new float[n];
+        int size = 0;
+        int previousRow = -1;
+        int previousColumn = -1;
+        for (int k = 0; k < n; k++) {
+            int t = order[k];
+            int row = rowIndices[t];
+            int col = colIndices[t];
+            // После сортировки повторы одной ячейки стоят подряд
+            if (row == previousRow && col == previousColumn) {
+                vals[size - 1] += tripletValues[t];
+                continue;
+            }
+            cols[size] = col;
+            vals[size] = tripletValues[t];
+            size++;
+            rowPointers[row + 1]++;
+            previousRow = row;
+            previousColumn = col;
+        }
+        for (int i = 0; i < rows; i++) {
+            rowPointers[i + 1] += rowPointers[i];
+        }
+        return new SparseMatrix(rows, columns, rowPointers, Arrays.copyOf(cols, size), Arrays.copyOf(vals, size));
+    }
+
+    public static SparseMatrix fromDense(float[][] dense) {
+        if (dense == null) {
+            throw new IllegalArgumentException("Матрица не может быть null");
+        }
+        int rows = dense.length;
+        int columns = rows == 0 ? 0 : dense[0].length;
+        int[] rowPointers = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            if (dense[i].length != columns) {
+                throw new IllegalArgumentException("Матрица должна быть прямоугольной");
+            }
+            int count = 0;
+            for (float v : dense[i]) {
+                if (v != 0.0f) {
+                    count++;
+                }
+            }
+            rowPointers[i + 1] = rowPointers[i] + count;
+        }
+        int[] cols = new int[rowPointers[rows]];
+        float[] vals = new float[rowPointers[rows]];
+        for (int i = 0; i < rows; i++) {
+            int k = rowPointers[i];
+            for (int j = 0; j < columns; j++) {
+                if (dense[i][j] != 0.0f) {
+                    cols[k] = j;
+                    vals[k++] = dense[i][j];
+                }
+            }
+        }
+        return new SparseMatrix(rows, columns, rowPointers, cols, vals);
+    }
+
+    public float[][] toDense() {
+        float[][] dense = new float[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                dense[i][columnIndices[k]] = values[k];
+            }
+        }
+        return dense;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int nonZeros() {
+        return rowPointers[rows];
+    }
+
+    public float get(int row, int col) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(col, columns);
+        int k = Arrays.binarySearch(columnIndices, rowPointers[row], rowPointers[row + 1], col);
+        return k >= 0 ? values[k] : 0.0f;
+    }
+
+    // Живые массивы CSR, без копирования
+    public int[] getRowPointers() {
+        return rowPointers;
+    }
+
+    public int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    // SpMV: dest = this · x
+    public float[] multiply(float[] x, float[] dest) {
+        return multiply(x, dest, 0, rows);
+    }
+
+    // Только строки [from, to) результата
+    public float[] multiply(float[] x, float[] dest, int from, int to) {
+        checkVectors(x, dest);
+        Objects.checkFromToIndex(from, to, rows);
+        for (int i = from; i < to; i++) {
+            float sum = 0.0f;
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                sum += values[k] * x[columnIndices[k]];
+            }
+            dest[i] = sum;
+        }
+        return dest;
+    }
+
+    // Параллельный SpMV: строки результата делятся между задачами, каждая пишет только свои
+    public float[] multiply(float[] x, float[] dest, BatchTransformEngine engine) {
+        checkVectors(x, dest);
+        engine.run(rows, (from, to) -> multiply(x, dest, (int) from, (int) to));
+        return dest;
+    }
+
+    // Разреженная на плотную: строка результата — сумма строк dense с весами строки this
+    public float[][] multiply(float[][] dense) {
+        float[][] result = new float[rows][checkDense(dense)];
+        multiplyRows(dense, result, 0, rows);
+        return result;
+    }
+
+    public float[][] multiply(float[][] dense, BatchTransformEngine engine) {
+        float[][] result = new float[rows][checkDense(dense)];
+        engine.run(rows, (from, to) -> multiplyRows(dense, result, (int) from, (int) to));
+        return result;
+    }
+
+    private void multiplyRows(float[][] dense, float[][] result, int from, int to) {
+        MathBackend backend = MathUtil.backend();
+        int width = result.length == 0 ? 0 : result[0].length;
+        for (int i = from; i < to; i++) {
+            float[] row = result[i];
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                backend.axpy(values[k], dense[columnIndices[k]], 0, row, 0, width);
+            }
+        }
+    }
+
+    // Транспонирование сортировкой подсчётом по столбцам; столбцы результата возрастают сами
+    public SparseMatrix transpose() {
+        int nonZeros = nonZeros();
+        int[] pointers = new int[columns + 1];
+        for (int k = 0; k < nonZeros; k++) {
+            pointers[columnIndices[k] + 1]++;
+        }
+        for (int j = 0; j < columns; j++) {
+            pointers[j + 1] += pointers[j];
+        }
+        int[] next = Arrays.copyOf(pointers, columns);
+        int[] cols = new int[nonZeros];
+        float[] vals = new float[nonZeros];
+        for (int i = 0; i < rows; i++) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; k++) {
+                int p = next[columnIndices[k]]++;
+                cols[p] = i;
+                vals[p] = values[k];
+            }
+        }
+        return new SparseMatrix(columns, rows, pointers, cols, vals);
+    }
+
+    private void checkVectors(float[] x, float[] dest) {
+        if (x.length != columns || dest.length != rows) {
+            throw new IllegalArgumentException(String.format(
+                    "Несовместимые размеры: матрица %dx%d, x длины %d, dest длины %d", rows, columns, x.length, dest.length));
+        }
+        if (x == dest) {
+            throw new IllegalArgumentException("x и dest должны быть разными массивами");
+        }
+    }
+
+    private int checkDense(float[][] dense) {
+        if (dense == null) {
+            throw new IllegalArgumentException("Матрица не может быть null");
+        }
+        if (dense.length != columns) {
+            throw new IllegalArgumentException(String.format(
+                    "Несовместимые размеры матриц: %dx%d и %dx%d", rows, columns, dense.length, dense.length == 0 ? 0 : dense[0].length));
+        }
+        int width = dense.length == 0 ? 0 : dense[0].length;
+        for (float[] row : dense) {
+            if (row.length != width) {
+                throw new IllegalArgumentException("Матрица должна быть прямоугольной");
+            }
+        }
+        return width;
+    }
+
+    private static int[] identity(int n) {
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    // Устойчивая сортировка подсчётом перестановки order по ключам keys[order[k]] из [0, range)
+    private static int[] countingOrder(int[] keys, int range, int[] order) {
+        int[] starts = new int[range + 1];
+        for (int t : order) {
+            starts[keys[t] + 1]++;
+        }
+        for (int i = 0; i < range; i++) {
+            starts[i + 1] += starts[i];
+        }
+        int[] result = new int[order.length];
+        for (int t : order) {
+            result[starts[keys[t]]++] = t;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Иерархия преобразований в плоских массивах: узел i хранит индекс родителя, локальную
+// и мировую матрицы (по 16 float подряд, построчно, как в Matrix4). Родитель всегда
+// добавляется раньше потомка, поэтому один проход по возрастанию индексов видит мировую
+// матрицу родителя уже пересчитанной. Мировая матрица пересчитывается только у узлов,
+// изменённых после прошлого update(), и у их потомков.
+public class TransformHierarchy {
+    public static final int NO_PARENT = -1;
+    private static final int STRIDE = 16;
+
+    private int size;
+    private int[] parents;
+    private int[] depths;
+    private float[] locals;
+    private float[] worlds;
+    private boolean[] dirty;
+
+    // Узлы, упорядоченные по глубине: уровень d занимает [levelStarts[d], levelStarts[d + 1])
+    private int[] levelOrder = new int[0];
+    private int[] levelStarts = new int[1];
+    private boolean levelsValid = true;
+
+    public TransformHierarchy() {
+        this(16);
+    }
+
+    public TransformHierarchy(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Ёмкость не может быть отрицательной");
+        }
+        parents = new int[capacity];
+        depths = new int[capacity];
+        locals = new float[capacity * STRIDE];
+        worlds = new float[capacity * STRIDE];
+        dirty = new boolean[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Возвращает индекс нового узла; parent — NO_PARENT или индекс уже существующего узла
+    public int add(int parent, Matrix4 local) {
+        if (parent != NO_PARENT) {
+            Objects.checkIndex(parent, size);
+        }
+        if (size == parents.length) {
+            grow();
+        }
+        int node = size++;
+        parents[node] = parent;
+        depths[node] = parent == NO_PARENT ? 0 : depths[parent] + 1;
+        copyIn(local, locals, node * STRIDE);
+        dirty[node] = true;
+        levelsValid = false;
+        return node;
+    }
+
+    public int getParent(int node) {
+        Objects.checkIndex(node, size);
+        return parents[node];
+    }
+
+    public int getDepth(int node) {
+        Objects.checkIndex(node, size);
+        return depths[node];
+    }
+
+    public Matrix4 getLocal(int node, Matrix4 dest) {
+        Objects.checkIndex(node, size);
+        return copyOut(locals, node * STRIDE, dest);
+    }
+
+    public TransformHierarchy setLocal(int node, Matrix4 local) {
+        Objects.checkIndex(node, size);
+        copyIn(local, locals, node * STRIDE);
+        dirty[node] = true;
+        return this;
+    }
+
+    public boolean isDirty(int node) {
+        Objects.checkIndex(node, size);
+        return dirty[node];
+    }
+
+    // Значение актуально на момент последнего update()
+    public Matrix4 getWorld(int node, Matrix4 dest) {
+        Objects.checkIndex(node, size);
+        return copyOut(worlds, node * STRIDE, dest);
+    }
+
+    // Прямой доступ к мировым матрицам: узел i занимает [16 * i, 16 * i + 16)
+    public float[] getWorlds() {
+        return worlds;
+    }
+
+    public void update() {
+        for (int i = 0; i < size; i++) {
+            updateNode(i);
+        }
+        Arrays.fill(dirty, 0, size, false);
+    }
+
+    // Уровни обрабатываются по очереди, узлы одного уровня — параллельно: каждый читает
+    // только мировую матрицу родителя с предыдущего уровня и пишет только свою
+    public void update(BatchTransformEngine engine) {
+        buildLevels();
+        int[] order = levelOrder;
+        for (int level = 0; level + 1 < levelStarts.length; level++) {
+            int start = levelStarts[level];
+            engine.run(levelStarts[level + 1] - start, (from, to) -> {
+                for (long k = from; k < to; k++) {
+                    updateNode(order[start + (int) k]);
+                }
+            });
+        }
+        Arrays.fill(dirty, 0, size, false);
+    }
+
+    private void updateNode(int node) {
+        int parent = parents[node];
+        if (parent == NO_PARENT) {
+            if (dirty[node]) {
+                System.arraycopy(locals, node * STRIDE, worlds, node * STRIDE, STRIDE);
+            }
+            return;
+        }
+        if (dirty[parent]) {
+            dirty[node] = true;
+        }
+        if (dirty[node]) {
+            multiply(worlds, parent * STRIDE, locals, node * STRIDE, worlds, node * STRIDE);
+        }
+    }
+
+    // Сортировка подсчётом по глубине; перестраивается только после добавления узлов
+    private void buildLevels() {
+        if (levelsValid) {
+            return;
+        }
+        int maxDepth = -1;
+        for (int i = 0; i < size; i++) {
+            maxDepth = Math.max(maxDepth, depths[i]);
+        }
+        int[] starts = new int[maxDepth + 2];
+        for (int i = 0; i < size; i++) {
+            starts[depths[i] + 1]++;
+        }
+        for (int d = 0; d <= maxDepth; d++) {
+            starts[d + 1] += starts[d];
+        }
+        int[] order = new int[size];
+        int[] cursor = Arrays.copyOf(starts, maxDepth + 1);
+        for (int i = 0; i < size; i++) {
+            order[cursor[depths[i]]++] = i;
+        }
+        levelOrder = order;
+        levelStarts = starts;
+        levelsValid = true;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, parents.length * 2);
+        parents = Arrays.copyOf(parents, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        locals = Arrays.copyOf(locals, capacity * STRIDE);
+        worlds = Arrays.copyOf(worlds, capacity * STRIDE);
+        dirty = Arrays.copyOf(dirty, capacity);
+    }
+
+    private static void copyIn(Matrix4 mat, float[] dest, int offset) {
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                dest[offset + row * 4 + col] = mat.get(row, col);
+            }
+        }
+    }
+
+    private static Matrix4 copyOut(float[] src, int offset, Matrix4 dest) {
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                dest.set(row, col, src[offset + row * 4 + col]);
+            }
+        }
+        return dest;
+    }
+
+    // dest = a * b; dest не пересекается с a и b
+    private static void multiply(float[] a, int ao, float[] b, int bo, float[] dest, int d) {
+        float b00 = b[bo], b01 = b[bo + 1], b02 = b[bo + 2], b03 = b[bo + 3];
+        float b10 = b[bo + 4], b11 = b[bo + 5], b12 = b[bo + 6], b13 = b[bo + 7];
+        float b20 = b[bo + 8], b21 = b[bo + 9], b22 = b[bo + 10], b23 = b[bo + 11];
+        float b30 = b[bo + 12], b31 = b[bo + 13], b32 = b[bo + 14], b33 = b[bo + 15];
+        for (int row = 0; row < 16; row += 4) {
+            float a0 = a[ao + row], a1 = a[ao + row + 1], a2 = a[ao + row + 2], a3 = a[ao + row + 3];
+            dest[d + row] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+            dest[d + row + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+            dest[d + row + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+            dest[d + row + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.artemboldirew.vector3d.core;
+
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.util.Objects;
+
+// Набор 2-компонентных векторов в виде структуры массивов, по аналогии с Vector3Buffer.
+public class Vector2Buffer {
+    private final float[] x;
+    private final float[] y;
+    private final int size;
+
+    public Vector2Buffer(int size) {
+        this(new float[size], new float[size]);
+    }
+
+    public Vector2Buffer(float[] x, float[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Массивы координат должны быть одной длины");
+        }
+        this.x = x;
+        this.y = y;
+        this.size = x.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Vector2 get(int i, Vector2 dest) {
+        float[][] d = dest.getVector();
+        d[0][0] = x[i];
+        d[1][0] = y[i];
+        return dest;
+    }
+
+    public Vector2Buffer set(int i, Vector2 vec) {
+        float[][] v = vec.getVector();
+        return set(i, v[0][0], v[1][0]);
+    }
+
+    public Vector2Buffer set(int i, float vx, float vy) {
+        x[i] = vx;
+        y[i] = vy;
+        return this;
+    }
+
+    public Vector2Buffer add(Vector2Buffer other) {
+        return add(other, 0, size);
+    }
+
+    public Vector2Buffer add(Vector2Buffer other, int from, int to) {
+        checkRange(other, from, to);
+        float[] ox = other.x, oy = other.y;
+        for (int i = from; i < to; i++) {
+            x[i] += ox[i];
+            y[i] += oy[i];
+        }
+        return this;
+    }
+
+    public Vector2Buffer subtract(Vector2Buffer other) {
+        return subtract(other, 0, size);
+    }
+
+    public Vector2Buffer subtract(Vector2Buffer other, int from, int to) {
+        checkRange(other, from, to);
+        float[] ox = other.x, oy = other.y;
+        for (int i = from; i < to; i++) {
+            x[i] -= ox[i];
+            y[i] -= oy[i];
+        }
+        return this;
+    }
+
+    public Vector2Buffer multiply(float num) {
+        return multiply(num, 0, size);
+    }
+
+    public Vector2Buffer multiply(float num, int from, int to) {
+        checkRange(this, from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= num;
+            y[i] *= num;
+        }
+        return this;
+    }
+
+    public Vector2Buffer divide(float num) {
+        return divide(num, 0, size);
+    }
+
+    public Vector2Buffer divide(float num, int from, int to) {
+        checkRange(this, from, to);
+        for (int i = from; i < to; i++) {
+            x[i] /= num;
+            y[i] /= num;
+        }
+        return this;
+    }
+
+    public Vector2Buffer normalize() {
+        return normalize(0, size);
+    }
+
+    public Vector2Buffer normalize(int from, int to) {
+        checkRange(this, from, to);
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.NORMALIZE, to - from);
+        }
+        for (int i = from; i < to; i++) {
+            float vx = x[i], vy = y[i];
+            float inv = (float) (1.0 / Math.sqrt(vx * vx + vy * vy));
+            x[i] = vx * inv;
+            y[i] = vy * inv;
+        }
+        return this;
+    }
+
+    public float[] lengthSquared(float[] dest) {
+        return lengthSquared(dest, 0, size);
+    }
+
+    // dest[i] = |this[i]|²
+    public float[] lengthSquared(float[] dest, int from, int to) {
+        checkRange(this, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        for (int i = from; i < to; i++) {
+            dest[i] = x[i] * x[i] + y[i] * y[i];
+        }
+        return dest;
+    }
+
+    public float[] length(float[] dest) {
+        return length(dest, 0, size);
+    }
+
+    public float[] length(float[] dest, int from, int to) {
+        lengthSquared(dest, from, to);
+        for (int i = from; i < to; i++) {
+            dest[i] = (float) Math.sqrt(dest[i]);
+        }
+        return dest;
+    }
+
+    public float[] distanceSquared(Vector2Buffer other, float[] dest) {
+        return distanceSquared(other, dest, 0, size);
+    }
+
+    // dest[i] = |this[i] - other[i]|²
+    public float[] distanceSquared(Vector2Buffer other, float[] dest, int from, int to) {
+        checkRange(other, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        float[] ox = other.x, oy = other.y;
+        for (int i = from; i < to; i++) {
+            float dx = x[i] - ox[i], dy = y[i] - oy[i];
+            dest[i] = dx * dx + dy * dy;
+        }
+        return dest;
+    }
+
+    public float[] distance(Vector2Buffer other, float[] dest) {
+        return distance(other, dest, 0, size);
+    }
+
+    public float[] distance(Vector2Buffer other, float[] dest, int from, int to) {
+        distanceSquared(other, dest, from, to);
+        for (int i = from; i < to; i++) {
+            dest[i] = (float) Math.sqrt(dest[i]);
+        }
+        return dest;
+    }
+
+    public float[] scalarProduct(Vector2Buffer other, float[] dest) {
+        return scalarProduct(other, dest, 0, size);
+    }
+
+    // dest[i] = this[i] · other[i] для i из [from, to)
+    public float[] scalarProduct(Vector2Buffer other, float[] dest, int from, int to) {
+        checkRange(other, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        float[] ox = other.x, oy = other.y;
+        for (int i = from; i < to; i++) {
+            dest[i] = x[i] * ox[i] + y[i] * oy[i];
+        }
+        return dest;
+    }
+
+    public Vector2Buffer transform(Matrix3 mat) {
+        return transform(mat, 0, size);
+    }
+
+    // Векторы трактуются как точки (x, y, 1) на плоскости; последняя строка матрицы не используется
+    public Vector2Buffer transform(Matrix3 mat, int from, int to) {
+        checkRange(this, from, to);
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.TRANSFORM, to - from);
+        }
+        float m00 = mat.get(0, 0), m01 = mat.get(0, 1), m02 = mat.get(0, 2);
+        float m10 = mat.get(1, 0), m11 = mat.get(1, 1), m12 = mat.get(1, 2);
+        for (int i = from; i < to; i++) {
+            float vx = x[i], vy = y[i];
+            x[i] = m00 * vx + m01 * vy + m02;
+            y[i] = m10 * vx + m11 * vy + m12;
+        }
+        return this;
+    }
+
+    public float[] getX() {
+        return x;
+    }
+
+    public float[] getY() {
+        return y;
+    }
+
+    private void checkRange(Vector2Buffer other, int from, int to) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Буферы должны быть одного размера");
+        }
+        Objects.checkFromToIndex(from, to, size);
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+// Массив векторов вне кучи: упакованные тройки float (x, y, z) в MemorySegment.
+// Сегмент может быть выделен из Arena или отображён из файла; пакетные операции работают прямо по памяти.
+public class Vector3SegmentArray {
+    public static final long BYTES = 3 * Float.BYTES;
+
+    private final MemorySegment segment;
+    private final long size;
+    private final ValueLayout.OfFloat layout;
+
+    public Vector3SegmentArray(MemorySegment segment) {
+        this(segment, ByteOrder.nativeOrder());
+    }
+
+    // order — порядок байтов float в сегменте, например little-endian у файловых форматов
+    public Vector3SegmentArray(MemorySegment segment, ByteOrder order) {
+        if (segment.byteSize() % BYTES != 0) {
+            throw new IllegalArgumentException("Размер сегмента должен быть кратен " + BYTES + " байтам");
+        }
+        this.segment = segment;
+        this.size = segment.byteSize() / BYTES;
+        this.layout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(order);
+    }
+
+    public static Vector3SegmentArray allocate(Arena arena, long size) {
+        return new Vector3SegmentArray(arena.allocate(size * BYTES, Float.BYTES));
+    }
+
+    public static Vector3SegmentArray map(FileChannel channel, FileChannel.MapMode mode, long offset, long size, Arena arena) throws IOException {
+        return map(channel, mode, offset, size, arena, ByteOrder.nativeOrder());
+    }
+
+    public static Vector3SegmentArray map(FileChannel channel, FileChannel.MapMode mode, long offset, long size, Arena arena,
+                                          ByteOrder order) throws IOException {
+        return new Vector3SegmentArray(channel.map(mode, offset, size * BYTES, arena), order);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public ByteOrder order() {
+        return layout.order();
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public Vector3 get(long i, Vector3 dest) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        float[][] d = dest.getVector();
+        d[0][0] = segment.get(layout, offset);
+        d[1][0] = segment.get(layout, offset + 4);
+        d[2][0] = segment.get(layout, offset + 8);
+        return dest;
+    }
+
+    public Vector3SegmentArray set(long i, Vector3 vec) {
+        float[][] v = vec.getVector();
+        return set(i, v[0][0], v[1][0], v[2][0]);
+    }
+
+    public Vector3SegmentArray set(long i, float x, float y, float z) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        segment.set(layout, offset, x);
+        segment.set(layout, offset + 4, y);
+        segment.set(layout, offset + 8, z);
+        return this;
+    }
+
+    public Vector3SegmentArray normalize() {
+        return normalize(0, size);
+    }
+
+    public Vector3SegmentArray normalize(long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        MemorySegment s = segment;
+        ValueLayout.OfFloat f = layout;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            float x = s.get(f, offset);
+            float y = s.get(f, offset + 4);
+            float z = s.get(f, offset + 8);
+            float inv = (float) (1.0 / Math.sqrt(x * x + y * y + z * z));
+            s.set(f, offset, x * inv);
+            s.set(f, offset + 4, y * inv);
+            s.set(f, offset + 8, z * inv);
+        }
+        return this;
+    }
+
+    public Vector3SegmentArray transform(Matrix3 mat) {
+        return transform(mat, 0, size);
+    }
+
+    public Vector3SegmentArray transform(Matrix3 mat, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float m00 = mat.get(0, 0), m01 = mat.get(0, 1), m02 = mat.get(0, 2);
+        float m10 = mat.get(1, 0), m11 = mat.get(1, 1), m12 = mat.get(1, 2);
+        float m20 = mat.get(2, 0), m21 = mat.get(2, 1), m22 = mat.get(2, 2);
+        MemorySegment s = segment;
+        ValueLayout.OfFloat f = layout;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            float x = s.get(f, offset);
+            float y = s.get(f, offset + 4);
+            float z = s.get(f, offset + 8);
+            s.set(f, offset, m00 * x + m01 * y + m02 * z);
+            s.set(f, offset + 4, m10 * x + m11 * y + m12 * z);
+            s.set(f, offset + 8, m20 * x + m21 * y + m22 * z);
+        }
+        return this;
+    }
+
+    public Vector3SegmentArray transform(Matrix4 mat) {
+        return transform(mat, 0, size);
+    }
+
+    // Векторы трактуются как точки (x, y, z, 1), как в Vector3Buffer.transform(Matrix4)
+    public Vector3SegmentArray transform(Matrix4 mat, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float m00 = mat.get(0, 0), m01 = mat.get(0, 1), m02 = mat.get(0, 2), m03 = mat.get(0, 3);
+        float m10 = mat.get(1, 0), m11 = mat.get(1, 1), m12 = mat.get(1, 2), m13 = mat.get(1, 3);
+        float m20 = mat.get(2, 0), m21 = mat.get(2, 1), m22 = mat.get(2, 2), m23 = mat.get(2, 3);
+        MemorySegment s = segment;
+        ValueLayout.OfFloat f = layout;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            float x = s.get(f, offset);
+            float y = s.get(f, offset + 4);
+            float z = s.get(f, offset + 8);
+            s.set(f, offset, m00 * x + m01 * y + m02 * z + m03);
+            s.set(f, offset + 4, m10 * x + m11 * y + m12 * z + m13);
+            s.set(f, offset + 8, m20 * x + m21 * y + m22 * z + m23);
+        }
+        return this;
+    }
+}
@@ -1,10 +1,22 @@
 package io.github.artemboldirew.vector3d.core;
 
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 public class Vector4 {
     private static final int n = 4;
     private static final int m = 1;
     private float[][] vector;
 
+    public Vector4() {
+        this.vector = new float[][]{{0.0f}, {0.0f}, {0.0f}, {0.0f}};
+    }
+
     public Vector4(float[][] initialMatrix) {
         MathUtil.checkArray(initialMatrix, n, m);
         this.vector = initialMatrix;
@@ -33,15 +45,53 @@ public class Vector4 {
         return this;
     }
 
+    // Длина и расстояние считаются в double, чтобы квадраты очень больших и очень малых
+    // компонент не переполнялись и не обращались в ноль во float
     public float getLength() {
-        return (float) Math.pow(Math.pow(vector[0][0], 2) + Math.pow(vector[1][0], 2) + Math.pow(vector[2][0], 2) ,0.5);
+        return (float) length(this.vector);
+    }
+
+    // Как и getLength, учитывает только x, y, z
+    public float lengthSquared() {
+        return vector[0][0] * vector[0][0] + vector[1][0] * vector[1][0] + vector[2][0] * vector[2][0];
+    }
+
+    // Расстояние между точками (x, y, z); w не учитывается
+    public float distance(Vector4 vec) {
+        float[][] v = vec.vector;
+        double dx = (double) vector[0][0] - v[0][0];
+        double dy = (double) vector[1][0] - v[1][0];
+        double dz = (double) vector[2][0] - v[2][0];
+        return (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    public float distanceSquared(Vector4 vec) {
+        float[][] v = vec.vector;
+        float dx = vector[0][0] - v[0][0];
+        float dy = vector[1][0] - v[1][0];
+        float dz = vector[2][0] - v[2][0];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    // Полная длина с учётом w, для однородных координат
+    public float getLength4() {
+        double x = vector[0][0], y = vector[1][0], z = vector[2][0], w = vector[3][0];
+        return (float) Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public float lengthSquared4() {
+        return vector[0][0] * vector[0][0] + vector[1][0] * vector[1][0]
+                + vector[2][0] * vector[2][0] + vector[3][0] * vector[3][0];
     }
 
     public Vector4 normalize() {
-        float len = getLength();
-        this.vector[0][0] /= len;
-        this.vector[1][0] /= len;
-        this.vector[2][0] /= len;
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.NORMALIZE, 1);
+        }
+        double inv = 1.0 / length(this.vector);
+        this.vector[0][0] = (float) (this.vector[0][0] * inv);
+        this.vector[1][0] = (float) (this.vector[1][0] * inv);
+        this.vector[2][0] = (float) (this.vector[2][0] * inv);
         return this;
     }
 
@@ -51,6 +101,171 @@ public class Vector4 {
         return MathUtil.scalarArrayProduct(this.vector, vec.getVector());
     }
 
+    public static Vector4 add(Vector4 a, Vector4 b, Vector4 dest) {
+        float[][] x = a.vector;
+        float[][] y = b.vector;
+        float[][] d = dest.vector;
+        d[0][0] = x[0][0] + y[0][0];
+        d[1][0] = x[1][0] + y[1][0];
+        d[2][0] = x[2][0] + y[2][0];
+        d[3][0] = x[3][0] + y[3][0];
+        return dest;
+    }
+
+    public static Vector4 subtract(Vector4 a, Vector4 b, Vector4 dest) {
+        float[][] x = a.vector;
+        float[][] y = b.vector;
+        float[][] d = dest.vector;
+        d[0][0] = x[0][0] - y[0][0];
+        d[1][0] = x[1][0] - y[1][0];
+        d[2][0] = x[2][0] - y[2][0];
+        d[3][0] = x[3][0] - y[3][0];
+        return dest;
+    }
+
+    public static Vector4 multiply(Vector4 a, float num, Vector4 dest) {
+        float[][] x = a.vector;
+        float[][] d = dest.vector;
+        d[0][0] = x[0][0] * num;
+        d[1][0] = x[1][0] * num;
+        d[2][0] = x[2][0] * num;
+        d[3][0] = x[3][0] * num;
+        return dest;
+    }
+
+    public static Vector4 divide(Vector4 a, float num, Vector4 dest) {
+        float[][] x = a.vector;
+        float[][] d = dest.vector;
+        d[0][0] = x[0][0] / num;
+        d[1][0] = x[1][0] / num;
+        d[2][0] = x[2][0] / num;
+        d[3][0] = x[3][0] / num;
+        return dest;
+    }
+
+    public static Vector4 normalize(Vector4 a, Vector4 dest) {
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.NORMALIZE, 1);
+        }
+        float[][] x = a.vector;
+        double inv = 1.0 / length(x);
+        float[][] d = dest.vector;
+        d[0][0] = (float) (x[0][0] * inv);
+        d[1][0] = (float) (x[1][0] * inv);
+        d[2][0] = (float) (x[2][0] * inv);
+        d[3][0] = x[3][0];
+        return dest;
+    }
+
+    private static double length(float[][] v) {
+        double x = v[0][0];
+        double y = v[1][0];
+        double z = v[2][0];
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public Vector4 set(Vector4 vec) {
+        float[][] x = vec.vector;
+        this.vector[0][0] = x[0][0];
+        this.vector[1][0] = x[1][0];
+        this.vector[2][0] = x[2][0];
+        this.vector[3][0] = x[3][0];
+        return this;
+    }
+
+    // Запись в буфер по абсолютному индексу index; позиция буфера не меняется
+    public FloatBuffer get(FloatBuffer dest, int index) {
+        dest.put(index, vector[0][0]);
+        dest.put(index + 1, vector[1][0]);
+        dest.put(index + 2, vector[2][0]);
+        dest.put(index + 3, vector[3][0]);
+        return dest;
+    }
+
+    public Vector4 set(FloatBuffer src, int index) {
+        vector[0][0] = src.get(index);
+        vector[1][0] = src.get(index + 1);
+        vector[2][0] = src.get(index + 2);
+        vector[3][0] = src.get(index + 3);
+        return this;
+    }
+
+    // byteOffset в байтах; используется порядок байтов самого буфера
+    public ByteBuffer get(ByteBuffer dest, int byteOffset) {
+        dest.putFloat(byteOffset, vector[0][0]);
+        dest.putFloat(byteOffset + 1 * Float.BYTES, vector[1][0]);
+        dest.putFloat(byteOffset + 2 * Float.BYTES, vector[2][0]);
+        dest.putFloat(byteOffset + 3 * Float.BYTES, vector[3][0]);
+        return dest;
+    }
+
+    public Vector4 set(ByteBuffer src, int byteOffset) {
+        vector[0][0] = src.getFloat(byteOffset);
+        vector[1][0] = src.getFloat(byteOffset + 1 * Float.BYTES);
+        vector[2][0] = src.getFloat(byteOffset + 2 * Float.BYTES);
+        vector[3][0] = src.getFloat(byteOffset + 3 * Float.BYTES);
+        return this;
+    }
+
+    public MemorySegment get(MemorySegment dest, long byteOffset) {
+        dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset, vector[0][0]);
+        dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 1 * Float.BYTES, vector[1][0]);
+        dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 2 * Float.BYTES, vector[2][0]);
+        dest.set(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 3 * Float.BYTES, vector[3][0]);
+        return dest;
+    }
+
+    public Vector4 set(MemorySegment src, long byteOffset) {
+        vector[0][0] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset);
+        vector[1][0] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 1 * Float.BYTES);
+        vector[2][0] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 2 * Float.BYTES);
+        vector[3][0] = src.get(ValueLayout.JAVA_FLOAT_UNALIGNED, byteOffset + 3 * Float.BYTES);
+        return this;
+    }
+
+    // Пакетная запись: вектор i занимает 4 float начиная с index + 4 * i
+    public static FloatBuffer get(Vector4[] vecs, FloatBuffer dest, int index) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].get(dest, index + i * n);
+        }
+        return dest;
+    }
+
+    public static Vector4[] set(Vector4[] vecs, FloatBuffer src, int index) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].set(src, index + i * n);
+        }
+        return vecs;
+    }
+
+    public static ByteBuffer get(Vector4[] vecs, ByteBuffer dest, int byteOffset) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].get(dest, byteOffset + i * n * Float.BYTES);
+        }
+        return dest;
+    }
+
+    public static Vector4[] set(Vector4[] vecs, ByteBuffer src, int byteOffset) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].set(src, byteOffset + i * n * Float.BYTES);
+        }
+        return vecs;
+    }
+
+    public static MemorySegment get(Vector4[] vecs, MemorySegment dest, long byteOffset) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].get(dest, byteOffset + (long) i * n * Float.BYTES);
+        }
+        return dest;
+    }
+
+    public static Vector4[] set(Vector4[] vecs, MemorySegment src, long byteOffset) {
+        for (int i = 0; i < vecs.length; i++) {
+            vecs[i].set(src, byteOffset + (long) i * n * Float.BYTES);
+        }
+        return vecs;
+    }
+
     public float[][] getVector() {
         return vector;
     }
@@ -0,0 +1,253 @@
+package io.github.artemboldirew.vector3d.core;
+
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+
+import java.util.Objects;
+
+// Набор 4-компонентных векторов в виде структуры массивов, по аналогии с Vector3Buffer.
+// normalize, как и Vector4.normalize, нормирует только x, y, z и не меняет w.
+public class Vector4Buffer {
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final float[] w;
+    private final int size;
+
+    public Vector4Buffer(int size) {
+        this(new float[size], new float[size], new float[size], new float[size]);
+    }
+
+    public Vector4Buffer(float[] x, float[] y, float[] z, float[] w) {
+        if (x.length != y.length || x.length != z.length || x.length != w.length) {
+            throw new IllegalArgumentException("Массивы координат должны быть одной длины");
+        }
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        this.size = x.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Vector4 get(int i, Vector4 dest) {
+        float[][] d = dest.getVector();
+        d[0][0] = x[i];
+        d[1][0] = y[i];
+        d[2][0] = z[i];
+        d[3][0] = w[i];
+        return dest;
+    }
+
+    public Vector4Buffer set(int i, Vector4 vec) {
+        float[][] v = vec.getVector();
+        return set(i, v[0][0], v[1][0], v[2][0], v[3][0]);
+    }
+
+    public Vector4Buffer set(int i, float vx, float vy, float vz, float vw) {
+        x[i] = vx;
+        y[i] = vy;
+        z[i] = vz;
+        w[i] = vw;
+        return this;
+    }
+
+    public Vector4Buffer add(Vector4Buffer other) {
+        return add(other, 0, size);
+    }
+
+    public Vector4Buffer add(Vector4Buffer other, int from, int to) {
+        checkRange(other, from, to);
+        float[] ox = other.x, oy = other.y, oz = other.z, ow = other.w;
+        for (int i = from; i < to; i++) {
+            x[i] += ox[i];
+            y[i] += oy[i];
+            z[i] += oz[i];
+            w[i] += ow[i];
+        }
+        return this;
+    }
+
+    public Vector4Buffer subtract(Vector4Buffer other) {
+        return subtract(other, 0, size);
+    }
+
+    public Vector4Buffer subtract(Vector4Buffer other, int from, int to) {
+        checkRange(other, from, to);
+        float[] ox = other.x, oy = other.y, oz = other.z, ow = other.w;
+        for (int i = from; i < to; i++) {
+            x[i] -= ox[i];
+            y[i] -= oy[i];
+            z[i] -= oz[i];
+            w[i] -= ow[i];
+        }
+        return this;
+    }
+
+    public Vector4Buffer multiply(float num) {
+        return multiply(num, 0, size);
+    }
+
+    public Vector4Buffer multiply(float num, int from, int to) {
+        checkRange(this, from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= num;
+            y[i] *= num;
+            z[i] *= num;
+            w[i] *= num;
+        }
+        return this;
+    }
+
+    public Vector4Buffer divide(float num) {
+        return divide(num, 0, size);
+    }
+
+    public Vector4Buffer divide(float num, int from, int to) {
+        checkRange(this, from, to);
+        for (int i = from; i < to; i++) {
+            x[i] /= num;
+            y[i] /= num;
+            z[i] /= num;
+            w[i] /= num;
+        }
+        return this;
+    }
+
+    public Vector4Buffer normalize() {
+        return normalize(0, size);
+    }
+
+    public Vector4Buffer normalize(int from, int to) {
+        checkRange(this, from, to);
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.NORMALIZE, to - from);
+        }
+        for (int i = from; i < to; i++) {
+            float vx = x[i], vy = y[i], vz = z[i];
+            float inv = (float) (1.0 / Math.sqrt(vx * vx + vy * vy + vz * vz));
+            x[i] = vx * inv;
+            y[i] = vy * inv;
+            z[i] = vz * inv;
+        }
+        return this;
+    }
+
+    public float[] lengthSquared(float[] dest) {
+        return lengthSquared(dest, 0, size);
+    }
+
+    // dest[i] = |this[i]|², только по x, y, z, как Vector4.lengthSquared
+    public float[] lengthSquared(float[] dest, int from, int to) {
+        checkRange(this, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        for (int i = from; i < to; i++) {
+            dest[i] = x[i] * x[i] + y[i] * y[i] + z[i] * z[i];
+        }
+        return dest;
+    }
+
+    public float[] length(float[] dest) {
+        return length(dest, 0, size);
+    }
+
+    public float[] length(float[] dest, int from, int to) {
+        lengthSquared(dest, from, to);
+        for (int i = from; i < to; i++) {
+            dest[i] = (float) Math.sqrt(dest[i]);
+        }
+        return dest;
+    }
+
+    public float[] distanceSquared(Vector4Buffer other, float[] dest) {
+        return distanceSquared(other, dest, 0, size);
+    }
+
+    // dest[i] = |this[i] - other[i]|²
+    public float[] distanceSquared(Vector4Buffer other, float[] dest, int from, int to) {
+        checkRange(other, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        float[] ox = other.x, oy = other.y, oz = other.z;
+        for (int i = from; i < to; i++) {
+            float dx = x[i] - ox[i], dy = y[i] - oy[i], dz = z[i] - oz[i];
+            dest[i] = dx * dx + dy * dy + dz * dz;
+        }
+        return dest;
+    }
+
+    public float[] distance(Vector4Buffer other, float[] dest) {
+        return distance(other, dest, 0, size);
+    }
+
+    public float[] distance(Vector4Buffer other, float[] dest, int from, int to) {
+        distanceSquared(other, dest, from, to);
+        for (int i = from; i < to; i++) {
+            dest[i] = (float) Math.sqrt(dest[i]);
+        }
+        return dest;
+    }
+
+    public float[] scalarProduct(Vector4Buffer other, float[] dest) {
+        return scalarProduct(other, dest, 0, size);
+    }
+
+    // dest[i] = this[i] · other[i] для i из [from, to)
+    public float[] scalarProduct(Vector4Buffer other, float[] dest, int from, int to) {
+        checkRange(other, from, to);
+        Objects.checkFromToIndex(from, to, dest.length);
+        float[] ox = other.x, oy = other.y, oz = other.z, ow = other.w;
+        for (int i = from; i < to; i++) {
+            dest[i] = x[i] * ox[i] + y[i] * oy[i] + z[i] * oz[i] + w[i] * ow[i];
+        }
+        return dest;
+    }
+
+    public Vector4Buffer transform(Matrix4 mat) {
+        return transform(mat, 0, size);
+    }
+
+    public Vector4Buffer transform(Matrix4 mat, int from, int to) {
+        checkRange(this, from, to);
+        if (Metrics.ENABLED) {
+            Metrics.count(Operation.TRANSFORM, to - from);
+        }
+        float m00 = mat.get(0, 0), m01 = mat.get(0, 1), m02 = mat.get(0, 2), m03 = mat.get(0, 3);
+        float m10 = mat.get(1, 0), m11 = mat.get(1, 1), m12 = mat.get(1, 2), m13 = mat.get(1, 3);
+        float m20 = mat.get(2, 0), m21 = mat.get(2, 1), m22 = mat.get(2, 2), m23 = mat.get(2, 3);
+        float m30 = mat.get(3, 0), m31 = mat.get(3, 1), m32 = mat.get(3, 2), m33 = mat.get(3, 3);
+        for (int i = from; i < to; i++) {
+            float vx = x[i], vy = y[i], vz = z[i], vw = w[i];
+            x[i] = m00 * vx + m01 * vy + m02 * vz + m03 * vw;
+            y[i] = m10 * vx + m11 * vy + m12 * vz + m13 * vw;
+            z[i] = m20 * vx + m21 * vy + m22 * vz + m23 * vw;
+            w[i] = m30 * vx + m31 * vy + m32 * vz + m33 * vw;
+        }
+        return this;
+    }
+
+    public float[] getX() {
+        return x;
+    }
+
+    public float[] getY() {
+        return y;
+    }
+
+    public float[] getZ() {
+        return z;
+    }
+
+    public float[] getW() {
+        return w;
+    }
+
+    private void checkRange(Vector4Buffer other, int from, int to) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Буферы должны быть одного размера");
+        }
+        Objects.checkFromToIndex(from, to, size);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.artemboldirew.vector3d.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+// Массив векторов вне кучи: упакованные четвёрки float (x, y, z, w) в MemorySegment.
+public class Vector4SegmentArray {
+    public static final long BYTES = 4 * Float.BYTES;
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+
+    private final MemorySegment segment;
+    private final long size;
+
+    public Vector4SegmentArray(MemorySegment segment) {
+        if (segment.byteSize() % BYTES != 0) {
+            throw new IllegalArgumentException("Размер сегмента должен быть кратен " + BYTES + " байтам");
+        }
+        this.segment = segment;
+        this.size = segment.byteSize() / BYTES;
+    }
+
+    public static Vector4SegmentArray allocate(Arena arena, long size) {
+        return new Vector4SegmentArray(arena.allocate(size * BYTES, Float.BYTES));
+    }
+
+    public static Vector4SegmentArray map(FileChannel channel, FileChannel.MapMode mode, long offset, long size, Arena arena) throws IOException {
+        return new Vector4SegmentArray(channel.map(mode, offset, size * BYTES, arena));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public Vector4 get(long i, Vector4 dest) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        float[][] d = dest.getVector();
+        d[0][0] = segment.get(FLOAT, offset);
+        d[1][0] = segment.get(FLOAT, offset + 4);
+        d[2][0] = segment.get(FLOAT, offset + 8);
+        d[3][0] = segment.get(FLOAT, offset + 12);
+        return dest;
+    }
+
+    public Vector4SegmentArray set(long i, Vector4 vec) {
+        float[][] v = vec.getVector();
+        return set(i, v[0][0], v[1][0], v[2][0], v[3][0]);
+    }
+
+    public Vector4SegmentArray set(long i, float x, float y, float z, float w) {
+        Objects.checkIndex(i, size);
+        long offset = i * BYTES;
+        segment.set(FLOAT, offset, x);
+        segment.set(FLOAT, offset + 4, y);
+        segment.set(FLOAT, offset + 8, z);
+        segment.set(FLOAT, offset + 12, w);
+        return this;
+    }
+
+    // Как и Vector4.normalize, нормирует только x, y, z
+    public Vector4SegmentArray normalize() {
+        return normalize(0, size);
+    }
+
+    public Vector4SegmentArray normalize(long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        MemorySegment s = segment;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            float x = s.get(FLOAT, offset);
+            float y = s.get(FLOAT, offset + 4);
+            float z = s.get(FLOAT, offset + 8);
+            float inv = (float) (1.0 / Math.sqrt(x * x + y * y + z * z));
+            s.set(FLOAT, offset, x * inv);
+            s.set(FLOAT, offset + 4, y * inv);
+            s.set(FLOAT, offset + 8, z * inv);
+        }
+        return this;
+    }
+
+    // Пакетный аналог Matrix4.multiply(Vector4): каждый вектор заменяется на mat * v
+    public Vector4SegmentArray transform(Matrix4 mat) {
+        return transform(mat, 0, size);
+    }
+
+    public Vector4SegmentArray transform(Matrix4 mat, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float m00 = mat.get(0, 0), m01 = mat.get(0, 1), m02 = mat.get(0, 2), m03 = mat.get(0, 3);
+        float m10 = mat.get(1, 0), m11 = mat.get(1, 1), m12 = mat.get(1, 2), m13 = mat.get(1, 3);
+        float m20 = mat.get(2, 0), m21 = mat.get(2, 1), m22 = mat.get(2, 2), m23 = mat.get(2, 3);
+        float m30 = mat.get(3, 0), m31 = mat.get(3, 1), m32 = mat.get(3, 2), m33 = mat.get(3, 3);
+        MemorySegment s = segment;
+        for (long offset = from * BYTES, end = to * BYTES; offset < end; offset += BYTES) {
+            float x = s.get(FLOAT, offset);
+            float y = s.get(FLOAT, offset + 4);
+            float z = s.get(FLOAT, offset + 8);
+            float w = s.get(FLOAT, offset + 12);
+            s.set(FLOAT, offset, m00 * x + m01 * y + m02 * z + m03 * w);
+            s.set(FLOAT, offset + 4, m10 * x + m11 * y + m12 * z + m13 * w);
+            s.set(FLOAT, offset + 8, m20 * x + m21 * y + m22 * z + m23 * w);
+            s.set(FLOAT, offset + 12, m30 * x + m31 * y + m32 * z + m33 * w);
+        }
+        return this;
+    }
+}
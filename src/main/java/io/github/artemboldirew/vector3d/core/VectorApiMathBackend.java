@@ -0,0 +1,171 @@
+package io.github.artemboldirew.vector3d.core;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Бэкенд на jdk.incubator.vector. Произведения с 4 столбцами считаются одной группой
+// из 4 линий на строку результата, остальные — векторизованным внутренним циклом i-k-j.
+final class VectorApiMathBackend implements MathBackend {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> SPECIES_4 = FloatVector.SPECIES_128;
+
+    private final ScalarMathBackend scalar = new ScalarMathBackend();
+
+    @Override
+    public void multiply(float[][] a, float[][] b, float[][] result) {
+        int aCols = a[0].length;
+        int bCols = b[0].length;
+        if (aCols == 4 && bCols == 4) {
+            multiply4(a, b, result);
+            return;
+        }
+        if (bCols < SPECIES.length()) {
+            // Узкий результат (в том числе умножение на столбец): векторным линиям не хватает данных
+            scalar.multiply(a, b, result);
+            return;
+        }
+
+        int upper = SPECIES.loopBound(bCols);
+        for (int i = 0; i < a.length; i++) {
+            float[] ai = a[i];
+            float[] ri = result[i];
+            for (int k = 0; k < aCols; k++) {
+                float aik = ai[k];
+                float[] bk = b[k];
+                FloatVector va = FloatVector.broadcast(SPECIES, aik);
+                int j = 0;
+                for (; j < upper; j += SPECIES.length()) {
+                    FloatVector vb = FloatVector.fromArray(SPECIES, bk, j);
+                    FloatVector vr = FloatVector.fromArray(SPECIES, ri, j);
+                    vb.fma(va, vr).intoArray(ri, j);
+                }
+                for (; j < bCols; j++) {
+                    ri[j] += aik * bk[j];
+                }
+            }
+        }
+    }
+
+    private static void multiply4(float[][] a, float[][] b, float[][] result) {
+        FloatVector b0 = FloatVector.fromArray(SPECIES_4, b[0], 0);
+        FloatVector b1 = FloatVector.fromArray(SPECIES_4, b[1], 0);
+        FloatVector b2 = FloatVector.fromArray(SPECIES_4, b[2], 0);
+        FloatVector b3 = FloatVector.fromArray(SPECIES_4, b[3], 0);
+        for (int i = 0; i < a.length; i++) {
+            float[] ai = a[i];
+            b0.mul(ai[0])
+                    .add(b1.mul(ai[1]))
+                    .add(b2.mul(ai[2]))
+                    .add(b3.mul(ai[3]))
+                    .intoArray(result[i], 0);
+        }
+    }
+
+    @Override
+    public void add(float[][] arr1, float[][] arr2) {
+        int cols = arr1[0].length;
+        if (cols < SPECIES.length()) {
+            scalar.add(arr1, arr2);
+            return;
+        }
+        int upper = SPECIES.loopBound(cols);
+        for (int i = 0; i < arr1.length; i++) {
+            float[] r1 = arr1[i];
+            float[] r2 = arr2[i];
+            int j = 0;
+            for (; j < upper; j += SPECIES.length()) {
+                FloatVector.fromArray(SPECIES, r1, j).add(FloatVector.fromArray(SPECIES, r2, j)).intoArray(r1, j);
+            }
+            for (; j < cols; j++) {
+                r1[j] = r1[j] + r2[j];
+            }
+        }
+    }
+
+    @Override
+    public void subtract(float[][] arr1, float[][] arr2) {
+        int cols = arr1[0].length;
+        if (cols < SPECIES.length()) {
+            scalar.subtract(arr1, arr2);
+            return;
+        }
+        int upper = SPECIES.loopBound(cols);
+        for (int i = 0; i < arr1.length; i++) {
+            float[] r1 = arr1[i];
+            float[] r2 = arr2[i];
+            int j = 0;
+            for (; j < upper; j += SPECIES.length()) {
+                FloatVector.fromArray(SPECIES, r1, j).sub(FloatVector.fromArray(SPECIES, r2, j)).intoArray(r1, j);
+            }
+            for (; j < cols; j++) {
+                r1[j] = r1[j] - r2[j];
+            }
+        }
+    }
+
+    @Override
+    public void multiplyByNum(float[][] arr, float num) {
+        int cols = arr[0].length;
+        if (cols < SPECIES.length()) {
+            scalar.multiplyByNum(arr, num);
+            return;
+        }
+        int upper = SPECIES.loopBound(cols);
+        for (int i = 0; i < arr.length; i++) {
+            float[] r = arr[i];
+            int j = 0;
+            for (; j < upper; j += SPECIES.length()) {
+                FloatVector.fromArray(SPECIES, r, j).mul(num).intoArray(r, j);
+            }
+            for (; j < cols; j++) {
+                r[j] = r[j] * num;
+            }
+        }
+    }
+
+    @Override
+    public void divideByNum(float[][] arr, float num) {
+        int cols = arr[0].length;
+        if (cols < SPECIES.length()) {
+            scalar.divideByNum(arr, num);
+            return;
+        }
+        int upper = SPECIES.loopBound(cols);
+        for (int i = 0; i < arr.length; i++) {
+            float[] r = arr[i];
+            int j = 0;
+            for (; j < upper; j += SPECIES.length()) {
+                FloatVector.fromArray(SPECIES, r, j).div(num).intoArray(r, j);
+            }
+            for (; j < cols; j++) {
+                r[j] = r[j] / num;
+            }
+        }
+    }
+
+    @Override
+    public float scalarProduct(float[][] arr1, float[][] arr2) {
+        // Столбцы n×1 лежат в разных строках, непрерывного участка для загрузки в вектор нет
+        return scalar.scalarProduct(arr1, arr2);
+    }
+
+    @Override
+    public void axpy(float alpha, float[] x, int xOff, float[] y, int yOff, int len) {
+        FloatVector va = FloatVector.broadcast(SPECIES, alpha);
+        int upper = SPECIES.loopBound(len);
+        int j = 0;
+        for (; j < upper; j += SPECIES.length()) {
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, xOff + j);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, yOff + j);
+            vx.fma(va, vy).intoArray(y, yOff + j);
+        }
+        for (; j < len; j++) {
+            y[yOff + j] += alpha * x[xOff + j];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-api/" + SPECIES.vectorBitSize();
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.artemboldirew.vector3d.io;
+
+import io.github.artemboldirew.vector3d.core.Vector3SegmentArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Простой двоичный формат вершин (little-endian):
+//   заголовок, HEADER_BYTES байт: magic "V3DM", version, flags, резерв, vertexCount (long);
+//   позиции: vertexCount троек float (x, y, z) подряд;
+//   нормали (если установлен FLAG_NORMALS): ещё vertexCount троек float.
+// Файл обрабатывается фрагментами по chunkVertices вершин: каждый фрагмент отображается через
+// FileChannel.map в собственную Arena и закрывается сразу после обработки, поэтому объём
+// отображённой памяти ограничен размером фрагмента, а не размером файла. Фрагменты читаются
+// и пишутся как little-endian на любой платформе.
+public final class MeshFile {
+    public static final int MAGIC = 'V' | '3' << 8 | 'D' << 16 | 'M' << 24;
+    public static final int VERSION = 1;
+    public static final int FLAG_NORMALS = 1;
+    public static final int HEADER_BYTES = 24;
+    public static final int DEFAULT_CHUNK_VERTICES = 1 << 20;
+
+    private final Path path;
+    private final long vertexCount;
+    private final boolean hasNormals;
+
+    private MeshFile(Path path, long vertexCount, boolean hasNormals) {
+        this.path = path;
+        this.vertexCount = vertexCount;
+        this.hasNormals = hasNormals;
+    }
+
+    // Создаёт (или перезаписывает) файл нужного размера; данные заполняются через write
+    public static MeshFile create(Path path, long vertexCount, boolean hasNormals) throws IOException {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Число вершин не может быть отрицательным");
+        }
+        MeshFile file = new MeshFile(path, vertexCount, hasNormals);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(hasNormals ? FLAG_NORMALS : 0).putInt(0).putLong(vertexCount);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            long size = file.fileSize();
+            if (size > HEADER_BYTES) {
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+        }
+        return file;
+    }
+
+    public static MeshFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new EOFException("Файл короче заголовка: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Неизвестный формат файла: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Неподдерживаемая версия формата " + version + ": " + path);
+            }
+            int flags = header.getInt();
+            header.getInt();
+            long vertexCount = header.getLong();
+            if (vertexCount < 0) {
+                throw new IOException("Повреждённый заголовок: " + path);
+            }
+            MeshFile file = new MeshFile(path, vertexCount, (flags & FLAG_NORMALS) != 0);
+            if (channel.size() < file.fileSize()) {
+                throw new EOFException("Файл короче, чем указано в заголовке: " + path);
+            }
+            return file;
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long vertexCount() {
+        return vertexCount;
+    }
+
+    public boolean hasNormals() {
+        return hasNormals;
+    }
+
+    public long fileSize() {
+        return HEADER_BYTES + vertexCount * Vector3SegmentArray.BYTES * (hasNormals ? 2 : 1);
+    }
+
+    // Только чтение: запись в массивы внутри stage приведёт к исключению
+    public void read(MeshStage stage) throws IOException {
+        read(DEFAULT_CHUNK_VERTICES, stage);
+    }
+
+    public void read(int chunkVertices, MeshStage stage) throws IOException {
+        process(chunkVertices, stage, FileChannel.MapMode.READ_ONLY);
+    }
+
+    // Чтение и запись на месте: изменения фрагмента попадают в файл
+    public void write(MeshStage stage) throws IOException {
+        write(DEFAULT_CHUNK_VERTICES, stage);
+    }
+
+    public void write(int chunkVertices, MeshStage stage) throws IOException {
+        process(chunkVertices, stage, FileChannel.MapMode.READ_WRITE);
+    }
+
+    private void process(int chunkVertices, MeshStage stage, FileChannel.MapMode mode) throws IOException {
+        if (chunkVertices < 1) {
+            throw new IllegalArgumentException("Размер фрагмента должен быть положительным");
+        }
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        long normalsOffset = HEADER_BYTES + vertexCount * Vector3SegmentArray.BYTES;
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            for (long first = 0; first < vertexCount; first += chunkVertices) {
+                long count = Math.min(chunkVertices, vertexCount - first);
+                try (Arena arena = Arena.ofConfined()) {
+                    Vector3SegmentArray positions = Vector3SegmentArray.map(channel, mode,
+                            HEADER_BYTES + first * Vector3SegmentArray.BYTES, count, arena, ByteOrder.LITTLE_ENDIAN);
+                    Vector3SegmentArray normals = hasNormals
+                            ? Vector3SegmentArray.map(channel, mode, normalsOffset + first * Vector3SegmentArray.BYTES, count, arena,
+                                    ByteOrder.LITTLE_ENDIAN)
+                            : null;
+                    stage.apply(first, positions, normals);
+                }
+            }
+        }
+    }
+}
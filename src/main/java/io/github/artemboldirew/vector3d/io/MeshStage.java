@@ -0,0 +1,41 @@
+package io.github.artemboldirew.vector3d.io;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3SegmentArray;
+
+// Обработка одного фрагмента сетки, отображённого из MeshFile. first — индекс первой вершины
+// фрагмента в файле; normals равен null, если в файле нет нормалей. Массивы действительны
+// только во время вызова: после него отображение закрывается.
+@FunctionalInterface
+public interface MeshStage {
+    void apply(long first, Vector3SegmentArray positions, Vector3SegmentArray normals);
+
+    default MeshStage andThen(MeshStage next) {
+        return (first, positions, normals) -> {
+            apply(first, positions, normals);
+            next.apply(first, positions, normals);
+        };
+    }
+
+    // Позиции как точки (x, y, z, 1)
+    static MeshStage transformPositions(Matrix4 mat) {
+        return (first, positions, normals) -> positions.transform(mat);
+    }
+
+    static MeshStage transformNormals(Matrix3 mat) {
+        return (first, positions, normals) -> {
+            if (normals != null) {
+                normals.transform(mat);
+            }
+        };
+    }
+
+    static MeshStage normalizeNormals() {
+        return (first, positions, normals) -> {
+            if (normals != null) {
+                normals.normalize();
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.artemboldirew.vector3d.io;
+
+import io.github.artemboldirew.vector3d.core.Vector2Buffer;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+
+// Результат ObjParser: вершинные атрибуты в SoA-буферах и треугольники в плоских массивах индексов.
+// Треугольник t использует элементы [3 * t, 3 * t + 3) каждого массива индексов; индексы с нуля,
+// -1 — атрибут для вершины не задан. Многоугольники разбиты веером от первой вершины.
+public final class ObjMesh {
+    private final Vector3Buffer positions;
+    private final Vector2Buffer texCoords;
+    private final Vector3Buffer normals;
+    private final int[] positionIndices;
+    private final int[] texCoordIndices;
+    private final int[] normalIndices;
+
+    ObjMesh(Vector3Buffer positions, Vector2Buffer texCoords, Vector3Buffer normals,
+            int[] positionIndices, int[] texCoordIndices, int[] normalIndices) {
+        this.positions = positions;
+        this.texCoords = texCoords;
+        this.normals = normals;
+        this.positionIndices = positionIndices;
+        this.texCoordIndices = texCoordIndices;
+        this.normalIndices = normalIndices;
+    }
+
+    public Vector3Buffer getPositions() {
+        return positions;
+    }
+
+    public Vector2Buffer getTexCoords() {
+        return texCoords;
+    }
+
+    public Vector3Buffer getNormals() {
+        return normals;
+    }
+
+    public int getTriangleCount() {
+        return positionIndices.length / 3;
+    }
+
+    public int[] getPositionIndices() {
+        return positionIndices;
+    }
+
+    public int[] getTexCoordIndices() {
+        return texCoordIndices;
+    }
+
+    public int[] getNormalIndices() {
+        return normalIndices;
+    }
+}
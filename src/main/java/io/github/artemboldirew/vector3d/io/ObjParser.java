@@ -0,0 +1,395 @@
+package io.github.artemboldirew.vector3d.io;
+
+import io.github.artemboldirew.vector3d.core.Vector2Buffer;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+// Потоковый разбор Wavefront OBJ: поддерживаются v, vt, vn и f (v, v/vt, v//vn, v/vt/vn,
+// отрицательные индексы), остальные строки пропускаются. Файл отображается в память и делится
+// на фрагменты по границам строк. Первый параллельный проход только считает элементы в каждом
+// фрагменте; по префиксным суммам каждый фрагмент получает своё место в итоговых массивах,
+// и второй параллельный проход пишет числа прямо туда, без промежуточных строк и объектов.
+public final class ObjParser {
+    private static final long MIN_CHUNK_BYTES = 1 << 16;
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final ForkJoinPool pool;
+
+    public ObjParser() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ObjParser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ObjMesh parse(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena arena = Arena.ofShared()) {
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena));
+        }
+    }
+
+    // Некорректные данные приводят к IllegalArgumentException со смещением в байтах
+    public ObjMesh parse(MemorySegment data) {
+        long[] bounds = split(data);
+        int chunks = bounds.length - 1;
+        Chunk[] parts = new Chunk[chunks];
+        run(chunks, i -> parts[i] = count(data, bounds[i], bounds[i + 1]));
+
+        int v = 0, vt = 0, vn = 0, tris = 0;
+        for (Chunk part : parts) {
+            part.positionBase = v;
+            part.texCoordBase = vt;
+            part.normalBase = vn;
+            part.triangleBase = tris;
+            v = Math.addExact(v, part.positions);
+            vt = Math.addExact(vt, part.texCoords);
+            vn = Math.addExact(vn, part.normals);
+            tris = Math.addExact(tris, part.triangles);
+        }
+        int indices = Math.multiplyExact(tris, 3);
+        Vector3Buffer positions = new Vector3Buffer(v);
+        Vector2Buffer texCoords = new Vector2Buffer(vt);
+        Vector3Buffer normals = new Vector3Buffer(vn);
+        int[] positionIndices = new int[indices];
+        int[] texCoordIndices = new int[indices];
+        int[] normalIndices = new int[indices];
+        ObjMesh mesh = new ObjMesh(positions, texCoords, normals, positionIndices, texCoordIndices, normalIndices);
+        run(chunks, i -> fill(new Cursor(data, bounds[i], bounds[i + 1]), parts[i], mesh));
+        return mesh;
+    }
+
+    // Границы фрагментов — начала строк; для маленьких файлов один фрагмент
+    private long[] split(MemorySegment data) {
+        long size = data.byteSize();
+        int chunks = (int) Math.max(1, Math.min(pool.getParallelism() * 4L, size / MIN_CHUNK_BYTES));
+        long[] bounds = new long[chunks + 1];
+        int count = 1;
+        for (int i = 1; i < chunks; i++) {
+            long p = Math.max(size * i / chunks, bounds[count - 1]);
+            while (p < size && data.get(BYTE, p - 1) != '\n') {
+                p++;
+            }
+            if (p > bounds[count - 1] && p < size) {
+                bounds[count++] = p;
+            }
+        }
+        bounds[count++] = size;
+        return count == bounds.length ? bounds : Arrays.copyOf(bounds, count);
+    }
+
+    private void run(int tasks, IntConsumer action) {
+        if (tasks == 1) {
+            action.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(pool.submit(() -> action.accept(index)));
+        }
+        for (ForkJoinTask<?> future : futures) {
+            future.join();
+        }
+    }
+
+    private static Chunk count(MemorySegment data, long from, long to) {
+        Chunk chunk = new Chunk();
+        Cursor c = new Cursor(data, from, to);
+        while (c.pos < to) {
+            c.skipBlanks();
+            int kind = c.keyword();
+            switch (kind) {
+                case 'v' -> chunk.positions++;
+                case 't' -> chunk.texCoords++;
+                case 'n' -> chunk.normals++;
+                case 'f' -> {
+                    int corners = 0;
+                    while (true) {
+                        c.skipBlanks();
+                        if (c.atLineEnd()) {
+                            break;
+                        }
+                        corners++;
+                        c.skipToken();
+                    }
+                    chunk.triangles += Math.max(0, corners - 2);
+                }
+                default -> {
+                }
+            }
+            c.nextLine();
+        }
+        return chunk;
+    }
+
+    private static void fill(Cursor c, Chunk chunk, ObjMesh mesh) {
+        float[] px = mesh.getPositions().getX(), py = mesh.getPositions().getY(), pz = mesh.getPositions().getZ();
+        float[] tu = mesh.getTexCoords().getX(), tv = mesh.getTexCoords().getY();
+        float[] nx = mesh.getNormals().getX(), ny = mesh.getNormals().getY(), nz = mesh.getNormals().getZ();
+        int[] pi = mesh.getPositionIndices(), ti = mesh.getTexCoordIndices(), ni = mesh.getNormalIndices();
+        int positionCount = mesh.getPositions().size();
+        int texCoordCount = mesh.getTexCoords().size();
+        int normalCount = mesh.getNormals().size();
+
+        int v = chunk.positionBase, vt = chunk.texCoordBase, vn = chunk.normalBase;
+        int out = chunk.triangleBase * 3;
+        while (c.pos < c.end) {
+            c.skipBlanks();
+            switch (c.keyword()) {
+                case 'v' -> {
+                    px[v] = c.nextFloat();
+                    py[v] = c.nextFloat();
+                    pz[v] = c.nextFloat();
+                    v++;
+                }
+                case 't' -> {
+                    tu[vt] = c.nextFloat();
+                    // Вторая координата в OBJ необязательна
+                    c.skipBlanks();
+                    tv[vt] = c.atLineEnd() ? 0.0f : c.nextFloat();
+                    vt++;
+                }
+                case 'n' -> {
+                    nx[vn] = c.nextFloat();
+                    ny[vn] = c.nextFloat();
+                    nz[vn] = c.nextFloat();
+                    vn++;
+                }
+                case 'f' -> {
+                    int corners = 0;
+                    int p0 = 0, t0 = 0, n0 = 0, p1 = 0, t1 = 0, n1 = 0;
+                    while (true) {
+                        c.skipBlanks();
+                        if (c.atLineEnd()) {
+                            break;
+                        }
+                        int p = c.resolve(c.nextInt(), v, positionCount);
+                        int t = -1, n = -1;
+                        if (c.consume('/')) {
+                            if (c.peek() != '/') {
+                                t = c.resolve(c.nextInt(), vt, texCoordCount);
+                            }
+                            if (c.consume('/')) {
+                                n = c.resolve(c.nextInt(), vn, normalCount);
+                            }
+                        }
+                        if (corners == 0) {
+                            p0 = p;
+                            t0 = t;
+                            n0 = n;
+                        } else if (corners >= 2) {
+                            pi[out] = p0;
+                            ti[out] = t0;
+                            ni[out++] = n0;
+                            pi[out] = p1;
+                            ti[out] = t1;
+                            ni[out++] = n1;
+                            pi[out] = p;
+                            ti[out] = t;
+                            ni[out++] = n;
+                        }
+                        p1 = p;
+                        t1 = t;
+                        n1 = n;
+                        corners++;
+                    }
+                }
+                default -> {
+                }
+            }
+            c.nextLine();
+        }
+    }
+
+    private static final class Chunk {
+        int positions;
+        int texCoords;
+        int normals;
+        int triangles;
+        int positionBase;
+        int texCoordBase;
+        int normalBase;
+        int triangleBase;
+    }
+
+    // Разбор одной строки за другой в диапазоне [pos, end) сегмента
+    private static final class Cursor {
+        private final MemorySegment data;
+        private final long end;
+        private long pos;
+
+        Cursor(MemorySegment data, long from, long to) {
+            this.data = data;
+            this.pos = from;
+            this.end = to;
+        }
+
+        private int peek() {
+            return pos < end ? data.get(BYTE, pos) : '\n';
+        }
+
+        private static boolean isBlank(int c) {
+            return c == ' ' || c == '\t' || c == '\r';
+        }
+
+        void skipBlanks() {
+            while (pos < end && isBlank(data.get(BYTE, pos))) {
+                pos++;
+            }
+        }
+
+        boolean atLineEnd() {
+            return peek() == '\n';
+        }
+
+        boolean consume(char expected) {
+            if (peek() == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipToken() {
+            while (pos < end) {
+                byte b = data.get(BYTE, pos);
+                if (b == '\n' || isBlank(b)) {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        void nextLine() {
+            while (pos < end && data.get(BYTE, pos++) != '\n') {
+                // пропуск до конца строки
+            }
+        }
+
+        // 'v', 't' (vt), 'n' (vn), 'f' или 0 для прочих строк; курсор остаётся после ключевого слова
+        int keyword() {
+            int first = peek();
+            if (first == 'v' || first == 'f') {
+                long start = pos;
+                pos++;
+                int kind = first;
+                if (first == 'v' && (peek() == 't' || peek() == 'n')) {
+                    kind = peek();
+                    pos++;
+                }
+                if (isBlank(peek())) {
+                    return kind;
+                }
+                pos = start;
+            }
+            return 0;
+        }
+
+        float nextFloat() {
+            skipBlanks();
+            long start = pos;
+            boolean negative = false;
+            if (peek() == '-' || peek() == '+') {
+                negative = data.get(BYTE, pos++) == '-';
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean any = false;
+            int b;
+            while ((b = peek()) >= '0' && b <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                } else {
+                    exponent++;
+                }
+                any = true;
+                pos++;
+            }
+            if (b == '.') {
+                pos++;
+                while ((b = peek()) >= '0' && b <= '9') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (b - '0');
+                        if (mantissa != 0) {
+                            digits++;
+                        }
+                        exponent--;
+                    }
+                    any = true;
+                    pos++;
+                }
+            }
+            if (!any) {
+                throw error("ожидалось число", start);
+            }
+            if (b == 'e' || b == 'E') {
+                pos++;
+                exponent += nextInt();
+            }
+            double value = mantissa;
+            if (exponent < 0) {
+                value = -exponent < POW10.length ? value / POW10[-exponent] : value / Math.pow(10, -exponent);
+            } else if (exponent > 0) {
+                value = exponent < POW10.length ? value * POW10[exponent] : value * Math.pow(10, exponent);
+            }
+            return (float) (negative ? -value : value);
+        }
+
+        int nextInt() {
+            long start = pos;
+            boolean negative = false;
+            if (peek() == '-' || peek() == '+') {
+                negative = data.get(BYTE, pos++) == '-';
+            }
+            long value = 0;
+            int b;
+            while ((b = peek()) >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                if (value > Integer.MAX_VALUE) {
+                    throw error("слишком большое число", start);
+                }
+                pos++;
+            }
+            if (pos == start || (negative || data.get(BYTE, start) == '+') && pos == start + 1) {
+                throw error("ожидалось целое число", start);
+            }
+            return (int) (negative ? -value : value);
+        }
+
+        // Индекс OBJ (с 1 или отрицательный от текущего конца) в индекс с нуля
+        int resolve(int index, int current, int total) {
+            int resolved = index > 0 ? index - 1 : current + index;
+            if (index == 0 || resolved < 0 || resolved >= total) {
+                throw error("индекс " + index + " вне диапазона", pos);
+            }
+            return resolved;
+        }
+
+        IllegalArgumentException error(String message, long offset) {
+            return new IllegalArgumentException("Некорректный OBJ: " + message + " (смещение " + offset + ")");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.artemboldirew.vector3d.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Событие JFR для пакетной операции. Длительность и поток JFR записывает сам (begin/end, eventThread).
+// По умолчанию выключено; включается в настройках записи, например
+// jfr configure io.github.artemboldirew.vector3d.BatchOperation#enabled=true.
+@Name("io.github.artemboldirew.vector3d.BatchOperation")
+@Label("Batch Operation")
+@Category({"Vector3D"})
+@Description("Пакетная операция над векторами или матрицами")
+@StackTrace(false)
+public final class BatchOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements")
+    long elements;
+
+    BatchOperationEvent() {
+    }
+}
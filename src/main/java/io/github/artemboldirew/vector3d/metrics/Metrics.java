@@ -0,0 +1,78 @@
+package io.github.artemboldirew.vector3d.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Необязательная инструментация горячих путей: счётчики вызовов и элементов по типам операций
+// на LongAdder (полосатые, без общей точки конкуренции) и события JFR BatchOperationEvent
+// для пакетных операций. Включается свойством -Dvector3d.metrics=true при старте JVM.
+// ENABLED — static final, поэтому JIT сворачивает проверку в точке вызова как константу:
+// в выключенном состоянии код инструментации из скомпилированного метода удаляется, а сама
+// точка вызова — пара инструкций байткода под условием и на решения об инлайнинге не влияет.
+// Точки вызова выглядят так:
+//     if (Metrics.ENABLED) { Metrics.count(Operation.NORMALIZE, 1); }
+// и для пакетных операций:
+//     BatchOperationEvent event = Metrics.ENABLED ? Metrics.begin() : null;
+//     ...
+//     if (event != null) { Metrics.end(event, Operation.BATCH, size); }
+public final class Metrics {
+    public static final String PROPERTY = "vector3d.metrics";
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final int OPERATIONS = Operation.values().length;
+    private static final LongAdder[] CALLS = adders();
+    private static final LongAdder[] ELEMENTS = adders();
+
+    private Metrics() {
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] result = new LongAdder[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    public static void count(Operation operation, long elements) {
+        int i = operation.ordinal();
+        CALLS[i].increment();
+        ELEMENTS[i].add(elements);
+    }
+
+    // Начало пакетной операции; объект события не уходит из метода вызывающего и обычно
+    // устраняется escape-анализом
+    public static BatchOperationEvent begin() {
+        BatchOperationEvent event = new BatchOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    // Конец пакетной операции: счётчики и, если событие включено в записи JFR и прошло порог, commit
+    public static void end(BatchOperationEvent event, Operation operation, long elements) {
+        count(operation, elements);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.elements = elements;
+            event.commit();
+        }
+    }
+
+    public static MetricsSnapshot snapshot() {
+        long[] calls = new long[OPERATIONS];
+        long[] elements = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            calls[i] = CALLS[i].sum();
+            elements[i] = ELEMENTS[i].sum();
+        }
+        return new MetricsSnapshot(calls, elements);
+    }
+
+    // Обнуляет счётчики; операции, идущие в это время в других потоках, могут попасть в любую сторону
+    public static void reset() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            CALLS[i].reset();
+            ELEMENTS[i].reset();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.artemboldirew.vector3d.metrics;
+
+import java.util.Arrays;
+
+// Значения счётчиков Metrics на момент снимка. Счётчики читаются по одному без блокировки,
+// поэтому при параллельной работе снимок не атомарен как целое.
+public final class MetricsSnapshot {
+    private final long[] calls;
+    private final long[] elements;
+
+    MetricsSnapshot(long[] calls, long[] elements) {
+        this.calls = calls;
+        this.elements = elements;
+    }
+
+    public long getCalls(Operation operation) {
+        return calls[operation.ordinal()];
+    }
+
+    public long getElements(Operation operation) {
+        return elements[operation.ordinal()];
+    }
+
+    // Разность с более ранним снимком: сколько операций прошло между ними
+    public MetricsSnapshot since(MetricsSnapshot earlier) {
+        long[] c = calls.clone();
+        long[] e = elements.clone();
+        for (int i = 0; i < c.length; i++) {
+            c[i] -= earlier.calls[i];
+            e[i] -= earlier.elements[i];
+        }
+        return new MetricsSnapshot(c, e);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MetricsSnapshot{");
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(operations[i]).append('=').append(calls[i]).append('/').append(elements[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MetricsSnapshot other)) {
+            return false;
+        }
+        return Arrays.equals(calls, other.calls) && Arrays.equals(elements, other.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(calls) + Arrays.hashCode(elements);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.artemboldirew.vector3d.metrics;
+
+// Типы операций, которые считает Metrics. Смысл числа элементов у каждого типа свой — он указан в комментарии.
+public enum Operation {
+    // Произведение матриц: элементы — ячейки результата
+    MATRIX_MULTIPLY,
+    // MathUtil.transposeMatrix: ячейки результата
+    MATRIX_TRANSPOSE,
+    // Поэлементные addArrays, substractArrays, multiplyByNum, divideByNum: ячейки массива
+    ARRAY_ARITHMETIC,
+    // MathUtil.scalarArrayProduct: ячейки массива
+    SCALAR_PRODUCT,
+    // Нормализация одиночных векторов и буферов: векторы
+    NORMALIZE,
+    // Матричное преобразование буферов векторов: векторы
+    TRANSFORM,
+    // Новые массивы результатов в MathUtil: выделенные float
+    ALLOCATION,
+    // Диапазоны BatchTransformEngine.run: элементы диапазона
+    BATCH
+}
@@ -0,0 +1,61 @@
+package io.github.artemboldirew.vector3d.render;
+
+import java.util.Arrays;
+
+// Буфер кадра для Rasterizer: цвет ARGB и глубина в [0, 1], по строкам сверху вниз,
+// пиксель (x, y) лежит по индексу y * width + x.
+public final class FrameBuffer {
+    private final int width;
+    private final int height;
+    private final int[] colors;
+    private final float[] depths;
+
+    public FrameBuffer(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Размеры буфера кадра должны быть положительными");
+        }
+        this.width = width;
+        this.height = height;
+        this.colors = new int[width * height];
+        this.depths = new float[width * height];
+        clear(0, 1.0f);
+    }
+
+    public FrameBuffer clear(int color, float depth) {
+        Arrays.fill(colors, color);
+        Arrays.fill(depths, depth);
+        return this;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getColor(int x, int y) {
+        return colors[index(x, y)];
+    }
+
+    public float getDepth(int x, int y) {
+        return depths[index(x, y)];
+    }
+
+    // Живые массивы буфера, без копирования
+    public int[] getColors() {
+        return colors;
+    }
+
+    public float[] getDepths() {
+        return depths;
+    }
+
+    private int index(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IndexOutOfBoundsException("Пиксель (" + x + ", " + y + ") вне буфера " + width + "x" + height);
+        }
+        return y * width + x;
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.artemboldirew.vector3d.render;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.core.Vector4Buffer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+// Программный растеризатор треугольников с тестом глубины. Конвейер:
+// 1) вершины (x, y, z, 1) умножаются на матрицу MVP параллельно, как в BatchTransformEngine;
+// 2) треугольники отсекаются в однородных координатах по -w <= x, y, z <= w (Сазерленд–Ходжмен),
+//    делятся на w и отображаются на экран: y вниз, глубина z * 0.5 + 0.5;
+// 3) экранные треугольники раскладываются по тайлам tileSize x tileSize по ограничивающим прямоугольникам;
+// 4) тайлы растеризуются параллельно: каждый тайл пишет только свои пиксели, а треугольники внутри
+//    тайла идут в порядке подачи, поэтому результат не зависит от числа потоков.
+// Покрытие — по центрам пикселей с правилом «верх-лево», глубина проходит при z < depth.
+// Лицевые грани — против часовой стрелки в NDC. Буферы этапов переиспользуются между вызовами,
+// поэтому один экземпляр нельзя использовать из нескольких потоков одновременно.
+public final class Rasterizer {
+    public static final int DEFAULT_TILE_SIZE = 32;
+    // Многоугольник после отсечения шестью плоскостями: не больше 3 + 6 вершин по 4 координаты
+    private static final int MAX_CLIPPED = 9;
+    // Экранный треугольник: (x, y, z) трёх вершин
+    private static final int TRIANGLE_STRIDE = 9;
+
+    private final int tileSize;
+    private final BatchTransformEngine vertexEngine;
+    private final BatchTransformEngine tileEngine;
+    private boolean cullBackFaces;
+
+    private Vector4Buffer clip = new Vector4Buffer(0);
+    private final float[] polygon = new float[MAX_CLIPPED * 4];
+    private final float[] clipped = new float[MAX_CLIPPED * 4];
+    private final float[] screen = new float[MAX_CLIPPED * 3];
+
+    private float[] triangles = new float[64 * TRIANGLE_STRIDE];
+    private int[] triangleColors = new int[64];
+    // Прямоугольник тайлов треугольника: minX, minY, maxX, maxY включительно
+    private int[] triangleTiles = new int[64 * 4];
+    private int triangleCount;
+
+    private int tilesX;
+    private int[] binStarts = new int[1];
+    private int[] binItems = new int[64];
+
+    public Rasterizer() {
+        this(DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public Rasterizer(int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Размер тайла должен быть положительным");
+        }
+        this.tileSize = tileSize;
+        this.vertexEngine = new BatchTransformEngine(pool, BatchTransformEngine.DEFAULT_THRESHOLD);
+        // Тайлы неравны по стоимости, поэтому делятся до одного на задачу
+        this.tileEngine = new BatchTransformEngine(pool, 1);
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public boolean isCullBackFaces() {
+        return cullBackFaces;
+    }
+
+    public Rasterizer setCullBackFaces(boolean cullBackFaces) {
+        this.cullBackFaces = cullBackFaces;
+        return this;
+    }
+
+    // Рисует треугольники indices (по три индекса в positions) цветами colors[i] (ARGB, по одному
+    // на треугольник). Возвращает число экранных треугольников после отсечения и отбраковки.
+    public int draw(Vector3Buffer positions, int[] indices, int[] colors, Matrix4 mvp, FrameBuffer target) {
+        if (indices.length % 3 != 0) {
+            throw new IllegalArgumentException("Число индексов должно быть кратно трём");
+        }
+        int count = indices.length / 3;
+        if (colors.length < count) {
+            throw new IllegalArgumentException("Цветов меньше, чем треугольников");
+        }
+        transformVertices(positions, mvp);
+        int width = target.getWidth();
+        int height = target.getHeight();
+        int vertices = positions.size();
+        triangleCount = 0;
+        for (int t = 0; t < count; t++) {
+            setup(Objects.checkIndex(indices[t * 3], vertices), Objects.checkIndex(indices[t * 3 + 1], vertices),
+                    Objects.checkIndex(indices[t * 3 + 2], vertices), colors[t], width, height);
+        }
+        int tiles = bin(width, height);
+        tileEngine.run(tiles, (from, to) -> {
+            for (int tile = (int) from; tile < to; tile++) {
+                rasterizeTile(tile, target);
+            }
+        });
+        return triangleCount;
+    }
+
+    private void transformVertices(Vector3Buffer positions, Matrix4 mvp) {
+        int n = positions.size();
+        if (clip.size() < n) {
+            clip = new Vector4Buffer(n);
+        }
+        System.arraycopy(positions.getX(), 0, clip.getX(), 0, n);
+        System.arraycopy(positions.getY(), 0, clip.getY(), 0, n);
+        System.arraycopy(positions.getZ(), 0, clip.getZ(), 0, n);
+        Arrays.fill(clip.getW(), 0, n, 1.0f);
+        Vector4Buffer vertices = clip;
+        vertexEngine.run(n, (from, to) -> vertices.transform(mvp, (int) from, (int) to));
+    }
+
+    private void setup(int i0, int i1, int i2, int color, int width, int height) {
+        float[] x = clip.getX(), y = clip.getY(), z = clip.getZ(), w = clip.getW();
+        int c0 = outcode(x[i0], y[i0], z[i0], w[i0]);
+        int c1 = outcode(x[i1], y[i1], z[i1], w[i1]);
+        int c2 = outcode(x[i2], y[i2], z[i2], w[i2]);
+        // Все вершины снаружи одной плоскости — треугольник не виден
+        if ((c0 & c1 & c2) != 0) {
+            return;
+        }
+        loadVertex(0, i0, x, y, z, w);
+        loadVertex(1, i1, x, y, z, w);
+        loadVertex(2, i2, x, y, z, w);
+        int count = clipPolygon(c0 | c1 | c2);
+        for (int i = 0; i < count; i++) {
+            float invW = 1.0f / polygon[i * 4 + 3];
+            screen[i * 3] = (polygon[i * 4] * invW + 1.0f) * 0.5f * width;
+            screen[i * 3 + 1] = (1.0f - polygon[i * 4 + 1] * invW) * 0.5f * height;
+            screen[i * 3 + 2] = polygon[i * 4 + 2] * invW * 0.5f + 0.5f;
+        }
+        // Веер из первой вершины выпуклого многоугольника
+        for (int i = 1; i + 1 < count; i++) {
+            emitTriangle(0, i, i + 1, color, width, height);
+        }
+    }
+
+    private void loadVertex(int slot, int i, float[] x, float[] y, float[] z, float[] w) {
+        polygon[slot * 4] = x[i];
+        polygon[slot * 4 + 1] = y[i];
+        polygon[slot * 4 + 2] = z[i];
+        polygon[slot * 4 + 3] = w[i];
+    }
+
+    // Бит p выставлен, если вершина снаружи плоскости p: w ± x, w ± y, w ± z < 0
+    private static int outcode(float x, float y, float z, float w) {
+        return (w + x < 0.0f ? 1 : 0) | (w - x < 0.0f ? 2 : 0)
+                | (w + y < 0.0f ? 4 : 0) | (w - y < 0.0f ? 8 : 0)
+                | (w + z < 0.0f ? 16 : 0) | (w - z < 0.0f ? 32 : 0);
+    }
+
+    // Отсекает треугольник в polygon плоскостями из planes; результат в polygon, возвращает число вершин
+    private int clipPolygon(int planes) {
+        int count = 3;
+        for (int plane = 0; plane < 6 && count >= 3; plane++) {
+            if ((planes & (1 << plane)) == 0) {
+                continue;
+            }
+            int axis = plane >>> 1;
+            float sign = (plane & 1) == 0 ? 1.0f : -1.0f;
+            int out = 0;
+            for (int i = 0; i < count; i++) {
+                int cur = i * 4;
+                int next = (i + 1) % count * 4;
+                float dc = polygon[cur + 3] + sign * polygon[cur + axis];
+                float dn = polygon[next + 3] + sign * polygon[next + axis];
+                if (dc >= 0.0f) {
+                    System.arraycopy(polygon, cur, clipped, out * 4, 4);
+                    out++;
+                }
+                if ((dc >= 0.0f) != (dn >= 0.0f)) {
+                    float t = dc / (dc - dn);
+                    for (int k = 0; k < 4; k++) {
+                        clipped[out * 4 + k] = polygon[cur + k] + (polygon[next + k] - polygon[cur + k]) * t;
+                    }
+                    out++;
+                }
+            }
+            System.arraycopy(clipped, 0, polygon, 0, out * 4);
+            count = out;
+        }
+        return count < 3 ? 0 : count;
+    }
+
+    private void emitTriangle(int a, int b, int c, int color, int width, int height) {
+        float ax = screen[a * 3], ay = screen[a * 3 + 1];
+        float bx = screen[b * 3], by = screen[b * 3 + 1];
+        float cx = screen[c * 3], cy = screen[c * 3 + 1];
+        // Экранная ось y направлена вниз, поэтому лицевые грани дают отрицательную площадь
+        float area = (bx - ax) * (cy - ay) - (cx - ax) * (by - ay);
+        if (!(Math.abs(area) > 0.0f) || cullBackFaces && area > 0.0f) {
+            return;
+        }
+        int minX = Math.max(0, (int) Math.ceil(Math.min(ax, Math.min(bx, cx)) - 0.5f));
+        int maxX = Math.min(width - 1, (int) Math.floor(Math.max(ax, Math.max(bx, cx)) - 0.5f));
+        int minY = Math.max(0, (int) Math.ceil(Math.min(ay, Math.min(by, cy)) - 0.5f));
+        int maxY = Math.min(height - 1, (int) Math.floor(Math.max(ay, Math.max(by, cy)) - 0.5f));
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+        if (triangleCount == triangleColors.length) {
+            int capacity = triangleCount * 2;
+            triangles = Arrays.copyOf(triangles, capacity * TRIANGLE_STRIDE);
+            triangleColors = Arrays.copyOf(triangleColors, capacity);
+            triangleTiles = Arrays.copyOf(triangleTiles, capacity * 4);
+        }
+        // Храним с положительной площадью, чтобы внутренность была там, где все рёберные функции >= 0
+        if (area < 0.0f) {
+            int t = b;
+            b = c;
+            c = t;
+        }
+        int base = triangleCount * TRIANGLE_STRIDE;
+        System.arraycopy(screen, a * 3, triangles, base, 3);
+        System.arraycopy(screen, b * 3, triangles, base + 3, 3);
+        System.arraycopy(screen, c * 3, triangles, base + 6, 3);
+        triangleColors[triangleCount] = color;
+        int tiles = triangleCount * 4;
+        triangleTiles[tiles] = minX / tileSize;
+        triangleTiles[tiles + 1] = minY / tileSize;
+        triangleTiles[tiles + 2] = maxX / tileSize;
+        triangleTiles[tiles + 3] = maxY / tileSize;
+        triangleCount++;
+    }
+
+    // Сортировка подсчётом по тайлам: сначала размеры корзин, затем индексы треугольников по порядку
+    private int bin(int width, int height) {
+        tilesX = (width + tileSize - 1) / tileSize;
+        int tiles = tilesX * ((height + tileSize - 1) / tileSize);
+        if (binStarts.length < tiles + 1) {
+            binStarts = new int[tiles + 1];
+        }
+        Arrays.fill(binStarts, 0, tiles + 1, 0);
+        for (int t = 0; t < triangleCount; t++) {
+            int base = t * 4;
+            for (int ty = triangleTiles[base + 1]; ty <= triangleTiles[base + 3]; ty++) {
+                for (int tx = triangleTiles[base]; tx <= triangleTiles[base + 2]; tx++) {
+                    binStarts[ty * tilesX + tx + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < tiles; i++) {
+            binStarts[i + 1] += binStarts[i];
+        }
+        if (binItems.length < binStarts[tiles]) {
+            binItems = new int[binStarts[tiles]];
+        }
+        // binStarts[tile] сдвигается при заполнении и после цикла указывает на начало следующей корзины
+        for (int t = 0; t < triangleCount; t++) {
+            int base = t * 4;
+            for (int ty = triangleTiles[base + 1]; ty <= triangleTiles[base + 3]; ty++) {
+                for (int tx = triangleTiles[base]; tx <= triangleTiles[base + 2]; tx++) {
+                    binItems[binStarts[ty * tilesX + tx]++] = t;
+                }
+            }
+        }
+        System.arraycopy(binStarts, 0, binStarts, 1, tiles);
+        binStarts[0] = 0;
+        return tiles;
+    }
+
+    private void rasterizeTile(int tile, FrameBuffer target) {
+        int x0 = tile % tilesX * tileSize;
+        int y0 = tile / tilesX * tileSize;
+        int x1 = Math.min(x0 + tileSize, target.getWidth()) - 1;
+        int y1 = Math.min(y0 + tileSize, target.getHeight()) - 1;
+        for (int k = binStarts[tile]; k < binStarts[tile + 1]; k++) {
+            rasterizeTriangle(binItems[k], x0, y0, x1, y1, target);
+        }
+    }
+
+    private void rasterizeTriangle(int t, int x0, int y0, int x1, int y1, FrameBuffer target) {
+        int base = t * TRIANGLE_STRIDE;
+        float ax = triangles[base], ay = triangles[base + 1], az = triangles[base + 2];
+        float bx = triangles[base + 3], by = triangles[base + 4], bz = triangles[base + 5];
+        float cx = triangles[base + 6], cy = triangles[base + 7], cz = triangles[base + 8];
+        int minX = Math.max(x0, (int) Math.ceil(Math.min(ax, Math.min(bx, cx)) - 0.5f));
+        int maxX = Math.min(x1, (int) Math.floor(Math.max(ax, Math.max(bx, cx)) - 0.5f));
+        int minY = Math.max(y0, (int) Math.ceil(Math.min(ay, Math.min(by, cy)) - 0.5f));
+        int maxY = Math.min(y1, (int) Math.floor(Math.max(ay, Math.max(by, cy)) - 0.5f));
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+        // Рёберная функция E(p) = A * (p.x - v.x) + B * (p.y - v.y) для ребра из вершины v;
+        // e0 — вес вершины a (ребро bc), e1 — вершины b (ребро ca), e2 — вершины c (ребро ab)
+        float a0 = by - cy, b0 = cx - bx;
+        float a1 = cy - ay, b1 = ax - cx;
+        float a2 = ay - by, b2 = bx - ax;
+        // Пиксель на ребре закрашивается, только если ребро верхнее или левое
+        boolean topLeft0 = a0 > 0.0f || a0 == 0.0f && b0 > 0.0f;
+        boolean topLeft1 = a1 > 0.0f || a1 == 0.0f && b1 > 0.0f;
+        boolean topLeft2 = a2 > 0.0f || a2 == 0.0f && b2 > 0.0f;
+        float invArea = 1.0f / (b2 * (cy - ay) + a2 * (cx - ax));
+        // Глубина после деления на w линейна в экранных координатах: z = zA * x + zB * y + z(a)
+        float zA = (a0 * az + a1 * bz + a2 * cz) * invArea;
+        float zB = (b0 * az + b1 * bz + b2 * cz) * invArea;
+        int color = triangleColors[t];
+        int width = target.getWidth();
+        int[] colors = target.getColors();
+        float[] depths = target.getDepths();
+        // Функции считаются в каждом пикселе заново, а не шагом от края тайла: так покрытие и глубина
+        // пикселя не зависят от размера тайла и границ тайлов
+        for (int py = minY; py <= maxY; py++) {
+            float fy = py + 0.5f;
+            float r0 = b0 * (fy - by);
+            float r1 = b1 * (fy - cy);
+            float r2 = b2 * (fy - ay);
+            float rz = az + zB * (fy - ay);
+            int row = py * width;
+            for (int px = minX; px <= maxX; px++) {
+                float fx = px + 0.5f;
+                float e0 = a0 * (fx - bx) + r0;
+                float e1 = a1 * (fx - cx) + r1;
+                float e2 = a2 * (fx - ax) + r2;
+                float z = rz + zA * (fx - ax);
+                if ((e0 > 0.0f || e0 == 0.0f && topLeft0)
+                        && (e1 > 0.0f || e1 == 0.0f && topLeft1)
+                        && (e2 > 0.0f || e2 == 0.0f && topLeft2)
+                        && z < depths[row + px]) {
+                    depths[row + px] = z;
+                    colors[row + px] = color;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package io.github.artemboldirew.vector3d.spatial;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Иерархия ограничивающих объёмов над треугольной сеткой. Строится сверху вниз по эвристике
+// площади поверхности (SAH) с корзинами; крупные поддеревья строятся параллельно в ForkJoinPool.
+// Узлы хранятся в плоских массивах в порядке обхода в глубину: левый потомок узла i — i + 1,
+// правый — offsets[i]; у листа offsets[i] — первый треугольник, counts[i] — их число.
+// Треугольники переупорядочены по листам и хранятся как вершина v0 и рёбра e1, e2 для теста
+// Мёллера — Трумбора, поэтому запросы не выделяют память и не создают Vector3.
+public final class Bvh {
+    private static final int BINS = 16;
+    // До этого размера узел сразу становится листом
+    private static final int LEAF_SIZE = 4;
+    // Больше этого размера узел делится, даже если SAH считает лист дешевле
+    private static final int MAX_LEAF_SIZE = 16;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final float EPSILON = 1e-9f;
+
+    private final float[] bounds;
+    private final int[] offsets;
+    private final int[] counts;
+    private final int depth;
+
+    private final int[] triangleIds;
+    private final float[] v0x, v0y, v0z;
+    private final float[] e1x, e1y, e1z;
+    private final float[] e2x, e2y, e2z;
+
+    private Bvh(Builder builder, Node root) {
+        int nodeCount = root.nodes;
+        bounds = new float[nodeCount * 6];
+        offsets = new int[nodeCount];
+        counts = new int[nodeCount];
+        depth = root.depth;
+        flatten(root, 0);
+
+        int n = builder.order.length;
+        triangleIds = builder.order;
+        v0x = new float[n];
+        v0y = new float[n];
+        v0z = new float[n];
+        e1x = new float[n];
+        e1y = new float[n];
+        e1z = new float[n];
+        e2x = new float[n];
+        e2y = new float[n];
+        e2z = new float[n];
+        float[] px = builder.positions.getX(), py = builder.positions.getY(), pz = builder.positions.getZ();
+        int[] indices = builder.indices;
+        for (int k = 0; k < n; k++) {
+            int t = triangleIds[k] * 3;
+            int a = indices[t], b = indices[t + 1], c = indices[t + 2];
+            v0x[k] = px[a];
+            v0y[k] = py[a];
+            v0z[k] = pz[a];
+            e1x[k] = px[b] - px[a];
+            e1y[k] = py[b] - py[a];
+            e1z[k] = pz[b] - pz[a];
+            e2x[k] = px[c] - px[a];
+            e2y[k] = py[c] - py[a];
+            e2z[k] = pz[c] - pz[a];
+        }
+    }
+
+    // indices — по три индекса вершины на треугольник, как в ObjMesh.getPositionIndices()
+    public static Bvh build(Vector3Buffer positions, int[] indices) {
+        return build(positions, indices, ForkJoinPool.commonPool());
+    }
+
+    public static Bvh build(Vector3Buffer positions, int[] indices, ForkJoinPool pool) {
+        if (indices.length % 3 != 0) {
+            throw new IllegalArgumentException("Число индексов должно быть кратно трём");
+        }
+        for (int index : indices) {
+            Objects.checkIndex(index, positions.size());
+        }
+        Builder builder = new Builder(positions, indices);
+        Node root = indices.length == 0 ? builder.leaf(0, 0) : pool.invoke(new BuildTask(builder, 0, indices.length / 3));
+        return new Bvh(builder, root);
+    }
+
+    public static Bvh build(Vector3[] positions, int[] indices) {
+        Vector3Buffer buffer = new Vector3Buffer(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            buffer.set(i, positions[i]);
+        }
+        return build(buffer, indices);
+    }
+
+    public int getTriangleCount() {
+        return triangleIds.length;
+    }
+
+    public int getNodeCount() {
+        return counts.length;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // Ближайшее пересечение с t из (0, tMax); результат в hit
+    public boolean intersect(float ox, float oy, float oz, float dx, float dy, float dz, float tMax, RayHit hit) {
+        return traverse(ox, oy, oz, dx, dy, dz, tMax, hit, false);
+    }
+
+    // Любое пересечение с t из (0, tMax), например для теней; обход останавливается на первом
+    public boolean intersectsAny(float ox, float oy, float oz, float dx, float dy, float dz, float tMax, RayHit hit) {
+        return traverse(ox, oy, oz, dx, dy, dz, tMax, hit, true);
+    }
+
+    public boolean intersect(Vector3 origin, Vector3 direction, float tMax, RayHit hit) {
+        float[][] o = origin.getVector();
+        float[][] d = direction.getVector();
+        return intersect(o[0][0], o[1][0], o[2][0], d[0][0], d[1][0], d[2][0], tMax, hit);
+    }
+
+    // Пакет лучей: t[i] и triangles[i] для луча i; при промахе +∞ и -1
+    public void intersect(Vector3Buffer origins, Vector3Buffer directions, float tMax, float[] t, int[] triangles) {
+        intersect(origins, directions, tMax, t, triangles, 0, origins.size());
+    }
+
+    public void intersect(Vector3Buffer origins, Vector3Buffer directions, float tMax, float[] t, int[] triangles,
+                          int from, int to) {
+        checkRays(origins, directions, from, to);
+        Objects.checkFromToIndex(from, to, t.length);
+        Objects.checkFromToIndex(from, to, triangles.length);
+        float[] ox = origins.getX(), oy = origins.getY(), oz = origins.getZ();
+        float[] dx = directions.getX(), dy = directions.getY(), dz = directions.getZ();
+        RayHit hit = new RayHit();
+        for (int i = from; i < to; i++) {
+            if (traverse(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], tMax, hit, false)) {
+                t[i] = hit.t;
+                triangles[i] = hit.triangle;
+            } else {
+                t[i] = Float.POSITIVE_INFINITY;
+                triangles[i] = -1;
+            }
+        }
+    }
+
+    public void intersect(Vector3Buffer origins, Vector3Buffer directions, float tMax, float[] t, int[] triangles,
+                          BatchTransformEngine engine) {
+        checkRays(origins, directions, 0, origins.size());
+        engine.run(origins.size(), (from, to) -> intersect(origins, directions, tMax, t, triangles, (int) from, (int) to));
+    }
+
+    // Пакетный any-hit: бит i множества occluded — есть ли пересечение у луча i, как в Frustum
+    public long[] intersectsAny(Vector3Buffer origins, Vector3Buffer directions, float tMax, long[] occluded) {
+        return intersectsAny(origins, directions, tMax, occluded, 0, origins.size());
+    }
+
+    // Меняются только биты [from, to)
+    public long[] intersectsAny(Vector3Buffer origins, Vector3Buffer directions, float tMax, long[] occluded,
+                                int from, int to) {
+        checkRays(origins, directions, from, to);
+        if (occluded.length < (origins.size() + 63) >>> 6) {
+            throw new IllegalArgumentException("Битовое множество меньше числа лучей");
+        }
+        float[] ox = origins.getX(), oy = origins.getY(), oz = origins.getZ();
+        float[] dx = directions.getX(), dy = directions.getY(), dz = directions.getZ();
+        RayHit hit = new RayHit();
+        for (int i = from; i < to; ) {
+            int end = Math.min(to, ((i >>> 6) + 1) << 6);
+            long word = 0L;
+            for (int j = i; j < end; j++) {
+                if (traverse(ox[j], oy[j], oz[j], dx[j], dy[j], dz[j], tMax, hit, true)) {
+                    word |= 1L << j;
+                }
+            }
+            long mask = (-1L << i) & (-1L >>> -end);
+            int index = i >>> 6;
+            occluded[index] = (occluded[index] & ~mask) | word;
+            i = end;
+        }
+        return occluded;
+    }
+
+    // Порог engine — в лучах, как у intersect; границы задач кратны 64, поэтому задачи не пишут в одно слово
+    public long[] intersectsAny(Vector3Buffer origins, Vector3Buffer directions, float tMax, long[] occluded,
+                                BatchTransformEngine engine) {
+        checkRays(origins, directions, 0, origins.size());
+        engine.run(origins.size(), Long.SIZE, (from, to) ->
+                intersectsAny(origins, directions, tMax, occluded, (int) from, (int) to));
+        return occluded;
+    }
+
+    private boolean traverse(float ox, float oy, float oz, float dx, float dy, float dz, float tMax,
+                             RayHit hit, boolean any) {
+        hit.reset(tMax);
+        if (triangleIds.length == 0) {
+            return false;
+        }
+        float ix = 1.0f / dx, iy = 1.0f / dy, iz = 1.0f / dz;
+        if (boxEntry(0, ox, oy, oz, ix, iy, iz, tMax) == Float.POSITIVE_INFINITY) {
+            return false;
+        }
+        int[] stack = hit.stack(depth + 1);
+        int sp = 0;
+        int node = 0;
+        while (true) {
+            int count = counts[node];
+            if (count > 0) {
+                int first = offsets[node];
+                for (int k = first; k < first + count; k++) {
+                    if (intersectTriangle(k, ox, oy, oz, dx, dy, dz, hit) && any) {
+                        return true;
+                    }
+                }
+            } else {
+                int left = node + 1;
+                int right = offsets[node];
+                float tl = boxEntry(left, ox, oy, oz, ix, iy, iz, hit.t);
+                float tr = boxEntry(right, ox, oy, oz, ix, iy, iz, hit.t);
+                if (tl != Float.POSITIVE_INFINITY && tr != Float.POSITIVE_INFINITY) {
+                    // Сначала ближний потомок: найденное в нём пересечение отсекает дальний
+                    if (tl <= tr) {
+                        stack[sp++] = right;
+                        node = left;
+                    } else {
+                        stack[sp++] = left;
+                        node = right;
+                    }
+                    continue;
+                }
+                if (tl != Float.POSITIVE_INFINITY) {
+                    node = left;
+                    continue;
+                }
+                if (tr != Float.POSITIVE_INFINITY) {
+                    node = right;
+                    continue;
+                }
+            }
+            if (sp == 0) {
+                return hit.triangle >= 0;
+            }
+            node = stack[--sp];
+        }
+    }
+
+    // Параметр входа луча в коробку узла или +∞, если луч её не пересекает на [0, tMax)
+    private float boxEntry(int node, float ox, float oy, float oz, float ix, float iy, float iz, float tMax) {
+        int b = node * 6;
+        float t0 = (bounds[b] - ox) * ix, t1 = (bounds[b + 3] - ox) * ix;
+        float near = t0 < t1 ? t0 : t1, far = t0 < t1 ? t1 : t0;
+        t0 = (bounds[b + 1] - oy) * iy;
+        t1 = (bounds[b + 4] - oy) * iy;
+        near = Math.max(near, t0 < t1 ? t0 : t1);
+        far = Math.min(far, t0 < t1 ? t1 : t0);
+        t0 = (bounds[b + 2] - oz) * iz;
+        t1 = (bounds[b + 5] - oz) * iz;
+        near = Math.max(near, t0 < t1 ? t0 : t1);
+        far = Math.min(far, t0 < t1 ? t1 : t0);
+        // Сравнения вместо проверки NaN: луч в плоскости грани даёт NaN и считается промахом
+        if (near <= far && far >= 0.0f && near < tMax) {
+            return Math.max(near, 0.0f);
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+
+    private boolean intersectTriangle(int k, float ox, float oy, float oz, float dx, float dy, float dz, RayHit hit) {
+        float ax = e1x[k], ay = e1y[k], az = e1z[k];
+        float bx = e2x[k], by = e2y[k], bz = e2z[k];
+        float px = dy * bz - dz * by;
+        float py = dz * bx - dx * bz;
+        float pz = dx * by - dy * bx;
+        float det = ax * px + ay * py + az * pz;
+        if (Math.abs(det) < EPSILON) {
+            return false;
+        }
+        float inv = 1.0f / det;
+        float tx = ox - v0x[k], ty = oy - v0y[k], tz = oz - v0z[k];
+        float u = (tx * px + ty * py + tz * pz) * inv;
+        if (u < 0.0f || u > 1.0f) {
+            return false;
+        }
+        float qx = ty * az - tz * ay;
+        float qy = tz * ax - tx * az;
+        float qz = tx * ay - ty * ax;
+        float v = (dx * qx + dy * qy + dz * qz) * inv;
+        if (v < 0.0f || u + v > 1.0f) {
+            return false;
+        }
+        float t = (bx * qx + by * qy + bz * qz) * inv;
+        if (t <= 0.0f || t >= hit.t) {
+            return false;
+        }
+        hit.t = t;
+        hit.triangle = triangleIds[k];
+        hit.u = u;
+        hit.v = v;
+        return true;
+    }
+
+    private static void checkRays(Vector3Buffer origins, Vector3Buffer directions, int from, int to) {
+        if (origins.size() != directions.size()) {
+            throw new IllegalArgumentException("Буферы должны быть одного размера");
+        }
+        Objects.checkFromToIndex(from, to, origins.size());
+    }
+
+    private int flatten(Node node, int index) {
+        System.arraycopy(node.bounds, 0, bounds, index * 6, 6);
+        if (node.left == null) {
+            offsets[index] = node.start;
+            counts[index] = node.count;
+            return index + 1;
+        }
+        int right = flatten(node.left, index + 1);
+        offsets[index] = right;
+        return flatten(node.right, right);
+    }
+
+    // Временное дерево построения; после flatten не используется
+    private static final class Node {
+        final float[] bounds;
+        Node left;
+        Node right;
+        int start;
+        int count;
+        int nodes = 1;
+        int depth = 1;
+
+        Node(float[] bounds) {
+            this.bounds = bounds;
+        }
+    }
+
+    // Общие данные построения: рамки и центроиды треугольников, порядок треугольников
+    private static final class Builder {
+        final Vector3Buffer positions;
+        final int[] indices;
+        final int[] order;
+        final float[] triBounds;
+        final float[] cx, cy, cz;
+
+        Builder(Vector3Buffer positions, int[] indices) {
+            this.positions = positions;
+            this.indices = indices;
+            int n = indices.length / 3;
+            order = new int[n];
+            triBounds = new float[n * 6];
+            cx = new float[n];
+            cy = new float[n];
+            cz = new float[n];
+            float[] px = positions.getX(), py = positions.getY(), pz = positions.getZ();
+            for (int t = 0; t < n; t++) {
+                order[t] = t;
+                int a = indices[t * 3], b = indices[t * 3 + 1], c = indices[t * 3 + 2];
+                int o = t * 6;
+                triBounds[o] = Math.min(px[a], Math.min(px[b], px[c]));
+                triBounds[o + 1] = Math.min(py[a], Math.min(py[b], py[c]));
+                triBounds[o + 2] = Math.min(pz[a], Math.min(pz[b], pz[c]));
+                triBounds[o + 3] = Math.max(px[a], Math.max(px[b], px[c]));
+                triBounds[o + 4] = Math.max(py[a], Math.max(py[b], py[c]));
+                triBounds[o + 5] = Math.max(pz[a], Math.max(pz[b], pz[c]));
+                cx[t] = (triBounds[o] + triBounds[o + 3]) * 0.5f;
+                cy[t] = (triBounds[o + 1] + triBounds[o + 4]) * 0.5f;
+                cz[t] = (triBounds[o + 2] + triBounds[o + 5]) * 0.5f;
+            }
+        }
+
+        Node leaf(int start, int end) {
+            Node node = new Node(rangeBounds(start, end));
+            node.start = start;
+            node.count = end - start;
+            return node;
+        }
+
+        float[] rangeBounds(int start, int end) {
+            float[] b = emptyBounds();
+            for (int i = start; i < end; i++) {
+                int o = order[i] * 6;
+                for (int k = 0; k < 3; k++) {
+                    b[k] = Math.min(b[k], triBounds[o + k]);
+                    b[k + 3] = Math.max(b[k + 3], triBounds[o + k + 3]);
+                }
+            }
+            return b;
+        }
+
+        float centroid(int triangle, int axis) {
+            return axis == 0 ? cx[triangle] : axis == 1 ? cy[triangle] : cz[triangle];
+        }
+
+        static float[] emptyBounds() {
+            float[] b = new float[6];
+            Arrays.fill(b, 0, 3, Float.POSITIVE_INFINITY);
+            Arrays.fill(b, 3, 6, Float.NEGATIVE_INFINITY);
+            return b;
+        }
+
+        static float area(float[] b, int o) {
+            float dx = b[o + 3] - b[o], dy = b[o + 4] - b[o + 1], dz = b[o + 5] - b[o + 2];
+            if (dx < 0.0f) {
+                return 0.0f;
+            }
+            return 2.0f * (dx * dy + dy * dz + dz * dx);
+        }
+    }
+
+    private static final class BuildTask extends RecursiveTask<Node> {
+        private final Builder builder;
+        private final int start;
+        private final int end;
+
+        BuildTask(Builder builder, int start, int end) {
+            this.builder = builder;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Node compute() {
+            int n = end - start;
+            if (n <= LEAF_SIZE) {
+                return builder.leaf(start, end);
+            }
+            int[] order = builder.order;
+            float[] centroidBounds = Builder.emptyBounds();
+            for (int i = start; i < end; i++) {
+                int t = order[i];
+                for (int axis = 0; axis < 3; axis++) {
+                    float c = builder.centroid(t, axis);
+                    centroidBounds[axis] = Math.min(centroidBounds[axis], c);
+                    centroidBounds[axis + 3] = Math.max(centroidBounds[axis + 3], c);
+                }
+            }
+            int axis = 0;
+            for (int k = 1; k < 3; k++) {
+                if (centroidBounds[k + 3] - centroidBounds[k] > centroidBounds[axis + 3] - centroidBounds[axis]) {
+                    axis = k;
+                }
+            }
+            float min = centroidBounds[axis];
+            float extent = centroidBounds[axis + 3] - min;
+
+            int mid;
+            if (extent <= 0.0f) {
+                // Все центроиды совпадают: делить по SAH нечего
+                if (n <= MAX_LEAF_SIZE) {
+                    return builder.leaf(start, end);
+                }
+                mid = (start + end) >>> 1;
+            } else {
+                mid = splitBySah(axis, min, extent, n);
+                if (mid < 0) {
+                    return builder.leaf(start, end);
+                }
+            }
+
+            BuildTask leftTask = new BuildTask(builder, start, mid);
+            BuildTask rightTask = new BuildTask(builder, mid, end);
+            Node left;
+            Node right;
+            if (n >= PARALLEL_THRESHOLD) {
+                leftTask.fork();
+                right = rightTask.compute();
+                left = leftTask.join();
+            } else {
+                left = leftTask.compute();
+                right = rightTask.compute();
+            }
+            float[] b = new float[6];
+            for (int k = 0; k < 3; k++) {
+                b[k] = Math.min(left.bounds[k], right.bounds[k]);
+                b[k + 3] = Math.max(left.bounds[k + 3], right.bounds[k + 3]);
+            }
+            Node node = new Node(b);
+            node.left = left;
+            node.right = right;
+            node.nodes = 1 + left.nodes + right.nodes;
+            node.depth = 1 + Math.max(left.depth, right.depth);
+            return node;
+        }
+
+        // Индекс разбиения диапазона или -1, если лист дешевле любого разбиения
+        private int splitBySah(int axis, float min, float extent, int n) {
+            int[] order = builder.order;
+            float[] triBounds = builder.triBounds;
+            int[] binCounts = new int[BINS];
+            float[] binBounds = new float[BINS * 6];
+            for (int i = 0; i < BINS; i++) {
+                Arrays.fill(binBounds, i * 6, i * 6 + 3, Float.POSITIVE_INFINITY);
+                Arrays.fill(binBounds, i * 6 + 3, i * 6 + 6, Float.NEGATIVE_INFINITY);
+            }
+            float scale = BINS / extent;
+            for (int i = start; i < end; i++) {
+                int t = order[i];
+                int bin = bin(builder.centroid(t, axis), min, scale);
+                binCounts[bin]++;
+                int o = bin * 6;
+                for (int k = 0; k < 3; k++) {
+                    binBounds[o + k] = Math.min(binBounds[o + k], triBounds[t * 6 + k]);
+                    binBounds[o + k + 3] = Math.max(binBounds[o + k + 3], triBounds[t * 6 + k + 3]);
+                }
+            }
+
+            // rightCost[i] — стоимость правой части для разбиения после корзины i
+            float[] rightCost = new float[BINS];
+            float[] acc = Builder.emptyBounds();
+            int count = 0;
+            for (int i = BINS - 1; i > 0; i--) {
+                grow(acc, binBounds, i * 6);
+                count += binCounts[i];
+                rightCost[i - 1] = count * Builder.area(acc, 0);
+            }
+            acc = Builder.emptyBounds();
+            count = 0;
+            float bestCost = Float.POSITIVE_INFINITY;
+            int bestBin = -1;
+            for (int i = 0; i < BINS - 1; i++) {
+                grow(acc, binBounds, i * 6);
+                count += binCounts[i];
+                if (count == 0 || count == n) {
+                    continue;
+                }
+                float cost = count * Builder.area(acc, 0) + rightCost[i];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestBin = i;
+                }
+            }
+            float leafCost = n * Builder.area(builder.rangeBounds(start, end), 0);
+            if (bestBin < 0 || (bestCost >= leafCost && n <= MAX_LEAF_SIZE)) {
+                return n <= MAX_LEAF_SIZE ? -1 : (start + end) >>> 1;
+            }
+
+            int i = start;
+            int j = end - 1;
+            while (i <= j) {
+                if (bin(builder.centroid(order[i], axis), min, scale) <= bestBin) {
+                    i++;
+                } else {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j--] = tmp;
+                }
+            }
+            return i;
+        }
+
+        private static int bin(float centroid, float min, float scale) {
+            return Math.min(BINS - 1, (int) ((centroid - min) * scale));
+        }
+
+        private static void grow(float[] acc, float[] b, int o) {
+            for (int k = 0; k < 3; k++) {
+                acc[k] = Math.min(acc[k], b[o + k]);
+                acc[k + 3] = Math.max(acc[k + 3], b[o + k + 3]);
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package io.github.artemboldirew.vector3d.spatial;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Статическое kd-дерево без узлов-объектов: точки переставлены так, что для диапазона [lo, hi)
+// точка mid = (lo + hi) >>> 1 делит его по оси axes[mid], левое поддерево — [lo, mid),
+// правое — [mid + 1, hi). Ось выбирается по наибольшему разбросу точек диапазона, медиана
+// ищется quickselect'ом; большие диапазоны строятся параллельно. Запросы сравнивают только
+// квадраты расстояний, а обход рекурсивный, поэтому память при запросе не выделяется.
+public final class KdTree {
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final int[] ids;
+    private final byte[] axes;
+
+    private KdTree(float[] x, float[] y, float[] z, int[] ids) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.ids = ids;
+        this.axes = new byte[ids.length];
+    }
+
+    public static KdTree build(Vector3Buffer points) {
+        return build(points, ForkJoinPool.commonPool());
+    }
+
+    // Точки копируются; исходный буфер можно менять после построения
+    public static KdTree build(Vector3Buffer points, ForkJoinPool pool) {
+        int n = points.size();
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        KdTree tree = new KdTree(points.getX().clone(), points.getY().clone(), points.getZ().clone(), ids);
+        if (n > 0) {
+            pool.invoke(tree.new BuildTask(0, n));
+        }
+        return tree;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // k ближайших точек по возрастанию расстояния; если точек меньше k — все
+    public NeighborList nearest(float qx, float qy, float qz, int k, NeighborList dest) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k должно быть положительным");
+        }
+        dest.resetNearest(k);
+        nearest(0, ids.length, qx, qy, qz, dest);
+        dest.sort();
+        return dest;
+    }
+
+    // Все точки на расстоянии не больше radius, в порядке обхода
+    public NeighborList withinRadius(float qx, float qy, float qz, float radius, NeighborList dest) {
+        dest.resetRadius();
+        withinRadius(0, ids.length, qx, qy, qz, radius * radius, dest);
+        return dest;
+    }
+
+    public int countWithinRadius(float qx, float qy, float qz, float radius) {
+        return count(0, ids.length, qx, qy, qz, radius * radius);
+    }
+
+    // Пакетный kNN: соседи запроса i в [k * i, k * i + k) массивов indices и distancesSquared;
+    // недостающие соседи — -1 и +∞
+    public void nearest(Vector3Buffer queries, int k, int[] indices, float[] distancesSquared) {
+        nearest(queries, k, indices, distancesSquared, 0, queries.size());
+    }
+
+    public void nearest(Vector3Buffer queries, int k, int[] indices, float[] distancesSquared, int from, int to) {
+        Objects.checkFromToIndex(from, to, queries.size());
+        Objects.checkFromToIndex((long) from * k, (long) to * k, indices.length);
+        Objects.checkFromToIndex((long) from * k, (long) to * k, distancesSquared.length);
+        float[] qx = queries.getX(), qy = queries.getY(), qz = queries.getZ();
+        NeighborList list = new NeighborList(k);
+        for (int i = from; i < to; i++) {
+            nearest(qx[i], qy[i], qz[i], k, list);
+            int base = i * k;
+            for (int j = 0; j < k; j++) {
+                boolean found = j < list.size();
+                indices[base + j] = found ? list.getIndex(j) : -1;
+                distancesSquared[base + j] = found ? list.getDistanceSquared(j) : Float.POSITIVE_INFINITY;
+            }
+        }
+    }
+
+    public void nearest(Vector3Buffer queries, int k, int[] indices, float[] distancesSquared, BatchTransformEngine engine) {
+        Objects.checkFromToIndex(0, (long) queries.size() * k, indices.length);
+        engine.run(queries.size(), (from, to) -> nearest(queries, k, indices, distancesSquared, (int) from, (int) to));
+    }
+
+    // Пакетный подсчёт соседей в радиусе: counts[i] для запроса i
+    public int[] countWithinRadius(Vector3Buffer queries, float radius, int[] counts) {
+        return countWithinRadius(queries, radius, counts, 0, queries.size());
+    }
+
+    public int[] countWithinRadius(Vector3Buffer queries, float radius, int[] counts, int from, int to) {
+        Objects.checkFromToIndex(from, to, queries.size());
+        Objects.checkFromToIndex(from, to, counts.length);
+        float[] qx = queries.getX(), qy = queries.getY(), qz = queries.getZ();
+        float r2 = radius * radius;
+        for (int i = from; i < to; i++) {
+            counts[i] = count(0, ids.length, qx[i], qy[i], qz[i], r2);
+        }
+        return counts;
+    }
+
+    public int[] countWithinRadius(Vector3Buffer queries, float radius, int[] counts, BatchTransformEngine engine) {
+        Objects.checkFromToIndex(0, queries.size(), counts.length);
+        engine.run(queries.size(), (from, to) -> countWithinRadius(queries, radius, counts, (int) from, (int) to));
+        return counts;
+    }
+
+    private void nearest(int lo, int hi, float qx, float qy, float qz, NeighborList dest) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            float dx = x[mid] - qx, dy = y[mid] - qy, dz = z[mid] - qz;
+            dest.offer(ids[mid], dx * dx + dy * dy + dz * dz);
+            float diff = axisDelta(mid, qx, qy, qz);
+            // Сначала половина с запросом, дальняя — только если её плоскость ближе худшего соседа
+            if (diff < 0.0f) {
+                nearest(lo, mid, qx, qy, qz, dest);
+                if (diff * diff >= dest.worst()) {
+                    return;
+                }
+                lo = mid + 1;
+            } else {
+                nearest(mid + 1, hi, qx, qy, qz, dest);
+                if (diff * diff >= dest.worst()) {
+                    return;
+                }
+                hi = mid;
+            }
+        }
+    }
+
+    private void withinRadius(int lo, int hi, float qx, float qy, float qz, float r2, NeighborList dest) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            float dx = x[mid] - qx, dy = y[mid] - qy, dz = z[mid] - qz;
+            float d2 = dx * dx + dy * dy + dz * dz;
+            if (d2 <= r2) {
+                dest.add(ids[mid], d2);
+            }
+            float diff = axisDelta(mid, qx, qy, qz);
+            boolean far = diff * diff <= r2;
+            if (diff < 0.0f) {
+                if (far) {
+                    withinRadius(mid + 1, hi, qx, qy, qz, r2, dest);
+                }
+                hi = mid;
+            } else {
+                if (far) {
+                    withinRadius(lo, mid, qx, qy, qz, r2, dest);
+                }
+                lo = mid + 1;
+            }
+        }
+    }
+
+    private int count(int lo, int hi, float qx, float qy, float qz, float r2) {
+        int result = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            float dx = x[mid] - qx, dy = y[mid] - qy, dz = z[mid] - qz;
+            if (dx * dx + dy * dy + dz * dz <= r2) {
+                result++;
+            }
+            float diff = axisDelta(mid, qx, qy, qz);
+            boolean far = diff * diff <= r2;
+            if (diff < 0.0f) {
+                if (far) {
+                    result += count(mid + 1, hi, qx, qy, qz, r2);
+                }
+                hi = mid;
+            } else {
+                if (far) {
+                    result += count(lo, mid, qx, qy, qz, r2);
+                }
+                lo = mid + 1;
+            }
+        }
+        return result;
+    }
+
+    // Знаковое расстояние от запроса до разделяющей плоскости узла: < 0 — запрос слева
+    private float axisDelta(int node, float qx, float qy, float qz) {
+        return switch (axes[node]) {
+            case 0 -> qx - x[node];
+            case 1 -> qy - y[node];
+            default -> qz - z[node];
+        };
+    }
+
+    private float coordinate(int axis, int i) {
+        return axis == 0 ? x[i] : axis == 1 ? y[i] : z[i];
+    }
+
+    private void swap(int i, int j) {
+        float t = x[i];
+        x[i] = x[j];
+        x[j] = t;
+        t = y[i];
+        y[i] = y[j];
+        y[j] = t;
+        t = z[i];
+        z[i] = z[j];
+        z[j] = t;
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+    }
+
+    // Переставляет [lo, hi) так, что на месте k стоит k-й по оси элемент, слева не больше, справа не меньше
+    private void select(int lo, int hi, int k, int axis) {
+        hi--;
+        while (hi > lo) {
+            int mid = (lo + hi) >>> 1;
+            // Медиана трёх в качестве опорного элемента, чтобы упорядоченные данные не давали O(n²)
+            if (coordinate(axis, mid) < coordinate(axis, lo)) {
+                swap(mid, lo);
+            }
+            if (coordinate(axis, hi) < coordinate(axis, lo)) {
+                swap(hi, lo);
+            }
+            if (coordinate(axis, hi) < coordinate(axis, mid)) {
+                swap(hi, mid);
+            }
+            float pivot = coordinate(axis, mid);
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (coordinate(axis, i) < pivot) {
+                    i++;
+                }
+                while (coordinate(axis, j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private final class BuildTask extends RecursiveAction {
+        private final int lo;
+        private final int hi;
+
+        BuildTask(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            build(lo, hi);
+        }
+
+        private void build(int lo, int hi) {
+            while (hi - lo > 1) {
+                int axis = widestAxis(lo, hi);
+                int mid = (lo + hi) >>> 1;
+                select(lo, hi, mid, axis);
+                axes[mid] = (byte) axis;
+                if (hi - lo >= PARALLEL_THRESHOLD) {
+                    invokeAll(new BuildTask(lo, mid), new BuildTask(mid + 1, hi));
+                    return;
+                }
+                build(lo, mid);
+                lo = mid + 1;
+            }
+        }
+
+        private int widestAxis(int lo, int hi) {
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                minX = Math.min(minX, x[i]);
+                maxX = Math.max(maxX, x[i]);
+                minY = Math.min(minY, y[i]);
+                maxY = Math.max(maxY, y[i]);
+                minZ = Math.min(minZ, z[i]);
+                maxZ = Math.max(maxZ, z[i]);
+            }
+            float ex = maxX - minX, ey = maxY - minY, ez = maxZ - minZ;
+            return ex >= ey && ex >= ez ? 0 : ey >= ez ? 1 : 2;
+        }
+    }
+}
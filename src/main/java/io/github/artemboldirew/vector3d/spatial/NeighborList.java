@@ -0,0 +1,129 @@
+package io.github.artemboldirew.vector3d.spatial;
+
+import java.util.Arrays;
+
+// Результат запроса к KdTree: индексы точек во входном буфере и квадраты расстояний до них.
+// После kNN соседи упорядочены по возрастанию расстояния, после поиска по радиусу — в порядке
+// обхода дерева. Объект переиспользуется между запросами; массивы растут только
+// при поиске по радиусу, когда соседей больше, чем встречалось раньше.
+// Один экземпляр нельзя использовать из нескольких потоков одновременно.
+public final class NeighborList {
+    private int[] indices;
+    private float[] distancesSquared;
+    private int size;
+    // Для kNN: сколько ближайших держать; массивы используются как max-куча
+    private int limit;
+
+    public NeighborList() {
+        this(16);
+    }
+
+    public NeighborList(int capacity) {
+        indices = new int[Math.max(1, capacity)];
+        distancesSquared = new float[indices.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getIndex(int i) {
+        checkIndex(i);
+        return indices[i];
+    }
+
+    public float getDistanceSquared(int i) {
+        checkIndex(i);
+        return distancesSquared[i];
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Индекс " + i + " вне диапазона [0, " + size + ")");
+        }
+    }
+
+    void resetNearest(int k) {
+        if (indices.length < k) {
+            indices = new int[k];
+            distancesSquared = new float[k];
+        }
+        size = 0;
+        limit = k;
+    }
+
+    void resetRadius() {
+        size = 0;
+        limit = Integer.MAX_VALUE;
+    }
+
+    // Квадрат расстояния до самого дальнего из k найденных; пока их меньше k — бесконечность
+    float worst() {
+        return size < limit ? Float.POSITIVE_INFINITY : distancesSquared[0];
+    }
+
+    // Вставка в max-кучу размера limit
+    void offer(int index, float distanceSquared) {
+        if (size < limit) {
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distancesSquared[parent] >= distanceSquared) {
+                    break;
+                }
+                indices[i] = indices[parent];
+                distancesSquared[i] = distancesSquared[parent];
+                i = parent;
+            }
+            indices[i] = index;
+            distancesSquared[i] = distanceSquared;
+            return;
+        }
+        if (distanceSquared >= distancesSquared[0]) {
+            return;
+        }
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distancesSquared[child + 1] > distancesSquared[child]) {
+                child++;
+            }
+            if (distancesSquared[child] <= distanceSquared) {
+                break;
+            }
+            indices[i] = indices[child];
+            distancesSquared[i] = distancesSquared[child];
+            i = child;
+        }
+        indices[i] = index;
+        distancesSquared[i] = distanceSquared;
+    }
+
+    void add(int index, float distanceSquared) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+            distancesSquared = Arrays.copyOf(distancesSquared, size * 2);
+        }
+        indices[size] = index;
+        distancesSquared[size++] = distanceSquared;
+    }
+
+    // Сортировка вставками: k обычно мал, и она не выделяет память
+    void sort() {
+        for (int i = 1; i < size; i++) {
+            int index = indices[i];
+            float d = distancesSquared[i];
+            int j = i - 1;
+            while (j >= 0 && distancesSquared[j] > d) {
+                indices[j + 1] = indices[j];
+                distancesSquared[j + 1] = distancesSquared[j];
+                j--;
+            }
+            indices[j + 1] = index;
+            distancesSquared[j + 1] = d;
+        }
+    }
+}
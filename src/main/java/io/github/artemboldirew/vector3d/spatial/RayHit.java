@@ -0,0 +1,48 @@
+package io.github.artemboldirew.vector3d.spatial;
+
+// Результат запроса к Bvh: параметр t вдоль луча, индекс треугольника во входном массиве
+// индексов и барицентрические координаты (u, v). Объект переиспользуется между запросами:
+// в нём же лежит стек обхода, поэтому сам запрос не выделяет память.
+// Один экземпляр нельзя использовать из нескольких потоков одновременно.
+public final class RayHit {
+    private int[] stack = new int[64];
+    float t = Float.POSITIVE_INFINITY;
+    int triangle = -1;
+    float u;
+    float v;
+
+    public boolean isHit() {
+        return triangle >= 0;
+    }
+
+    public float getT() {
+        return t;
+    }
+
+    public int getTriangle() {
+        return triangle;
+    }
+
+    public float getU() {
+        return u;
+    }
+
+    public float getV() {
+        return v;
+    }
+
+    // Стек обхода не меньше size; растёт один раз под глубину самого глубокого дерева
+    int[] stack(int size) {
+        if (stack.length < size) {
+            stack = new int[size];
+        }
+        return stack;
+    }
+
+    void reset(float tMax) {
+        t = tMax;
+        triangle = -1;
+        u = 0.0f;
+        v = 0.0f;
+    }
+}
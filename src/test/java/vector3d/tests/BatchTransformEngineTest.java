@@ -0,0 +1,154 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import io.github.artemboldirew.vector3d.core.Vector4Buffer;
+import io.github.artemboldirew.vector3d.core.Vector4SegmentArray;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchTransformEngineTest {
+    private static final int COUNT = 1000;
+
+    private static ForkJoinPool pool;
+
+    private BatchTransformEngine engine;
+    private Random random;
+    private Matrix4 matrix4;
+    private Matrix3 matrix3;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void closePool() {
+        pool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        engine = new BatchTransformEngine(pool, 7);
+        random = new Random(11);
+        matrix4 = randomMatrix4();
+        matrix3 = new Matrix3(new float[][]{
+                {random.nextFloat(), random.nextFloat(), random.nextFloat()},
+                {random.nextFloat(), random.nextFloat(), random.nextFloat()},
+                {random.nextFloat(), random.nextFloat(), random.nextFloat()}
+        });
+    }
+
+    private Matrix4 randomMatrix4() {
+        Matrix4 mat = new Matrix4();
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                mat.set(row, col, random.nextFloat() * 2.0f - 1.0f);
+            }
+        }
+        return mat;
+    }
+
+    private Vector4 randomVector4() {
+        return new Vector4(new float[][]{{random.nextFloat()}, {random.nextFloat()}, {random.nextFloat()}, {random.nextFloat()}});
+    }
+
+    @Test
+    void testInvalidThresholdThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchTransformEngine(0));
+    }
+
+    @Test
+    void testVector4ArrayMatchesSequentialMultiply() {
+        Vector4[] src = new Vector4[COUNT];
+        Vector4[] dest = new Vector4[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            src[i] = randomVector4();
+            dest[i] = new Vector4();
+        }
+        engine.transform(matrix4, src, dest);
+        for (int i = 0; i < COUNT; i++) {
+            assertArrayEquals(matrix4.multiply(src[i]).getVector(), dest[i].getVector());
+        }
+    }
+
+    @Test
+    void testPerElementMatrices() {
+        Matrix4[] mats = new Matrix4[COUNT];
+        Vector4[] src = new Vector4[COUNT];
+        Vector4[] dest = new Vector4[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            mats[i] = randomMatrix4();
+            src[i] = randomVector4();
+            dest[i] = new Vector4();
+        }
+        engine.transform(mats, src, dest);
+        for (int i = 0; i < COUNT; i++) {
+            assertArrayEquals(mats[i].multiply(src[i]).getVector(), dest[i].getVector());
+        }
+    }
+
+    @Test
+    void testVector3ArrayWithMatrix3() {
+        Vector3[] src = new Vector3[COUNT];
+        Vector3[] dest = new Vector3[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            src[i] = new Vector3(new float[][]{{random.nextFloat()}, {random.nextFloat()}, {random.nextFloat()}});
+            dest[i] = new Vector3();
+        }
+        engine.transform(matrix3, src, dest);
+        for (int i = 0; i < COUNT; i++) {
+            assertArrayEquals(matrix3.multiply(src[i]).getVector(), dest[i].getVector());
+        }
+    }
+
+    @Test
+    void testBuffersMatchSequentialTransform() {
+        Vector4Buffer parallel = new Vector4Buffer(COUNT);
+        Vector4Buffer sequential = new Vector4Buffer(COUNT);
+        Vector3Buffer points = new Vector3Buffer(COUNT);
+        Vector3Buffer pointsSequential = new Vector3Buffer(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            float x = random.nextFloat(), y = random.nextFloat(), z = random.nextFloat(), w = random.nextFloat();
+            parallel.set(i, x, y, z, w);
+            sequential.set(i, x, y, z, w);
+            points.set(i, x, y, z);
+            pointsSequential.set(i, x, y, z);
+        }
+        engine.transform(matrix4, parallel);
+        sequential.transform(matrix4);
+        assertArrayEquals(sequential.getX(), parallel.getX());
+        assertArrayEquals(sequential.getW(), parallel.getW());
+
+        engine.transform(matrix4, points);
+        pointsSequential.transform(matrix4);
+        assertArrayEquals(pointsSequential.getZ(), points.getZ());
+    }
+
+    @Test
+    void testSharedSegment() {
+        try (Arena arena = Arena.ofShared()) {
+            Vector4SegmentArray vectors = Vector4SegmentArray.allocate(arena, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                vectors.set(i, 1.0f, 2.0f, 3.0f, 4.0f);
+            }
+            engine.transform(matrix4, vectors);
+            Vector4 expected = matrix4.multiply(new Vector4(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}}));
+            for (int i = 0; i < COUNT; i += 97) {
+                assertArrayEquals(expected.getVector(), vectors.get(i, new Vector4()).getVector());
+            }
+        }
+    }
+}
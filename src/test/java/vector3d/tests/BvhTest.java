@@ -0,0 +1,147 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.spatial.Bvh;
+import io.github.artemboldirew.vector3d.spatial.RayHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BvhTest {
+    private static final int TRIANGLES = 5000;
+    private static final int RAYS = 500;
+
+    private Random random;
+    private Vector3Buffer positions;
+    private int[] indices;
+    private Vector3Buffer origins;
+    private Vector3Buffer directions;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(17);
+        positions = new Vector3Buffer(TRIANGLES * 3);
+        indices = new int[TRIANGLES * 3];
+        for (int t = 0; t < TRIANGLES; t++) {
+            float cx = random.nextFloat() * 100.0f, cy = random.nextFloat() * 100.0f, cz = random.nextFloat() * 100.0f;
+            for (int k = 0; k < 3; k++) {
+                positions.set(t * 3 + k, cx + random.nextFloat() * 4.0f - 2.0f,
+                        cy + random.nextFloat() * 4.0f - 2.0f, cz + random.nextFloat() * 4.0f - 2.0f);
+                indices[t * 3 + k] = t * 3 + k;
+            }
+        }
+        origins = new Vector3Buffer(RAYS);
+        directions = new Vector3Buffer(RAYS);
+        for (int i = 0; i < RAYS; i++) {
+            origins.set(i, random.nextFloat() * 100.0f, random.nextFloat() * 100.0f, -10.0f);
+            directions.set(i, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, 1.0f);
+        }
+    }
+
+    // Перебор всех треугольников через Vector3, как без BVH
+    private float bruteForce(int ray, float tMax) {
+        Vector3 o = origins.get(ray, new Vector3());
+        Vector3 d = directions.get(ray, new Vector3());
+        float best = tMax;
+        for (int t = 0; t < TRIANGLES; t++) {
+            Vector3 a = positions.get(indices[t * 3], new Vector3());
+            Vector3 e1 = Vector3.subtract(positions.get(indices[t * 3 + 1], new Vector3()), a, new Vector3());
+            Vector3 e2 = Vector3.subtract(positions.get(indices[t * 3 + 2], new Vector3()), a, new Vector3());
+            Vector3 p = Vector3.vectorProduct(d, e2, new Vector3());
+            float det = e1.scalarProduct(p);
+            if (Math.abs(det) < 1e-9f) {
+                continue;
+            }
+            Vector3 s = Vector3.subtract(o, a, new Vector3());
+            float u = s.scalarProduct(p) / det;
+            Vector3 q = Vector3.vectorProduct(s, e1, new Vector3());
+            float v = d.scalarProduct(q) / det;
+            float dist = e2.scalarProduct(q) / det;
+            if (u >= 0 && v >= 0 && u + v <= 1 && dist > 0 && dist < best) {
+                best = dist;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void testSingleQuad() {
+        Vector3Buffer quad = new Vector3Buffer(4);
+        quad.set(0, -1.0f, -1.0f, 5.0f);
+        quad.set(1, 1.0f, -1.0f, 5.0f);
+        quad.set(2, 1.0f, 1.0f, 5.0f);
+        quad.set(3, -1.0f, 1.0f, 5.0f);
+        Bvh bvh = Bvh.build(quad, new int[]{0, 1, 2, 0, 2, 3});
+        RayHit hit = new RayHit();
+        assertTrue(bvh.intersect(-0.5f, 0.5f, 0.0f, 0.0f, 0.0f, 1.0f, Float.POSITIVE_INFINITY, hit));
+        assertEquals(5.0f, hit.getT(), 1e-6f);
+        assertEquals(1, hit.getTriangle());
+        assertFalse(bvh.intersect(-0.5f, 0.5f, 0.0f, 0.0f, 0.0f, 1.0f, 4.0f, hit));
+        assertFalse(bvh.intersect(-0.5f, 0.5f, 0.0f, 0.0f, 0.0f, -1.0f, Float.POSITIVE_INFINITY, hit));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void testClosestHitMatchesBruteForce() {
+        Bvh bvh;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            bvh = Bvh.build(positions, indices, pool);
+        }
+        assertEquals(TRIANGLES, bvh.getTriangleCount());
+        assertTrue(bvh.getDepth() < 64, "depth " + bvh.getDepth());
+        RayHit hit = new RayHit();
+        Vector3 o = new Vector3();
+        Vector3 d = new Vector3();
+        int hits = 0;
+        for (int i = 0; i < RAYS; i++) {
+            float expected = bruteForce(i, 1000.0f);
+            boolean found = bvh.intersect(origins.get(i, o), directions.get(i, d), 1000.0f, hit);
+            assertEquals(expected < 1000.0f, found, "ray " + i);
+            if (found) {
+                assertEquals(expected, hit.getT(), 1e-3f, "ray " + i);
+                hits++;
+            }
+        }
+        assertTrue(hits > RAYS / 10, "hits " + hits);
+    }
+
+    @Test
+    void testBatchQueriesMatchSingle() {
+        Bvh bvh = Bvh.build(positions, indices);
+        float[] t = new float[RAYS];
+        int[] triangles = new int[RAYS];
+        long[] occluded;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            BatchTransformEngine engine = new BatchTransformEngine(pool, 16);
+            bvh.intersect(origins, directions, 1000.0f, t, triangles, engine);
+            occluded = bvh.intersectsAny(origins, directions, 1000.0f, new long[(RAYS + 63) / 64], engine);
+        }
+        long[] sequential = bvh.intersectsAny(origins, directions, 1000.0f, new long[(RAYS + 63) / 64]);
+        assertArrayEquals(sequential, occluded);
+
+        RayHit hit = new RayHit();
+        float[] ox = origins.getX(), oy = origins.getY(), oz = origins.getZ();
+        float[] dx = directions.getX(), dy = directions.getY(), dz = directions.getZ();
+        for (int i = 0; i < RAYS; i++) {
+            boolean found = bvh.intersect(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], 1000.0f, hit);
+            assertEquals(found ? hit.getTriangle() : -1, triangles[i]);
+            assertEquals(found ? hit.getT() : Float.POSITIVE_INFINITY, t[i], 0.0f);
+            assertEquals(found, (occluded[i >>> 6] & (1L << i)) != 0);
+            assertEquals(found, bvh.intersectsAny(ox[i], oy[i], oz[i], dx[i], dy[i], dz[i], 1000.0f, hit));
+        }
+    }
+
+    @Test
+    void testEmptyAndInvalidMeshes() {
+        Bvh empty = Bvh.build(new Vector3Buffer(0), new int[0]);
+        assertFalse(empty.intersect(0.0f, 0.0f, 0.0f, 0.0f, 0.0f, 1.0f, 10.0f, new RayHit()));
+        assertThrows(IllegalArgumentException.class, () -> Bvh.build(positions, new int[]{0, 1}));
+        assertThrows(IndexOutOfBoundsException.class, () -> Bvh.build(new Vector3Buffer(2), new int[]{0, 1, 2}));
+    }
+}
@@ -0,0 +1,163 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Frustum;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrustumTest {
+    private Frustum cube;
+    private Frustum perspective;
+
+    @BeforeEach
+    void setUp() {
+        Matrix4 identity = new Matrix4();
+        for (int i = 0; i < 4; i++) {
+            identity.set(i, i, 1.0f);
+        }
+        cube = new Frustum(identity);
+        perspective = new Frustum(perspective(1.0f, 1.0f, 0.1f, 100.0f));
+    }
+
+    // Перспектива в стиле OpenGL: камера смотрит вдоль -z
+    private Matrix4 perspective(float fovY, float aspect, float near, float far) {
+        float f = (float) (1.0 / Math.tan(fovY / 2.0));
+        return new Matrix4(new float[][]{
+                {f / aspect, 0.0f, 0.0f, 0.0f},
+                {0.0f, f, 0.0f, 0.0f},
+                {0.0f, 0.0f, (far + near) / (near - far), 2.0f * far * near / (near - far)},
+                {0.0f, 0.0f, -1.0f, 0.0f}
+        });
+    }
+
+    @Test
+    void testPlanesAreNormalized() {
+        Vector4 plane = cube.getPlane(Frustum.LEFT, new Vector4());
+        assertArrayEquals(new float[][]{{1.0f}, {0.0f}, {0.0f}, {1.0f}}, plane.getVector());
+        perspective.getPlane(Frustum.FAR, plane);
+        float[][] v = plane.getVector();
+        assertEquals(1.0f, v[0][0] * v[0][0] + v[1][0] * v[1][0] + v[2][0] * v[2][0], 1e-5f);
+    }
+
+    @Test
+    void testPointsAndSpheres() {
+        assertTrue(perspective.containsPoint(0.0f, 0.0f, -5.0f));
+        assertFalse(perspective.containsPoint(0.0f, 0.0f, 5.0f));
+        assertFalse(perspective.containsPoint(0.0f, 0.0f, -200.0f));
+        assertFalse(perspective.containsPoint(10.0f, 0.0f, -5.0f));
+        assertTrue(perspective.intersectsSphere(10.0f, 0.0f, -5.0f, 8.0f));
+    }
+
+    @Test
+    void testBoxes() {
+        assertTrue(cube.intersectsBox(0.5f, 0.5f, 0.5f, 3.0f, 3.0f, 3.0f));
+        assertFalse(cube.intersectsBox(1.5f, -1.0f, -1.0f, 3.0f, 1.0f, 1.0f));
+        assertTrue(perspective.intersectsBox(-1.0f, -1.0f, -11.0f, 1.0f, 1.0f, -9.0f));
+        assertFalse(perspective.intersectsBox(-1.0f, -1.0f, 1.0f, 1.0f, 1.0f, 3.0f));
+    }
+
+    @Test
+    void testBatchMatchesSingleAndParallel() {
+        int count = 1000;
+        Random random = new Random(3);
+        Vector3Buffer min = new Vector3Buffer(count);
+        Vector3Buffer max = new Vector3Buffer(count);
+        float[] radii = new float[count];
+        for (int i = 0; i < count; i++) {
+            float x = random.nextFloat() * 40.0f - 20.0f;
+            float y = random.nextFloat() * 40.0f - 20.0f;
+            float z = random.nextFloat() * -120.0f + 10.0f;
+            float e = random.nextFloat() * 2.0f;
+            min.set(i, x - e, y - e, z - e);
+            max.set(i, x + e, y + e, z + e);
+            radii[i] = e;
+        }
+        long[] boxes = perspective.cullBoxes(min, max, new long[Frustum.words(count)]);
+        long[] spheres = perspective.cullSpheres(min, radii, new long[Frustum.words(count)]);
+        for (int i = 0; i < count; i++) {
+            boolean box = perspective.intersectsBox(min.getX()[i], min.getY()[i], min.getZ()[i],
+                    max.getX()[i], max.getY()[i], max.getZ()[i]);
+            boolean sphere = perspective.intersectsSphere(min.getX()[i], min.getY()[i], min.getZ()[i], radii[i]);
+            assertEquals(box, (boxes[i >>> 6] & (1L << i)) != 0, "box " + i);
+            assertEquals(sphere, (spheres[i >>> 6] & (1L << i)) != 0, "sphere " + i);
+        }
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            BatchTransformEngine engine = new BatchTransformEngine(pool, 2);
+            long[] parallel = new long[Frustum.words(count)];
+            Arrays.fill(parallel, 0, parallel.length - 1, -1L);
+            assertArrayEquals(boxes, perspective.cullBoxes(min, max, parallel, engine));
+            assertArrayEquals(spheres, perspective.cullSpheres(min, radii, new long[Frustum.words(count)], engine));
+        }
+    }
+
+    // Порог по умолчанию считается в объектах: 500k сфер делятся на задачи с границами, кратными 64
+    @Test
+    void testDefaultThresholdSplitsLargeBatch() {
+        int count = 500_000;
+        Random random = new Random(12);
+        Vector3Buffer centers = new Vector3Buffer(count);
+        float[] radii = new float[count];
+        for (int i = 0; i < count; i++) {
+            centers.set(i, random.nextFloat() * 40.0f - 20.0f, random.nextFloat() * 40.0f - 20.0f,
+                    random.nextFloat() * -120.0f + 10.0f);
+            radii[i] = random.nextFloat();
+        }
+        long[] sequential = perspective.cullSpheres(centers, radii, new long[Frustum.words(count)]);
+        Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            BatchTransformEngine engine = new BatchTransformEngine(pool, BatchTransformEngine.DEFAULT_THRESHOLD) {
+                @Override
+                public void run(long size, int alignment, RangeAction action) {
+                    super.run(size, alignment, (from, to) -> {
+                        ranges.add(new long[]{from, to});
+                        action.apply(from, to);
+                    });
+                }
+            };
+            assertArrayEquals(sequential, perspective.cullSpheres(centers, radii, new long[Frustum.words(count)], engine));
+        }
+        assertTrue(ranges.size() >= count / BatchTransformEngine.DEFAULT_THRESHOLD, "tasks " + ranges.size());
+        long covered = 0;
+        for (long[] range : ranges) {
+            assertEquals(0, range[0] % 64);
+            assertTrue(range[1] % 64 == 0 || range[1] == count);
+            assertTrue(range[1] - range[0] <= BatchTransformEngine.DEFAULT_THRESHOLD);
+            covered += range[1] - range[0];
+        }
+        assertEquals(count, covered);
+    }
+
+    @Test
+    void testRangeKeepsOtherBits() {
+        Vector3Buffer centers = new Vector3Buffer(100);
+        float[] radii = new float[100];
+        for (int i = 0; i < 100; i++) {
+            centers.set(i, 5.0f, 5.0f, 5.0f);
+        }
+        long[] bits = {-1L, -1L};
+        cube.cullSpheres(centers, radii, bits, 10, 70);
+        for (int i = 0; i < 100; i++) {
+            boolean expected = i < 10 || i >= 70;
+            assertEquals(expected, (bits[i >>> 6] & (1L << i)) != 0, "bit " + i);
+        }
+    }
+
+    @Test
+    void testInvalidBatchThrows() {
+        Vector3Buffer centers = new Vector3Buffer(65);
+        assertThrows(IllegalArgumentException.class, () -> cube.cullSpheres(centers, new float[65], new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> cube.cullSpheres(centers, new float[64], new long[2]));
+    }
+}
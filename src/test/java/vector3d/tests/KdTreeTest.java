@@ -0,0 +1,173 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.spatial.KdTree;
+import io.github.artemboldirew.vector3d.spatial.NeighborList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KdTreeTest {
+    private static final int POINTS = 40000;
+    private static final int QUERIES = 300;
+
+    private Vector3Buffer points;
+    private Vector3Buffer queries;
+    private KdTree tree;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(23);
+        points = new Vector3Buffer(POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            // Часть точек на сетке, чтобы были совпадающие координаты
+            if (i % 4 == 0) {
+                points.set(i, random.nextInt(10), random.nextInt(10), random.nextInt(10));
+            } else {
+                points.set(i, random.nextFloat() * 10.0f, random.nextFloat() * 10.0f, random.nextFloat() * 10.0f);
+            }
+        }
+        queries = new Vector3Buffer(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            queries.set(i, random.nextFloat() * 12.0f - 1.0f, random.nextFloat() * 12.0f - 1.0f, random.nextFloat() * 12.0f - 1.0f);
+        }
+        tree = KdTree.build(points);
+    }
+
+    private float[] bruteForceDistances(int query) {
+        float[] d = new float[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            float dx = points.getX()[i] - queries.getX()[query];
+            float dy = points.getY()[i] - queries.getY()[query];
+            float dz = points.getZ()[i] - queries.getZ()[query];
+            d[i] = dx * dx + dy * dy + dz * dz;
+        }
+        return d;
+    }
+
+    @Test
+    void testNearestMatchesBruteForce() {
+        NeighborList list = new NeighborList();
+        for (int q = 0; q < QUERIES; q++) {
+            float[] d = bruteForceDistances(q);
+            tree.nearest(queries.getX()[q], queries.getY()[q], queries.getZ()[q], 8, list);
+            float[] sorted = d.clone();
+            Arrays.sort(sorted);
+            assertEquals(8, list.size());
+            for (int j = 0; j < 8; j++) {
+                assertEquals(sorted[j], list.getDistanceSquared(j));
+                assertEquals(d[list.getIndex(j)], list.getDistanceSquared(j));
+            }
+        }
+    }
+
+    @Test
+    void testNearestMoreThanSize() {
+        Vector3Buffer few = new Vector3Buffer(3);
+        few.set(0, 0.0f, 0.0f, 0.0f);
+        few.set(1, 1.0f, 0.0f, 0.0f);
+        few.set(2, 3.0f, 0.0f, 0.0f);
+        KdTree small = KdTree.build(few);
+        NeighborList list = small.nearest(0.9f, 0.0f, 0.0f, 5, new NeighborList(1));
+        assertEquals(3, list.size());
+        assertEquals(1, list.getIndex(0));
+        assertEquals(0, list.getIndex(1));
+        assertEquals(2, list.getIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getIndex(3));
+        assertThrows(IllegalArgumentException.class, () -> small.nearest(0.0f, 0.0f, 0.0f, 0, list));
+    }
+
+    @Test
+    void testEmptyTree() {
+        KdTree empty = KdTree.build(new Vector3Buffer(0));
+        assertEquals(0, empty.nearest(1.0f, 2.0f, 3.0f, 4, new NeighborList()).size());
+        assertEquals(0, empty.countWithinRadius(1.0f, 2.0f, 3.0f, 10.0f));
+    }
+
+    @Test
+    void testRadiusMatchesBruteForce() {
+        NeighborList list = new NeighborList(1);
+        float radius = 0.7f;
+        for (int q = 0; q < QUERIES; q++) {
+            float[] d = bruteForceDistances(q);
+            int expected = 0;
+            for (float v : d) {
+                if (v <= radius * radius) {
+                    expected++;
+                }
+            }
+            tree.withinRadius(queries.getX()[q], queries.getY()[q], queries.getZ()[q], radius, list);
+            assertEquals(expected, list.size());
+            boolean[] seen = new boolean[POINTS];
+            for (int j = 0; j < list.size(); j++) {
+                assertFalse(seen[list.getIndex(j)]);
+                seen[list.getIndex(j)] = true;
+                assertTrue(d[list.getIndex(j)] <= radius * radius);
+            }
+            assertEquals(expected, tree.countWithinRadius(queries.getX()[q], queries.getY()[q], queries.getZ()[q], radius));
+        }
+    }
+
+    @Test
+    void testBatchNearestParallelMatchesSequential() {
+        int k = 4;
+        int[] indices = new int[QUERIES * k];
+        float[] distances = new float[QUERIES * k];
+        tree.nearest(queries, k, indices, distances);
+
+        int[] parallelIndices = new int[QUERIES * k];
+        float[] parallelDistances = new float[QUERIES * k];
+        tree.nearest(queries, k, parallelIndices, parallelDistances, new BatchTransformEngine(ForkJoinPool.commonPool(), 16));
+        assertArrayEquals(distances, parallelDistances);
+
+        NeighborList list = new NeighborList();
+        for (int q = 0; q < QUERIES; q++) {
+            tree.nearest(queries.getX()[q], queries.getY()[q], queries.getZ()[q], k, list);
+            for (int j = 0; j < k; j++) {
+                assertEquals(list.getDistanceSquared(j), distances[q * k + j]);
+            }
+        }
+    }
+
+    @Test
+    void testBatchNearestFillsMissing() {
+        Vector3Buffer two = new Vector3Buffer(2);
+        two.set(1, 1.0f, 1.0f, 1.0f);
+        int[] indices = new int[QUERIES * 3];
+        float[] distances = new float[QUERIES * 3];
+        KdTree.build(two).nearest(queries, 3, indices, distances);
+        assertEquals(-1, indices[2]);
+        assertEquals(Float.POSITIVE_INFINITY, distances[2]);
+        assertTrue(indices[0] >= 0 && indices[1] >= 0);
+    }
+
+    @Test
+    void testBatchCountParallel() {
+        int[] counts = tree.countWithinRadius(queries, 1.0f, new int[QUERIES]);
+        int[] parallel = tree.countWithinRadius(queries, 1.0f, new int[QUERIES], new BatchTransformEngine(ForkJoinPool.commonPool(), 16));
+        assertArrayEquals(counts, parallel);
+    }
+
+    @Test
+    void testParallelBuildMatchesSequentialResults() {
+        KdTree single;
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            single = KdTree.build(points, pool);
+        }
+        NeighborList a = new NeighborList();
+        NeighborList b = new NeighborList();
+        for (int q = 0; q < QUERIES; q++) {
+            tree.nearest(queries.getX()[q], queries.getY()[q], queries.getZ()[q], 3, a);
+            single.nearest(queries.getX()[q], queries.getY()[q], queries.getZ()[q], 3, b);
+            for (int j = 0; j < 3; j++) {
+                assertEquals(a.getDistanceSquared(j), b.getDistanceSquared(j));
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.LuDecomposition;
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LuDecompositionTest {
+    private final Random random = new Random(29);
+
+    // Диагональное преобладание держит число обусловленности малым, а перестановки остаются
+    // за счёт случайных строк с большим первым элементом
+    private float[][] randomSystem(int n) {
+        float[][] a = new float[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                a[i][j] = random.nextFloat() * 2.0f - 1.0f;
+            }
+            a[i][i] += n * 0.5f;
+        }
+        return a;
+    }
+
+    private static float[] multiply(float[][] a, float[] x) {
+        float[] result = new float[a.length];
+        for (int i = 0; i < a.length; i++) {
+            double sum = 0.0;
+            for (int j = 0; j < x.length; j++) {
+                sum += (double) a[i][j] * x[j];
+            }
+            result[i] = (float) sum;
+        }
+        return result;
+    }
+
+    private float[] randomVector(int n) {
+        float[] v = new float[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        return v;
+    }
+
+    @Test
+    void testSolveSmallWithPivoting() {
+        float[][] a = {{0.0f, 2.0f, 1.0f}, {1.0f, 1.0f, 0.0f}, {2.0f, 0.0f, 3.0f}};
+        LuDecomposition lu = LuDecomposition.decompose(a);
+        assertEquals(0.0f, a[0][0]);
+        float[] x = lu.solve(new float[]{5.0f, 3.0f, 5.0f});
+        assertArrayEquals(new float[]{1.0f, 2.0f, 1.0f}, x, 1e-5f);
+        assertEquals(new Matrix3(a).determinant(), lu.determinant(), 1e-5f);
+    }
+
+    @Test
+    void testBlockedMatchesResidual() {
+        int n = 300;
+        float[][] a = randomSystem(n);
+        float[] expected = randomVector(n);
+        float[] b = multiply(a, expected);
+        float[][] work = new float[n][];
+        for (int i = 0; i < n; i++) {
+            work[i] = a[i].clone();
+        }
+        LuDecomposition lu = LuDecomposition.decomposeInPlace(work);
+        assertArrayEquals(expected, lu.solve(b), 1e-3f);
+
+        // L · U совпадает с P · A
+        float[][] l = new float[n][n];
+        float[][] u = new float[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (j < i) {
+                    l[i][j] = work[i][j];
+                } else {
+                    u[i][j] = work[i][j];
+                }
+            }
+            l[i][i] = 1.0f;
+        }
+        float[][] product = MathUtil.multiplyMatrices(l, u);
+        int[] p = lu.getPermutation();
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(a[p[i]], product[i], 1e-3f);
+        }
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        int n = 200;
+        float[][] a = randomSystem(n);
+        float[] b = randomVector(n);
+        float[][] sequential = new float[n][];
+        float[][] parallel = new float[n][];
+        for (int i = 0; i < n; i++) {
+            sequential[i] = a[i].clone();
+            parallel[i] = a[i].clone();
+        }
+        float[] xs = LuDecomposition.decomposeInPlace(sequential, new BatchTransformEngine(ForkJoinPool.commonPool(), Integer.MAX_VALUE)).solve(b);
+        float[] xp = LuDecomposition.decomposeInPlace(parallel, new BatchTransformEngine(ForkJoinPool.commonPool(), 8)).solve(b);
+        assertArrayEquals(xs, xp);
+    }
+
+    @Test
+    void testMultipleRightHandSides() {
+        int n = 70;
+        float[][] a = randomSystem(n);
+        LuDecomposition lu = LuDecomposition.decompose(a);
+        float[][] b = new float[n][5];
+        for (float[] row : b) {
+            for (int j = 0; j < 5; j++) {
+                row[j] = random.nextFloat();
+            }
+        }
+        float[][] x = lu.solve(b);
+        float[][] residual = MathUtil.multiplyMatrices(a, x);
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(b[i], residual[i], 1e-4f);
+        }
+        float[] column = new float[n];
+        for (int i = 0; i < n; i++) {
+            column[i] = b[i][2];
+        }
+        float[] single = lu.solve(column, column);
+        for (int i = 0; i < n; i++) {
+            assertEquals(x[i][2], single[i], 1e-5f);
+        }
+    }
+
+    @Test
+    void testUnrolledSmallSystems() {
+        float[][] a3 = randomSystem(3);
+        float[] x3 = randomVector(3);
+        float[] b3 = multiply(a3, x3);
+        Vector3 r3 = LuDecomposition.solve(new Matrix3(a3), new Vector3(new float[][]{{b3[0]}, {b3[1]}, {b3[2]}}), new Vector3());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(x3[i], r3.getVector()[i][0], 1e-5f);
+        }
+        float[][] a4 = randomSystem(4);
+        float[] x4 = randomVector(4);
+        float[] b4 = multiply(a4, x4);
+        Vector4 r4 = LuDecomposition.solve(new Matrix4(a4), new Vector4(new float[][]{{b4[0]}, {b4[1]}, {b4[2]}, {b4[3]}}), new Vector4());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(x4[i], r4.getVector()[i][0], 1e-5f);
+        }
+        assertArrayEquals(x4, LuDecomposition.solve(a4, b4), 1e-5f);
+        assertArrayEquals(LuDecomposition.decompose(a4).solve(b4), LuDecomposition.solve(a4, b4), 1e-5f);
+    }
+
+    @Test
+    void testSingular() {
+        float[][] singular = {{1.0f, 2.0f, 3.0f}, {2.0f, 4.0f, 6.0f}, {1.0f, 0.0f, 1.0f}};
+        assertThrows(IllegalArgumentException.class, () -> LuDecomposition.decompose(new float[][]{{0, 0}, {0, 0}}));
+        assertThrows(IllegalArgumentException.class, () -> LuDecomposition.solve(singular, new float[3]));
+        assertThrows(IllegalArgumentException.class, () -> LuDecomposition.decompose(new float[][]{{1, 2}}));
+        assertThrows(IllegalArgumentException.class, () -> LuDecomposition.decompose(randomSystem(5)).solve(new float[4]));
+    }
+}
@@ -0,0 +1,163 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MathUtilTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(7);
+    }
+
+    private float[][] randomArray(int rows, int cols) {
+        float[][] arr = new float[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                arr[i][j] = random.nextFloat() * 2.0f - 1.0f;
+            }
+        }
+        return arr;
+    }
+
+    // Эталонное произведение в double, не зависящее от бэкенда
+    private float[][] referenceProduct(float[][] a, float[][] b) {
+        float[][] result = new float[a.length][b[0].length];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b[0].length; j++) {
+                double sum = 0.0;
+                for (int k = 0; k < b.length; k++) {
+                    sum += (double) a[i][k] * b[k][j];
+                }
+                result[i][j] = (float) sum;
+            }
+        }
+        return result;
+    }
+
+    private void assertArraysClose(float[][] expected, float[][] actual, float delta) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual[i], delta);
+        }
+    }
+
+    @Test
+    void testBackendNameIsReported() {
+        String name = MathUtil.backendName();
+        assertTrue(name.equals("scalar") || name.startsWith("vector-api/"), name);
+    }
+
+    @Test
+    void testMultiply4x4() {
+        float[][] a = {
+                {1.0f, 2.0f, 3.0f, 4.0f},
+                {5.0f, 6.0f, 7.0f, 8.0f},
+                {9.0f, 10.0f, 11.0f, 12.0f},
+                {13.0f, 14.0f, 15.0f, 16.0f}
+        };
+        float[][] b = {
+                {2.0f, 0.0f, 1.0f, 0.0f},
+                {0.0f, 1.0f, 0.0f, 2.0f},
+                {1.0f, 0.0f, 2.0f, 0.0f},
+                {0.0f, 2.0f, 0.0f, 1.0f}
+        };
+        float[][] expected = {
+                {5.0f, 10.0f, 7.0f, 8.0f},
+                {17.0f, 22.0f, 19.0f, 20.0f},
+                {29.0f, 34.0f, 31.0f, 32.0f},
+                {41.0f, 46.0f, 43.0f, 44.0f}
+        };
+        assertArrayEquals(expected, MathUtil.multiplyMatrices(a, b));
+    }
+
+    @Test
+    void testMultiplyTallByFourColumns() {
+        float[][] a = randomArray(9, 4);
+        float[][] b = randomArray(4, 4);
+        assertArraysClose(referenceProduct(a, b), MathUtil.multiplyMatrices(a, b), 1e-5f);
+    }
+
+    @Test
+    void testMultiplyLargeRectangular() {
+        float[][] a = randomArray(37, 53);
+        float[][] b = randomArray(53, 29);
+        assertArraysClose(referenceProduct(a, b), MathUtil.multiplyMatrices(a, b), 1e-4f);
+    }
+
+    @Test
+    void testMultiplyLargeBlocked() {
+        float[][] a = randomArray(301, 283);
+        float[][] b = randomArray(283, 517);
+        assertArraysClose(referenceProduct(a, b), MathUtil.multiplyMatrices(a, b), 1e-3f);
+    }
+
+    @Test
+    void testMultiplyLargeByColumn() {
+        float[][] a = randomArray(700, 700);
+        float[][] column = randomArray(700, 1);
+        assertArraysClose(referenceProduct(a, column), MathUtil.multiplyMatrices(a, column), 1e-3f);
+    }
+
+    @Test
+    void testMultiplyByColumn() {
+        float[][] a = randomArray(6, 6);
+        float[][] column = randomArray(6, 1);
+        assertArraysClose(referenceProduct(a, column), MathUtil.multiplyMatrices(a, column), 1e-5f);
+    }
+
+    @Test
+    void testMultiplyIncompatibleSizesThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MathUtil.multiplyMatrices(randomArray(3, 4), randomArray(3, 4)));
+    }
+
+    @Test
+    void testAddAndSubtractWideArrays() {
+        float[][] a = randomArray(5, 43);
+        float[][] b = randomArray(5, 43);
+        float[][] sum = new float[5][43];
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 43; j++) {
+                sum[i][j] = a[i][j] + b[i][j];
+            }
+        }
+        float[][] original = new float[5][];
+        for (int i = 0; i < 5; i++) {
+            original[i] = a[i].clone();
+        }
+        assertArrayEquals(sum, MathUtil.addArrays(a, b));
+        assertArraysClose(original, MathUtil.substractArrays(a, b), 1e-6f);
+    }
+
+    @Test
+    void testMultiplyAndDivideByNumWideArrays() {
+        float[][] a = randomArray(3, 35);
+        float[][] expected = new float[3][35];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 35; j++) {
+                expected[i][j] = a[i][j] * 3.0f;
+            }
+        }
+        assertArrayEquals(expected, MathUtil.multiplyByNum(a, 3.0f));
+        MathUtil.divideByNum(a, 3.0f);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 35; j++) {
+                assertEquals(expected[i][j] / 3.0f, a[i][j], 0.0f);
+            }
+        }
+    }
+
+    @Test
+    void testScalarArrayProduct() {
+        float[][] a = {{1.0f}, {2.0f}, {3.0f}};
+        float[][] b = {{4.0f}, {5.0f}, {6.0f}};
+        assertEquals(32.0f, MathUtil.scalarArrayProduct(a, b), 0.0f);
+    }
+}
@@ -1,9 +1,14 @@
 package vector3d.tests;
 
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
 import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
 import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.MatrixOrder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import static org.junit.jupiter.api.Assertions.*;
 
 class Matrix3Test {
@@ -185,54 +190,54 @@ class Matrix3Test {
     @Test
     void testMultiplyWithVector() {
         Vector3 vector = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
-        Matrix3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(vector);
+        Vector3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(vector);
         float[][] expected = {
                 {14.0f},
                 {32.0f},
                 {50.0f}
         };
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     @Test
     void testMultiplyWithZeroVector() {
         Vector3 zeroVector = new Vector3(new float[][]{{0.0f}, {0.0f}, {0.0f}});
-        Matrix3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(zeroVector);
+        Vector3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(zeroVector);
         float[][] expected = {{0.0f}, {0.0f}, {0.0f}};
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     @Test
     void testMultiplyVectorWithIdentityMatrix() {
         Vector3 vector = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
-        Matrix3 result = new Matrix3(deepCopy(identityMatrix.getMatrix())).multiply(vector);
+        Vector3 result = new Matrix3(deepCopy(identityMatrix.getMatrix())).multiply(vector);
         float[][] expected = {{1.0f}, {2.0f}, {3.0f}};
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     @Test
     void testMultiplyVectorWithZeroMatrix() {
         Vector3 vector = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
         Matrix3 zeroMatrix = Matrix3.getZ();
-        Matrix3 result = new Matrix3(deepCopy(zeroMatrix.getMatrix())).multiply(vector);
+        Vector3 result = new Matrix3(deepCopy(zeroMatrix.getMatrix())).multiply(vector);
         float[][] expected = {{0.0f}, {0.0f}, {0.0f}};
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     @Test
     void testMultiplyVectorUnitBasis() {
         Vector3 xVector = new Vector3(new float[][]{{1.0f}, {0.0f}, {0.0f}});
-        Matrix3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(xVector);
+        Vector3 result = new Matrix3(deepCopy(matrix1.getMatrix())).multiply(xVector);
         float[][] expected = {{1.0f}, {4.0f}, {7.0f}};
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     @Test
     void testMultiplyVectorDifferentMatrix() {
         Vector3 vector = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
-        Matrix3 result = new Matrix3(deepCopy(matrix2.getMatrix())).multiply(vector);
+        Vector3 result = new Matrix3(deepCopy(matrix2.getMatrix())).multiply(vector);
         float[][] expected = {{5.0f}, {2.0f}, {7.0f}};
-        assertArrayEquals(expected, result.getMatrix());
+        assertArrayEquals(expected, result.getVector());
     }
 
     // Тесты add(Matrix3)
@@ -486,6 +491,41 @@ class Matrix3Test {
     }
 
 
+    @Test
+    void testGetMatrixReturnsIndependentCopy() {
+        float[][] view = matrix1.getMatrix();
+        view[0][0] = 100.0f;
+        assertEquals(1.0f, matrix1.getMatrix()[0][0], 0.001f);
+        // Конструктор тоже копирует: изменения исходного массива на матрицу не влияют
+        Matrix3 copy = new Matrix3(view);
+        view[1][1] = 100.0f;
+        assertEquals(5.0f, copy.get(1, 1), 0.001f);
+        // Записывать элементы нужно через set
+        copy.set(1, 1, 100.0f);
+        assertEquals(100.0f, copy.getMatrix()[1][1], 0.001f);
+    }
+
+    @Test
+    void testGetAndSetElement() {
+        Matrix3 mat = new Matrix3(matrix1).set(2, 0, -1.0f);
+        assertEquals(-1.0f, mat.get(2, 0), 0.001f);
+        assertEquals(matrix1.get(0, 2), mat.get(0, 2), 0.001f);
+        assertNotEquals(mat.get(2, 0), matrix1.get(2, 0));
+    }
+
+    @Test
+    void testDefaultConstructorIsZeroMatrix() {
+        assertArrayEquals(Matrix3.getZ().getMatrix(), new Matrix3().getMatrix());
+    }
+
+    @Test
+    void testMultiplyBySelfInPlace() {
+        Matrix3 expected = new Matrix3(matrix1).multiply(new Matrix3(matrix1));
+        Matrix3 result = new Matrix3(matrix1);
+        result.multiply(result);
+        assertArrayEquals(expected.getMatrix(), result.getMatrix());
+    }
+
     private boolean arraysEqual(float[][] a, float[][] b) {
         if (a == null && b == null) return true;
         if (a == null || b == null) return false;
@@ -500,4 +540,134 @@ class Matrix3Test {
         }
         return true;
     }
-}
\ No newline at end of file
+
+    // Тесты операций с записью в dest
+    @Test
+    void testStaticMultiplyWritesIntoDest() {
+        Matrix3 dest = new Matrix3();
+        Matrix3.multiply(matrix1, matrix2, dest);
+        assertArrayEquals(new Matrix3(matrix1).multiply(matrix2).getMatrix(), dest.getMatrix());
+    }
+
+    @Test
+    void testMultiplyVectorIntoDest() {
+        Vector3 v = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
+        matrix1.multiply(v, v);
+        assertArrayEquals(new float[][]{{14.0f}, {32.0f}, {50.0f}}, v.getVector());
+    }
+
+    @Test
+    void testStaticTransposeIntoDest() {
+        Matrix3 dest = Matrix3.transpose(matrix1, new Matrix3());
+        assertArrayEquals(new Matrix3(matrix1).transpose().getMatrix(), dest.getMatrix());
+    }
+
+    // Тесты determinant() и inverse()
+    @Test
+    void testDeterminant() {
+        assertEquals(0.0f, matrix1.determinant(), 0.001f);
+        assertEquals(3.0f, matrix2.determinant(), 0.001f);
+        assertEquals(1.0f, identityMatrix.determinant(), 0.0f);
+    }
+
+    @Test
+    void testInverse() {
+        Matrix3 inverse = Matrix3.inverse(matrix2, new Matrix3());
+        float[][] expected = {
+                {2.0f / 3.0f, 0.0f, -1.0f / 3.0f},
+                {0.0f, 1.0f, 0.0f},
+                {-1.0f / 3.0f, 0.0f, 2.0f / 3.0f}
+        };
+        float[][] actual = inverse.getMatrix();
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected[i], actual[i], 1e-6f);
+        }
+        float[][] product = new Matrix3(matrix2).multiply(inverse).getMatrix();
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(identityMatrix.getMatrix()[i], product[i], 1e-6f);
+        }
+    }
+
+    @Test
+    void testInverseOfSingularMatrixThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Matrix3(matrix1).inverse());
+    }
+
+    // Тесты normalMatrix()
+    private static Matrix4 model(float[][] upper, float tx, float ty, float tz) {
+        return new Matrix4(new float[][]{
+                {upper[0][0], upper[0][1], upper[0][2], tx},
+                {upper[1][0], upper[1][1], upper[1][2], ty},
+                {upper[2][0], upper[2][1], upper[2][2], tz},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        });
+    }
+
+    @Test
+    void testNormalMatrixIsInverseTranspose() {
+        Matrix4 model = model(matrix2.getMatrix(), 5.0f, -3.0f, 2.0f);
+        Matrix3 normal = new Matrix3().normalMatrix(model);
+        Matrix3 expected = Matrix3.inverse(matrix2, new Matrix3()).transpose();
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected.getMatrix()[i], normal.getMatrix()[i], 1e-6f);
+        }
+    }
+
+    @Test
+    void testNormalMatrixKeepsNormalsPerpendicular() {
+        // Касательная (1, -1, 0) и нормаль (1, 1, 0) при неравномерном масштабе: нормаль, умноженная
+        // на саму модель, перестала бы быть перпендикулярной
+        Matrix4 model = model(new float[][]{{2.0f, 0.0f, 0.0f}, {0.0f, 0.5f, 0.0f}, {0.0f, 0.0f, 1.0f}}, 0.0f, 0.0f, 0.0f);
+        Matrix3 normal = Matrix3.normalMatrix(model, new Matrix3());
+        Vector3 tangent = new Vector3(new float[][]{{2.0f}, {-0.5f}, {0.0f}});
+        Vector3 n = normal.multiply(new Vector3(new float[][]{{1.0f}, {1.0f}, {0.0f}}), new Vector3());
+        assertEquals(0.0f, tangent.scalarProduct(n), 1e-6f);
+    }
+
+    @Test
+    void testNormalMatricesBatch() {
+        Matrix4[] models = new Matrix4[100];
+        Matrix3[] dest = new Matrix3[100];
+        Matrix3[] parallel = new Matrix3[100];
+        for (int i = 0; i < models.length; i++) {
+            float angle = i * 0.1f;
+            float c = (float) Math.cos(angle), s = (float) Math.sin(angle);
+            models[i] = model(new float[][]{{c * (1 + i), -s, 0.0f}, {s * (1 + i), c, 0.0f}, {0.0f, 0.0f, 2.0f}}, i, 0.0f, 0.0f);
+            dest[i] = new Matrix3();
+            parallel[i] = new Matrix3();
+        }
+        Matrix3.normalMatrices(models, dest);
+        new BatchTransformEngine(8).normalMatrices(models, parallel);
+        for (int i = 0; i < models.length; i++) {
+            Matrix3 expected = Matrix3.normalMatrix(models[i], new Matrix3());
+            assertArrayEquals(expected.getMatrix(), dest[i].getMatrix());
+            assertArrayEquals(expected.getMatrix(), parallel[i].getMatrix());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Matrix3.normalMatrices(models, new Matrix3[99]));
+    }
+
+    @Test
+    void testNormalMatrixOfSingularModelThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Matrix3().normalMatrix(model(matrix1.getMatrix(), 0.0f, 0.0f, 0.0f)));
+    }
+
+    @Test
+    void testFloatBufferColumnMajor() {
+        FloatBuffer buffer = FloatBuffer.allocate(9);
+        matrix1.get(buffer, 0, MatrixOrder.COLUMN_MAJOR);
+        assertEquals(4.0f, buffer.get(1), 0.0f);
+        assertEquals(2.0f, buffer.get(3), 0.0f);
+        Matrix3 copy = new Matrix3().set(buffer, 0, MatrixOrder.COLUMN_MAJOR);
+        assertArrayEquals(matrix1.getMatrix(), copy.getMatrix());
+    }
+
+    @Test
+    void testBatchByteBufferRoundTrip() {
+        Matrix3[] mats = {matrix1, new Matrix3(matrix1).transpose()};
+        ByteBuffer buffer = Matrix3.get(mats, ByteBuffer.allocateDirect(72), 0, MatrixOrder.COLUMN_MAJOR);
+        assertEquals(2.0f, buffer.getFloat(36 + 4), 0.0f);
+        Matrix3[] copies = Matrix3.set(new Matrix3[]{new Matrix3(), new Matrix3()}, buffer, 0, MatrixOrder.COLUMN_MAJOR);
+        assertArrayEquals(mats[1].getMatrix(), copies[1].getMatrix());
+    }
+}
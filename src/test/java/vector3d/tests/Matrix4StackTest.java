@@ -0,0 +1,96 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Matrix4Stack;
+import io.github.artemboldirew.vector3d.core.Quaternion;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Matrix4StackTest {
+    private Matrix4Stack stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new Matrix4Stack(4);
+    }
+
+    private Vector4 point(float x, float y, float z) {
+        return new Vector4(new float[][]{{x}, {y}, {z}, {1.0f}});
+    }
+
+    private void assertVector(float x, float y, float z, Vector4 actual) {
+        float[][] v = actual.getVector();
+        assertEquals(x, v[0][0], 1e-5f);
+        assertEquals(y, v[1][0], 1e-5f);
+        assertEquals(z, v[2][0], 1e-5f);
+        assertEquals(1.0f, v[3][0], 1e-5f);
+    }
+
+    @Test
+    void testStartsWithIdentity() {
+        assertEquals(0, stack.depth());
+        assertVector(1.0f, 2.0f, 3.0f, stack.multiply(point(1.0f, 2.0f, 3.0f), new Vector4()));
+    }
+
+    @Test
+    void testPushPopRestoresTop() {
+        stack.translate(1.0f, 0.0f, 0.0f);
+        stack.push().scale(2.0f, 2.0f, 2.0f).translate(0.0f, 1.0f, 0.0f);
+        assertEquals(1, stack.depth());
+        // T(1,0,0) * S(2) * T(0,1,0) * p
+        assertVector(3.0f, 4.0f, 2.0f, stack.multiply(point(1.0f, 1.0f, 1.0f), new Vector4()));
+        stack.pop();
+        assertVector(2.0f, 1.0f, 1.0f, stack.multiply(point(1.0f, 1.0f, 1.0f), new Vector4()));
+    }
+
+    @Test
+    void testLastTransformAppliesFirst() {
+        stack.rotate((float) (Math.PI / 2.0), 0.0f, 0.0f, 1.0f).translate(1.0f, 0.0f, 0.0f);
+        assertVector(0.0f, 1.0f, 0.0f, stack.multiply(point(0.0f, 0.0f, 0.0f), new Vector4()));
+    }
+
+    @Test
+    void testRotateMatchesQuaternion() {
+        Quaternion q = new Quaternion().setAxisAngle(1.0f, -2.0f, 0.5f, 1.1f);
+        Matrix4 expected = q.toMatrix(new Matrix4());
+        Matrix4 byAxis = stack.push().rotate(1.1f, 1.0f, -2.0f, 0.5f).get(new Matrix4());
+        Matrix4 byQuaternion = stack.pop().push().rotate(q).get(new Matrix4());
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                assertEquals(expected.get(row, col), byAxis.get(row, col), 1e-5f);
+                assertEquals(expected.get(row, col), byQuaternion.get(row, col), 1e-5f);
+            }
+        }
+    }
+
+    @Test
+    void testMultiplyMatchesMatrix4() {
+        Matrix4 a = new Matrix4(new float[][]{
+                {1.0f, 2.0f, 3.0f, 4.0f},
+                {0.0f, 1.0f, 0.0f, 2.0f},
+                {2.0f, 0.0f, 1.0f, 0.0f},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        });
+        Matrix4 b = new Matrix4(new float[][]{
+                {0.0f, 1.0f, 0.0f, 0.0f},
+                {1.0f, 0.0f, 0.0f, 3.0f},
+                {0.0f, 0.0f, 2.0f, 0.0f},
+                {1.0f, 0.0f, 0.0f, 1.0f}
+        });
+        Matrix4 actual = stack.set(a).multiply(b).get(new Matrix4());
+        assertArrayEquals(Matrix4.multiply(a, b, new Matrix4()).getMatrix(), actual.getMatrix());
+        assertEquals(actual.get(1, 3), stack.get(1, 3), 0.0f);
+    }
+
+    @Test
+    void testOverflowAndUnderflowThrow() {
+        stack.push().push().push();
+        assertThrows(IllegalStateException.class, stack::push);
+        stack.pop().pop().pop();
+        assertThrows(IllegalStateException.class, stack::pop);
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4Stack(0));
+    }
+}
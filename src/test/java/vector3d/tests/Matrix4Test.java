@@ -2,8 +2,15 @@ package vector3d.tests;
 
 import io.github.artemboldirew.vector3d.core.Matrix4;
 import io.github.artemboldirew.vector3d.core.Vector4;
+import io.github.artemboldirew.vector3d.core.MatrixOrder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import static org.junit.jupiter.api.Assertions.*;
 
 class Matrix4Test {
@@ -472,6 +479,41 @@ class Matrix4Test {
         assertEquals(16.0f, matrixArray[3][3], 0.001f);
     }
 
+    @Test
+    void testGetMatrixReturnsIndependentCopy() {
+        float[][] view = matrix1.getMatrix();
+        view[0][0] = 100.0f;
+        assertEquals(1.0f, matrix1.getMatrix()[0][0], 0.001f);
+        // Конструктор тоже копирует: изменения исходного массива на матрицу не влияют
+        Matrix4 copy = new Matrix4(view);
+        view[1][1] = 100.0f;
+        assertEquals(6.0f, copy.get(1, 1), 0.001f);
+        // Записывать элементы нужно через set
+        copy.set(1, 1, 100.0f);
+        assertEquals(100.0f, copy.getMatrix()[1][1], 0.001f);
+    }
+
+    @Test
+    void testGetAndSetElement() {
+        Matrix4 mat = new Matrix4(matrix1).set(3, 0, -1.0f);
+        assertEquals(-1.0f, mat.get(3, 0), 0.001f);
+        assertEquals(matrix1.get(0, 3), mat.get(0, 3), 0.001f);
+        assertNotEquals(mat.get(3, 0), matrix1.get(3, 0));
+    }
+
+    @Test
+    void testDefaultConstructorIsZeroMatrix() {
+        assertArrayEquals(Matrix4.getZ().getMatrix(), new Matrix4().getMatrix());
+    }
+
+    @Test
+    void testMultiplyBySelfInPlace() {
+        Matrix4 expected = new Matrix4(matrix1).multiply(new Matrix4(matrix1));
+        Matrix4 result = new Matrix4(matrix1);
+        result.multiply(result);
+        assertArrayEquals(expected.getMatrix(), result.getMatrix());
+    }
+
     private boolean arraysEqual(float[][] a, float[][] b) {
         if (a.length != b.length) return false;
         for (int i = 0; i < a.length; i++) {
@@ -484,4 +526,168 @@ class Matrix4Test {
         }
         return true;
     }
-}
\ No newline at end of file
+
+    // Тесты операций с записью в dest
+    @Test
+    void testStaticMultiplyWritesIntoDest() {
+        Matrix4 dest = new Matrix4();
+        Matrix4.multiply(matrix1, matrix2, dest);
+        assertArrayEquals(new Matrix4(matrix1).multiply(matrix2).getMatrix(), dest.getMatrix());
+        assertArrayEquals(new Matrix4(matrix1).getMatrix(), matrix1.getMatrix());
+    }
+
+    @Test
+    void testMultiplyVectorIntoDest() {
+        Vector4 src = new Vector4(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}});
+        Vector4 dest = new Vector4();
+        assertSame(dest, matrix1.multiply(src, dest));
+        assertArrayEquals(new float[][]{{30.0f}, {70.0f}, {110.0f}, {150.0f}}, dest.getVector());
+    }
+
+    @Test
+    void testMultiplyVectorIntoSource() {
+        Vector4 v = new Vector4(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}});
+        matrix1.multiply(v, v);
+        assertArrayEquals(new float[][]{{30.0f}, {70.0f}, {110.0f}, {150.0f}}, v.getVector());
+    }
+
+    @Test
+    void testStaticTransposeAddSubtract() {
+        Matrix4 dest = Matrix4.transpose(matrix1, new Matrix4());
+        assertArrayEquals(new Matrix4(matrix1).transpose().getMatrix(), dest.getMatrix());
+        Matrix4.add(matrix1, matrix2, dest);
+        assertArrayEquals(new Matrix4(matrix1).add(matrix2).getMatrix(), dest.getMatrix());
+        Matrix4.subtract(matrix1, matrix2, dest);
+        assertArrayEquals(new Matrix4(matrix1).subtract(matrix2).getMatrix(), dest.getMatrix());
+    }
+
+    // Тесты determinant(), inverse() и affineInverse()
+    private final float[][] invertible = {
+            {2.0f, 0.0f, 1.0f, 3.0f},
+            {1.0f, 3.0f, 0.0f, -1.0f},
+            {0.0f, 1.0f, 4.0f, 2.0f},
+            {1.0f, 0.0f, 2.0f, 5.0f}
+    };
+
+    private final float[][] affine = {
+            {0.0f, -2.0f, 0.0f, 5.0f},
+            {2.0f, 0.0f, 0.0f, -3.0f},
+            {0.0f, 0.0f, 0.5f, 7.0f},
+            {0.0f, 0.0f, 0.0f, 1.0f}
+    };
+
+    private void assertIdentity(Matrix4 mat) {
+        float[][] expected = identityMatrix.getMatrix();
+        float[][] actual = mat.getMatrix();
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(expected[i], actual[i], 1e-5f);
+        }
+    }
+
+    @Test
+    void testDeterminant() {
+        assertEquals(0.0f, matrix1.determinant(), 0.001f);
+        assertEquals(1.0f, identityMatrix.determinant(), 0.0f);
+        assertEquals(2.0f, new Matrix4(affine).determinant(), 1e-5f);
+    }
+
+    @Test
+    void testInverseTimesOriginalIsIdentity() {
+        Matrix4 original = new Matrix4(invertible);
+        Matrix4 inverse = new Matrix4(invertible).inverse();
+        assertIdentity(new Matrix4(original).multiply(inverse));
+        assertIdentity(inverse.multiply(original));
+    }
+
+    @Test
+    void testInverseIntoDestKeepsSource() {
+        Matrix4 original = new Matrix4(invertible);
+        Matrix4 dest = Matrix4.inverse(original, new Matrix4());
+        assertArrayEquals(invertible, original.getMatrix());
+        assertIdentity(Matrix4.multiply(original, dest, new Matrix4()));
+    }
+
+    @Test
+    void testInverseOfSingularMatrixThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Matrix4(matrix1).inverse());
+        assertThrows(IllegalArgumentException.class, () -> Matrix4.getZ().affineInverse());
+    }
+
+    @Test
+    void testAffineInverseMatchesGeneralInverse() {
+        Matrix4 general = new Matrix4(affine).inverse();
+        Matrix4 fast = Matrix4.affineInverse(new Matrix4(affine), new Matrix4());
+        float[][] expected = general.getMatrix();
+        float[][] actual = fast.getMatrix();
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(expected[i], actual[i], 1e-5f);
+        }
+        assertIdentity(new Matrix4(affine).multiply(fast));
+    }
+
+    @Test
+    void testFloatBufferColumnMajor() {
+        FloatBuffer buffer = FloatBuffer.allocate(18);
+        matrix1.get(buffer, 2, MatrixOrder.COLUMN_MAJOR);
+        assertEquals(0, buffer.position());
+        assertEquals(1.0f, buffer.get(2), 0.0f);
+        assertEquals(5.0f, buffer.get(3), 0.0f);
+        assertEquals(2.0f, buffer.get(6), 0.0f);
+        assertEquals(16.0f, buffer.get(17), 0.0f);
+        Matrix4 copy = new Matrix4().set(buffer, 2, MatrixOrder.COLUMN_MAJOR);
+        assertArrayEquals(matrix1.getMatrix(), copy.getMatrix());
+    }
+
+    @Test
+    void testFloatBufferRowMajor() {
+        FloatBuffer buffer = FloatBuffer.allocate(16);
+        matrix1.get(buffer, 0, MatrixOrder.ROW_MAJOR);
+        assertEquals(2.0f, buffer.get(1), 0.0f);
+        assertArrayEquals(matrix1.getMatrix(), new Matrix4().set(buffer, 0, MatrixOrder.ROW_MAJOR).getMatrix());
+    }
+
+    @Test
+    void testDirectByteBufferUsesBufferOrder() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4 + 64).order(ByteOrder.LITTLE_ENDIAN);
+        matrix1.get(buffer, 4, MatrixOrder.COLUMN_MAJOR);
+        assertEquals(5.0f, buffer.getFloat(8), 0.0f);
+        assertEquals(5.0f, Float.intBitsToFloat(Integer.reverseBytes(buffer.order(ByteOrder.BIG_ENDIAN).getInt(8))), 0.0f);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(matrix1.getMatrix(), new Matrix4().set(buffer, 4, MatrixOrder.COLUMN_MAJOR).getMatrix());
+    }
+
+    @Test
+    void testMemorySegmentBothOrders() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(8 + 64);
+            matrix1.get(segment, 8, MatrixOrder.ROW_MAJOR);
+            assertEquals(2.0f, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 12), 0.0f);
+            assertArrayEquals(matrix1.getMatrix(), new Matrix4().set(segment, 8, MatrixOrder.ROW_MAJOR).getMatrix());
+            matrix1.get(segment, 8, MatrixOrder.COLUMN_MAJOR);
+            assertEquals(5.0f, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED, 12), 0.0f);
+            assertArrayEquals(matrix1.getMatrix(), new Matrix4().set(segment, 8, MatrixOrder.COLUMN_MAJOR).getMatrix());
+        }
+    }
+
+    @Test
+    void testBatchBufferRoundTrip() {
+        Matrix4[] mats = {matrix1, matrix2, identityMatrix};
+        FloatBuffer buffer = Matrix4.get(mats, FloatBuffer.allocate(48), 0, MatrixOrder.COLUMN_MAJOR);
+        assertEquals(matrix2.get(1, 0), buffer.get(16 + 1), 0.0f);
+        Matrix4[] copies = Matrix4.set(new Matrix4[]{new Matrix4(), new Matrix4(), new Matrix4()}, buffer, 0, MatrixOrder.COLUMN_MAJOR);
+        for (int i = 0; i < mats.length; i++) {
+            assertArrayEquals(mats[i].getMatrix(), copies[i].getMatrix());
+        }
+
+        ByteBuffer bytes = Matrix4.get(mats, ByteBuffer.allocateDirect(192), 0, MatrixOrder.ROW_MAJOR);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = Matrix4.get(mats, arena.allocate(192), 0, MatrixOrder.ROW_MAJOR);
+            Matrix4[] fromSegment = Matrix4.set(new Matrix4[]{new Matrix4(), new Matrix4(), new Matrix4()}, segment, 0, MatrixOrder.ROW_MAJOR);
+            Matrix4[] fromBytes = Matrix4.set(new Matrix4[]{new Matrix4(), new Matrix4(), new Matrix4()}, bytes, 0, MatrixOrder.ROW_MAJOR);
+            for (int i = 0; i < mats.length; i++) {
+                assertArrayEquals(mats[i].getMatrix(), fromSegment[i].getMatrix());
+                assertArrayEquals(mats[i].getMatrix(), fromBytes[i].getMatrix());
+            }
+        }
+    }
+}
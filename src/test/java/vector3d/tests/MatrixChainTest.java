@@ -0,0 +1,121 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.MatrixChain;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixChainTest {
+    private final Random random = new Random(3);
+
+    private float[][] random(int rows, int cols) {
+        float[][] m = new float[rows][cols];
+        for (float[] row : m) {
+            for (int j = 0; j < cols; j++) {
+                row[j] = random.nextFloat() * 2.0f - 1.0f;
+            }
+        }
+        return m;
+    }
+
+    private static void assertMatrixEquals(float[][] expected, float[][] actual, float eps) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].length, actual[i].length);
+            for (int j = 0; j < expected[i].length; j++) {
+                assertEquals(expected[i][j], actual[i][j], eps);
+            }
+        }
+    }
+
+    @Test
+    void testOptimalOrderForTallSkinnyChain() {
+        float[][] a = random(10, 300);
+        float[][] b = random(300, 10);
+        float[][] c = random(10, 300);
+        MatrixChain chain = MatrixChain.of(a).times(b).times(c);
+        assertEquals("((A0 A1) A2)", chain.order());
+        assertEquals(10L * 300 * 10 + 10L * 10 * 300, chain.cost());
+        assertEquals(chain.naiveCost(), chain.cost());
+
+        MatrixChain reversed = MatrixChain.of(b).times(c).times(b);
+        assertEquals("(A0 (A1 A2))", reversed.order());
+        assertTrue(reversed.cost() < reversed.naiveCost());
+        float[][] expected = MathUtil.multiplyMatrices(MathUtil.multiplyMatrices(b, c), b);
+        assertMatrixEquals(expected, reversed.evaluate(), 1e-3f);
+    }
+
+    @Test
+    void testTransposedFactors() {
+        float[][] a = random(7, 5);
+        float[][] b = random(7, 40);
+        float[][] c = random(3, 40);
+        float[][] at = MathUtil.transposeMatrix(a);
+        float[][] product = MatrixChain.of(at).times(b).timesTransposed(c).evaluate();
+        float[][] chained = MatrixChain.of(a).transpose().times(b).timesTransposed(c).evaluate();
+        float[][] reference = MathUtil.multiplyMatrices(MathUtil.multiplyMatrices(at, b), MathUtil.transposeMatrix(c));
+        assertMatrixEquals(reference, product, 1e-4f);
+        assertMatrixEquals(reference, chained, 1e-4f);
+    }
+
+    @Test
+    void testTransposeWholeChain() {
+        float[][] a = random(4, 6);
+        float[][] b = random(6, 20);
+        float[][] c = random(20, 3);
+        float[][] product = MatrixChain.of(a).times(b).times(c).evaluate();
+        float[][] transposed = MatrixChain.of(a).times(b).times(c).transpose().evaluate();
+        assertMatrixEquals(MathUtil.transposeMatrix(product), transposed, 1e-4f);
+        assertMatrixEquals(MathUtil.multiplyMatrices(MathUtil.multiplyMatrices(a, b), c), product, 1e-4f);
+    }
+
+    @Test
+    void testFusedMatrixVector() {
+        float[][] a = random(50, 200);
+        float[][] b = random(200, 200);
+        float[][] c = random(200, 50);
+        float[][] v = random(50, 1);
+        MatrixChain chain = MatrixChain.of(a).times(b).timesTransposed(MathUtil.transposeMatrix(c));
+        float[][] expected = MathUtil.multiplyMatrices(MathUtil.multiplyMatrices(MathUtil.multiplyMatrices(a, b), c), v);
+        assertMatrixEquals(expected, chain.multiply(v), 1e-3f);
+        assertThrows(IllegalArgumentException.class, () -> chain.multiply(random(49, 1)));
+    }
+
+    @Test
+    void testMatrix4Chain() {
+        Matrix4 p = new Matrix4(random(4, 4));
+        Matrix4 view = new Matrix4(random(4, 4));
+        Matrix4 model = new Matrix4(random(4, 4));
+        Vector4 v = new Vector4(random(4, 1));
+        Vector4 expected = Matrix4.multiply(Matrix4.multiply(p, view, new Matrix4()), model, new Matrix4()).multiply(v, new Vector4());
+        Vector4 actual = MatrixChain.of(p).times(view).times(model).multiply(v, new Vector4());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.getVector()[i][0], actual.getVector()[i][0], 1e-5f);
+        }
+        assertEquals("(A0 (A1 (A2 A3)))", MatrixChain.of(p).times(view).times(model).times(new float[4][1]).order());
+    }
+
+    @Test
+    void testSingleFactorEvaluatesToCopy() {
+        float[][] a = random(2, 3);
+        float[][] result = MatrixChain.of(a).evaluate();
+        assertNotSame(a, result);
+        assertMatrixEquals(a, result, 0.0f);
+        assertMatrixEquals(MathUtil.transposeMatrix(a), MatrixChain.of(a).transpose().evaluate(), 0.0f);
+    }
+
+    @Test
+    void testInvalidFactors() {
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of((float[][]) null));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of(new float[0][0]));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of(new float[][]{{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> MatrixChain.of(random(2, 3)).times(random(2, 3)));
+        MatrixChain chain = MatrixChain.of(random(2, 2));
+        assertThrows(IllegalArgumentException.class, () -> chain.times(chain));
+    }
+}
@@ -0,0 +1,126 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.io.MeshFile;
+import io.github.artemboldirew.vector3d.io.MeshStage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeshFileTest {
+    private static final int COUNT = 1000;
+
+    @TempDir
+    Path dir;
+
+    private Matrix4 translation(float x, float y, float z) {
+        Matrix4 mat = new Matrix4();
+        for (int i = 0; i < 4; i++) {
+            mat.set(i, i, 1.0f);
+        }
+        return mat.set(0, 3, x).set(1, 3, y).set(2, 3, z);
+    }
+
+    private MeshFile createFilled(Path path, boolean normals) throws IOException {
+        MeshFile file = MeshFile.create(path, COUNT, normals);
+        file.write(100, (first, positions, ns) -> {
+            for (long i = 0; i < positions.size(); i++) {
+                long v = first + i;
+                positions.set(i, v, 2.0f * v, 3.0f * v);
+                if (ns != null) {
+                    ns.set(i, 0.0f, 0.0f, 2.0f);
+                }
+            }
+        });
+        return file;
+    }
+
+    @Test
+    void testHeaderRoundTrip() throws IOException {
+        Path path = dir.resolve("mesh.v3dm");
+        MeshFile created = createFilled(path, true);
+        assertEquals(created.fileSize(), Files.size(path));
+        MeshFile opened = MeshFile.open(path);
+        assertEquals(COUNT, opened.vertexCount());
+        assertTrue(opened.hasNormals());
+    }
+
+    // Данные на диске — little-endian независимо от порядка байтов платформы
+    @Test
+    void testVertexDataIsLittleEndian() throws IOException {
+        Path path = dir.resolve("mesh.v3dm");
+        createFilled(path, true);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        int vertex = 7;
+        int offset = MeshFile.HEADER_BYTES + vertex * 12;
+        assertEquals(7.0f, bytes.getFloat(offset));
+        assertEquals(14.0f, bytes.getFloat(offset + 4));
+        assertEquals(21.0f, bytes.getFloat(offset + 8));
+        assertEquals(2.0f, bytes.getFloat(MeshFile.HEADER_BYTES + COUNT * 12 + vertex * 12 + 8));
+    }
+
+    @Test
+    void testStreamingTransformInChunks() throws IOException {
+        Path path = dir.resolve("mesh.v3dm");
+        createFilled(path, true);
+        MeshFile file = MeshFile.open(path);
+        file.write(64, MeshStage.transformPositions(translation(1.0f, 0.0f, -1.0f)).andThen(MeshStage.normalizeNormals()));
+
+        AtomicLong seen = new AtomicLong();
+        Vector3 v = new Vector3();
+        MeshFile.open(path).read(77, (first, positions, normals) -> {
+            assertTrue(positions.size() <= 77);
+            for (long i = 0; i < positions.size(); i++) {
+                long index = first + i;
+                assertArrayEquals(new float[][]{{index + 1.0f}, {2.0f * index}, {3.0f * index - 1.0f}},
+                        positions.get(i, v).getVector());
+                assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {1.0f}}, normals.get(i, v).getVector());
+            }
+            seen.addAndGet(positions.size());
+        });
+        assertEquals(COUNT, seen.get());
+    }
+
+    @Test
+    void testWithoutNormals() throws IOException {
+        Path path = dir.resolve("points.v3dm");
+        createFilled(path, false);
+        MeshFile file = MeshFile.open(path);
+        assertFalse(file.hasNormals());
+        assertEquals(MeshFile.HEADER_BYTES + COUNT * 12L, Files.size(path));
+        file.read((first, positions, normals) -> assertNull(normals));
+    }
+
+    @Test
+    void testReadOnlyRejectsWrites() throws IOException {
+        Path path = dir.resolve("mesh.v3dm");
+        createFilled(path, false);
+        assertThrows(UnsupportedOperationException.class,
+                () -> MeshFile.open(path).read(MeshStage.transformPositions(translation(1.0f, 1.0f, 1.0f))));
+    }
+
+    @Test
+    void testInvalidFilesThrow() throws IOException {
+        Path garbage = dir.resolve("garbage.bin");
+        Files.write(garbage, new byte[64]);
+        assertThrows(IOException.class, () -> MeshFile.open(garbage));
+
+        Path truncated = dir.resolve("truncated.v3dm");
+        createFilled(truncated, true);
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(100);
+        }
+        assertThrows(IOException.class, () -> MeshFile.open(truncated));
+    }
+}
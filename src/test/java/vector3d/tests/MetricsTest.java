@@ -0,0 +1,83 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.metrics.Metrics;
+import io.github.artemboldirew.vector3d.metrics.MetricsSnapshot;
+import io.github.artemboldirew.vector3d.metrics.Operation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Счётчики общие для всей JVM, поэтому проверяются разности снимков «не меньше ожидаемого»
+class MetricsTest {
+    @Test
+    void testCountAndSnapshot() {
+        MetricsSnapshot before = Metrics.snapshot();
+        Metrics.count(Operation.TRANSFORM, 5);
+        Metrics.count(Operation.TRANSFORM, 7);
+        MetricsSnapshot delta = Metrics.snapshot().since(before);
+        assertTrue(delta.getCalls(Operation.TRANSFORM) >= 2);
+        assertTrue(delta.getElements(Operation.TRANSFORM) >= 12);
+        assertTrue(delta.toString().contains("TRANSFORM="));
+    }
+
+    @Test
+    void testConcurrentCounting() {
+        MetricsSnapshot before = Metrics.snapshot();
+        IntStream.range(0, 10_000).parallel().forEach(i -> Metrics.count(Operation.ALLOCATION, 2));
+        MetricsSnapshot delta = Metrics.snapshot().since(before);
+        assertTrue(delta.getCalls(Operation.ALLOCATION) >= 10_000);
+        assertTrue(delta.getElements(Operation.ALLOCATION) >= 20_000);
+    }
+
+    @Test
+    void testInstrumentedOperations() {
+        assumeTrue(Metrics.ENABLED, "Счётчики выключены: нужен -Dvector3d.metrics=true");
+        MetricsSnapshot before = Metrics.snapshot();
+        MathUtil.multiplyMatrices(new float[2][3], new float[3][4]);
+        new Vector3(new float[][]{{3}, {4}, {0}}).normalize();
+        Vector3Buffer buffer = new Vector3Buffer(100);
+        new BatchTransformEngine(ForkJoinPool.commonPool(), 16).transform(new Matrix4(), buffer);
+        MetricsSnapshot delta = Metrics.snapshot().since(before);
+        assertTrue(delta.getCalls(Operation.MATRIX_MULTIPLY) >= 1);
+        assertTrue(delta.getElements(Operation.MATRIX_MULTIPLY) >= 8);
+        assertTrue(delta.getElements(Operation.ALLOCATION) >= 8);
+        assertTrue(delta.getCalls(Operation.NORMALIZE) >= 1);
+        assertTrue(delta.getElements(Operation.TRANSFORM) >= 100);
+        assertTrue(delta.getElements(Operation.BATCH) >= 100);
+    }
+
+    @Test
+    void testBatchEventRecorded() throws Exception {
+        assumeTrue(Metrics.ENABLED, "Счётчики выключены: нужен -Dvector3d.metrics=true");
+        Path file = Files.createTempFile("vector3d", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.artemboldirew.vector3d.BatchOperation").withThreshold(Duration.ZERO);
+            recording.start();
+            new BatchTransformEngine().transform(new Matrix4(), new Vector3Buffer(1000));
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("io.github.artemboldirew.vector3d.BatchOperation")
+                    && "BATCH".equals(e.getString("operation")) && e.getLong("elements") == 1000
+                    && e.getThread() != null));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Vector2;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.io.ObjMesh;
+import io.github.artemboldirew.vector3d.io.ObjParser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjParserTest {
+    private static ForkJoinPool pool;
+    private ObjParser parser;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void closePool() {
+        pool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        parser = new ObjParser(pool);
+    }
+
+    private ObjMesh parse(String text) {
+        return parser.parse(MemorySegment.ofArray(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void testAttributesAndFaceForms() {
+        ObjMesh mesh = parse("""
+                # комментарий
+                mtllib cube.mtl
+                o Quad
+                v 1.5 -2 3e1
+                v\t-0.25 .5 +1.0E-2
+                v 0 0 0 1.0
+                v 1 1 1
+                vt 0.5 1
+                vt 0.25
+                vn 0 0 1\r
+                vp 1 2 3
+                usemtl m
+                f 1/1/1 2/2/1 3/1/1 4/2/1
+                f 1//1 2//1 3//1
+                f 1 2 3
+                f -4/-2 -3/-1 -2/-2
+                """);
+        Vector3 v = new Vector3();
+        assertEquals(4, mesh.getPositions().size());
+        assertArrayEquals(new float[][]{{1.5f}, {-2.0f}, {30.0f}}, mesh.getPositions().get(0, v).getVector());
+        assertArrayEquals(new float[][]{{-0.25f}, {0.5f}, {0.01f}}, mesh.getPositions().get(1, v).getVector());
+        assertEquals(2, mesh.getTexCoords().size());
+        assertArrayEquals(new float[][]{{0.25f}, {0.0f}}, mesh.getTexCoords().get(1, new Vector2()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {1.0f}}, mesh.getNormals().get(0, v).getVector());
+
+        assertEquals(5, mesh.getTriangleCount());
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 3, 0, 1, 2, 0, 1, 2, 0, 1, 2}, mesh.getPositionIndices());
+        assertArrayEquals(new int[]{0, 1, 0, 0, 0, 1, -1, -1, -1, -1, -1, -1, 0, 1, 0}, mesh.getTexCoordIndices());
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, -1, -1, -1, -1, -1, -1}, mesh.getNormalIndices());
+    }
+
+    @Test
+    void testInvalidInputThrows() {
+        assertThrows(IllegalArgumentException.class, () -> parse("v 1 x 3\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("v 1 2 3\nf 1 2 4\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("v 1 2 3\nf 0 1 1\n"));
+    }
+
+    @Test
+    void testLargeFileParsesInParallelChunks() throws IOException {
+        // Достаточно строк, чтобы файл разбился на несколько фрагментов
+        int quads = 20_000;
+        Random random = new Random(9);
+        float[] coords = new float[quads * 4 * 3];
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < coords.length; i += 3) {
+            coords[i] = random.nextInt(2_000_000) / 1000.0f - 1000.0f;
+            coords[i + 1] = random.nextInt(2_000_000) / 1000.0f - 1000.0f;
+            coords[i + 2] = random.nextInt(2_000_000) / 1000.0f - 1000.0f;
+            text.append("v ").append(coords[i]).append(' ').append(coords[i + 1]).append(' ').append(coords[i + 2]).append('\n');
+            if (i % 12 == 9) {
+                text.append("f -4 -3 -2 -1\n");
+            }
+        }
+        Path path = dir.resolve("big.obj");
+        Files.writeString(path, text, StandardCharsets.US_ASCII);
+        assertTrue(Files.size(path) > 4 * (1 << 16));
+
+        ObjMesh mesh = parser.parse(path);
+        assertEquals(quads * 4, mesh.getPositions().size());
+        assertEquals(quads * 2, mesh.getTriangleCount());
+        float[] x = mesh.getPositions().getX(), z = mesh.getPositions().getZ();
+        for (int i = 0; i < quads * 4; i++) {
+            assertEquals(coords[i * 3], x[i], 0.0f);
+            assertEquals(coords[i * 3 + 2], z[i], 0.0f);
+        }
+        int[] indices = mesh.getPositionIndices();
+        for (int q = 0; q < quads; q++) {
+            int base = q * 4;
+            assertArrayEquals(new int[]{base, base + 1, base + 2, base, base + 2, base + 3},
+                    Arrays.copyOfRange(indices, q * 6, q * 6 + 6));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Quaternion;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuaternionTest {
+    private static final float HALF_PI = (float) (Math.PI / 2.0);
+
+    private Quaternion rotZ90;
+    private Quaternion rotX90;
+
+    @BeforeEach
+    void setUp() {
+        rotZ90 = new Quaternion().setAxisAngle(0.0f, 0.0f, 1.0f, HALF_PI);
+        rotX90 = new Quaternion().setAxisAngle(2.0f, 0.0f, 0.0f, HALF_PI);
+    }
+
+    private Vector3 vec(float x, float y, float z) {
+        return new Vector3(new float[][]{{x}, {y}, {z}});
+    }
+
+    private void assertVector(float x, float y, float z, Vector3 actual) {
+        float[][] v = actual.getVector();
+        assertEquals(x, v[0][0], 1e-5f);
+        assertEquals(y, v[1][0], 1e-5f);
+        assertEquals(z, v[2][0], 1e-5f);
+    }
+
+    private void assertSameRotation(Quaternion expected, Quaternion actual) {
+        // q и -q задают один и тот же поворот
+        assertEquals(1.0f, Math.abs(expected.dot(actual)), 1e-5f);
+    }
+
+    @Test
+    void testDefaultIsIdentity() {
+        Vector3 v = new Quaternion().rotate(vec(1.0f, 2.0f, 3.0f));
+        assertVector(1.0f, 2.0f, 3.0f, v);
+    }
+
+    @Test
+    void testRotateVectorAroundZ() {
+        assertVector(0.0f, 1.0f, 0.0f, rotZ90.rotate(vec(1.0f, 0.0f, 0.0f)));
+    }
+
+    @Test
+    void testRotateMatchesMatrix3() {
+        Quaternion q = new Quaternion().setAxisAngle(1.0f, 2.0f, 3.0f, 0.7f);
+        Matrix3 mat = q.toMatrix(new Matrix3());
+        Vector3 byMatrix = mat.multiply(vec(0.3f, -1.0f, 2.0f));
+        Vector3 byQuaternion = q.rotate(vec(0.3f, -1.0f, 2.0f));
+        assertArrayEquals(byMatrix.getVector()[0], byQuaternion.getVector()[0], 1e-5f);
+        assertArrayEquals(byMatrix.getVector()[1], byQuaternion.getVector()[1], 1e-5f);
+        assertArrayEquals(byMatrix.getVector()[2], byQuaternion.getVector()[2], 1e-5f);
+    }
+
+    @Test
+    void testMatrixRoundTrip() {
+        Quaternion q = new Quaternion().setAxisAngle(-1.0f, 0.5f, 2.0f, 2.9f);
+        assertSameRotation(q, new Quaternion().setFromMatrix(q.toMatrix(new Matrix3())));
+        Matrix4 mat4 = q.toMatrix(new Matrix4());
+        assertEquals(1.0f, mat4.get(3, 3), 0.0f);
+        assertEquals(0.0f, mat4.get(0, 3), 0.0f);
+        assertSameRotation(q, new Quaternion().setFromMatrix(mat4));
+    }
+
+    @Test
+    void testMultiplyComposesLikeMatrices() {
+        Quaternion composed = Quaternion.multiply(rotZ90, rotX90, new Quaternion());
+        // сначала поворот вокруг X: y -> z, затем вокруг Z: z остаётся на месте
+        assertVector(0.0f, 0.0f, 1.0f, composed.rotate(vec(0.0f, 1.0f, 0.0f)));
+
+        Matrix3 matrices = rotZ90.toMatrix(new Matrix3()).multiply(rotX90.toMatrix(new Matrix3()));
+        assertSameRotation(composed, new Quaternion().setFromMatrix(matrices));
+    }
+
+    @Test
+    void testConjugateIsInverseRotation() {
+        Quaternion inverse = new Quaternion(rotZ90).conjugate();
+        Vector3 v = inverse.rotate(rotZ90.rotate(vec(1.0f, 2.0f, 3.0f)));
+        assertVector(1.0f, 2.0f, 3.0f, v);
+    }
+
+    @Test
+    void testSlerpHalfway() {
+        Quaternion halfway = Quaternion.slerp(new Quaternion(), rotZ90, 0.5f, new Quaternion());
+        assertSameRotation(new Quaternion().setAxisAngle(0.0f, 0.0f, 1.0f, HALF_PI / 2.0f), halfway);
+        assertEquals(1.0f, halfway.getLength(), 1e-5f);
+    }
+
+    @Test
+    void testSlerpEndpointsAndShortestPath() {
+        Quaternion negated = new Quaternion(-rotZ90.getX(), -rotZ90.getY(), -rotZ90.getZ(), -rotZ90.getW());
+        assertSameRotation(new Quaternion(), Quaternion.slerp(new Quaternion(), negated, 0.0f, new Quaternion()));
+        assertSameRotation(rotZ90, Quaternion.slerp(new Quaternion(), negated, 1.0f, new Quaternion()));
+        Quaternion mid = Quaternion.slerp(new Quaternion(), negated, 0.5f, new Quaternion());
+        assertVector((float) Math.sqrt(0.5), (float) Math.sqrt(0.5), 0.0f, mid.rotate(vec(1.0f, 0.0f, 0.0f)));
+    }
+
+    @Test
+    void testNlerpIsNormalized() {
+        Quaternion q = Quaternion.nlerp(rotX90, rotZ90, 0.3f, new Quaternion());
+        assertEquals(1.0f, q.getLength(), 1e-5f);
+    }
+
+    @Test
+    void testBulkRotateMatchesSingle() {
+        Vector3Buffer buffer = new Vector3Buffer(3);
+        buffer.set(0, 1.0f, 0.0f, 0.0f);
+        buffer.set(1, 0.0f, 1.0f, 0.0f);
+        buffer.set(2, 1.0f, 2.0f, 3.0f);
+        rotZ90.rotate(buffer, 1, 3);
+        assertVector(1.0f, 0.0f, 0.0f, buffer.get(0, new Vector3()));
+        assertVector(-1.0f, 0.0f, 0.0f, buffer.get(1, new Vector3()));
+        assertVector(-2.0f, 1.0f, 3.0f, buffer.get(2, new Vector3()));
+
+        Vector3[] array = {vec(1.0f, 0.0f, 0.0f), vec(0.0f, 0.0f, 5.0f)};
+        rotZ90.rotate(array);
+        assertVector(0.0f, 1.0f, 0.0f, array[0]);
+        assertVector(0.0f, 0.0f, 5.0f, array[1]);
+    }
+
+    @Test
+    void testZeroAxisThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Quaternion().setAxisAngle(0.0f, 0.0f, 0.0f, 1.0f));
+    }
+}
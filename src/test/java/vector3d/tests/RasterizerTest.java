@@ -0,0 +1,178 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import io.github.artemboldirew.vector3d.render.FrameBuffer;
+import io.github.artemboldirew.vector3d.render.Rasterizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RasterizerTest {
+    private static final int BACKGROUND = 0xFF000000;
+
+    private static Matrix4 identity() {
+        return new Matrix4(new float[][]{
+                {1.0f, 0.0f, 0.0f, 0.0f},
+                {0.0f, 1.0f, 0.0f, 0.0f},
+                {0.0f, 0.0f, 1.0f, 0.0f},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        });
+    }
+
+    // Перспектива с углом обзора 90°, near = 0.1, far = 100, камера смотрит вдоль -z
+    private static Matrix4 perspective() {
+        float n = 0.1f, f = 100.0f;
+        return new Matrix4(new float[][]{
+                {1.0f, 0.0f, 0.0f, 0.0f},
+                {0.0f, 1.0f, 0.0f, 0.0f},
+                {0.0f, 0.0f, -(f + n) / (f - n), -2.0f * f * n / (f - n)},
+                {0.0f, 0.0f, -1.0f, 0.0f}
+        });
+    }
+
+    private static Vector3Buffer buffer(float... coords) {
+        Vector3Buffer result = new Vector3Buffer(coords.length / 3);
+        for (int i = 0; i < result.size(); i++) {
+            result.set(i, coords[i * 3], coords[i * 3 + 1], coords[i * 3 + 2]);
+        }
+        return result;
+    }
+
+    @Test
+    void testFullScreenQuad() {
+        Vector3Buffer quad = buffer(-1, -1, 0, 1, -1, 0, 1, 1, 0, -1, 1, 0);
+        FrameBuffer target = new FrameBuffer(50, 30).clear(BACKGROUND, 1.0f);
+        int drawn = new Rasterizer(8, ForkJoinPool.commonPool())
+                .draw(quad, new int[]{0, 1, 2, 0, 2, 3}, new int[]{0xFFFF0000, 0xFF00FF00}, identity(), target);
+        assertEquals(2, drawn);
+        for (int y = 0; y < 30; y++) {
+            for (int x = 0; x < 50; x++) {
+                assertNotEquals(BACKGROUND, target.getColor(x, y));
+                assertEquals(0.5f, target.getDepth(x, y), 1e-6f);
+            }
+        }
+        // Диагональ от (-1, -1) к (1, 1): правый нижний угол экрана — первый треугольник
+        assertEquals(0xFFFF0000, target.getColor(49, 29));
+        assertEquals(0xFF00FF00, target.getColor(0, 0));
+    }
+
+    @Test
+    void testSharedEdgesCoveredExactlyOnce() {
+        // Веер вокруг точки внутри экрана, покрывающий весь квадрат NDC
+        int segments = 13;
+        float[] coords = new float[(segments + 1) * 3];
+        coords[0] = 0.13f;
+        coords[1] = -0.27f;
+        for (int i = 0; i < segments; i++) {
+            double angle = 2.0 * Math.PI * i / segments;
+            coords[(i + 1) * 3] = (float) (3.0 * Math.cos(angle));
+            coords[(i + 1) * 3 + 1] = (float) (3.0 * Math.sin(angle));
+        }
+        Vector3Buffer fan = buffer(coords);
+        Rasterizer rasterizer = new Rasterizer(16, ForkJoinPool.commonPool());
+        int[] coverage = new int[64 * 48];
+        for (int i = 0; i < segments; i++) {
+            FrameBuffer target = new FrameBuffer(64, 48).clear(BACKGROUND, 1.0f);
+            rasterizer.draw(fan, new int[]{0, i + 1, (i + 1) % segments + 1}, new int[]{-1}, identity(), target);
+            for (int p = 0; p < coverage.length; p++) {
+                if (target.getColors()[p] != BACKGROUND) {
+                    coverage[p]++;
+                }
+            }
+        }
+        for (int c : coverage) {
+            assertEquals(1, c);
+        }
+    }
+
+    @Test
+    void testDepthTestIndependentOfOrder() {
+        Vector3Buffer positions = buffer(
+                -1, -1, 0.5f, 1, -1, 0.5f, 0, 1, 0.5f,
+                -1, -1, -0.5f, 1, -1, -0.5f, 0, 1, -0.5f);
+        Rasterizer rasterizer = new Rasterizer();
+        FrameBuffer first = new FrameBuffer(20, 20).clear(BACKGROUND, 1.0f);
+        rasterizer.draw(positions, new int[]{0, 1, 2, 3, 4, 5}, new int[]{1, 2}, identity(), first);
+        FrameBuffer second = new FrameBuffer(20, 20).clear(BACKGROUND, 1.0f);
+        rasterizer.draw(positions, new int[]{3, 4, 5, 0, 1, 2}, new int[]{2, 1}, identity(), second);
+        assertEquals(2, first.getColor(10, 10));
+        assertEquals(0.25f, first.getDepth(10, 10), 1e-6f);
+        assertArrayEquals(first.getColors(), second.getColors());
+        assertArrayEquals(first.getDepths(), second.getDepths());
+    }
+
+    @Test
+    void testClippingAgainstNearPlane() {
+        Rasterizer rasterizer = new Rasterizer();
+        // Треугольник пересекает плоскость near: одна вершина за камерой
+        Vector3Buffer crossing = buffer(-1, -1, -2, 1, -1, -2, 0, 0, 5);
+        FrameBuffer target = new FrameBuffer(40, 40).clear(BACKGROUND, 1.0f);
+        assertTrue(rasterizer.draw(crossing, new int[]{0, 1, 2}, new int[]{7}, perspective(), target) > 0);
+        assertEquals(7, target.getColor(20, 39));
+        for (float depth : target.getDepths()) {
+            assertTrue(depth >= 0.0f && depth <= 1.0f);
+        }
+
+        Vector3Buffer behind = buffer(-1, -1, 2, 1, -1, 2, 0, 1, 2);
+        target.clear(BACKGROUND, 1.0f);
+        assertEquals(0, rasterizer.draw(behind, new int[]{0, 1, 2}, new int[]{7}, perspective(), target));
+        for (int color : target.getColors()) {
+            assertEquals(BACKGROUND, color);
+        }
+    }
+
+    @Test
+    void testBackFaceCulling() {
+        Vector3Buffer positions = buffer(-1, -1, 0, 1, -1, 0, 0, 1, 0);
+        Rasterizer rasterizer = new Rasterizer().setCullBackFaces(true);
+        FrameBuffer target = new FrameBuffer(10, 10);
+        assertEquals(1, rasterizer.draw(positions, new int[]{0, 1, 2}, new int[]{1}, identity(), target));
+        assertEquals(0, rasterizer.draw(positions, new int[]{0, 2, 1}, new int[]{1}, identity(), target));
+        assertEquals(1, rasterizer.setCullBackFaces(false).draw(positions, new int[]{0, 2, 1}, new int[]{1}, identity(), target));
+    }
+
+    @Test
+    void testParallelMatchesSingleThread() {
+        Random random = new Random(5);
+        int triangles = 3000;
+        Vector3Buffer positions = new Vector3Buffer(triangles * 3);
+        int[] indices = new int[triangles * 3];
+        int[] colors = new int[triangles];
+        for (int t = 0; t < triangles; t++) {
+            float cx = random.nextFloat() * 8.0f - 4.0f, cy = random.nextFloat() * 8.0f - 4.0f;
+            float cz = -2.0f - random.nextFloat() * 20.0f;
+            for (int k = 0; k < 3; k++) {
+                positions.set(t * 3 + k, cx + random.nextFloat() * 2.0f - 1.0f,
+                        cy + random.nextFloat() * 2.0f - 1.0f, cz + random.nextFloat() * 3.0f);
+                indices[t * 3 + k] = t * 3 + k;
+            }
+            colors[t] = random.nextInt();
+        }
+        FrameBuffer single = new FrameBuffer(173, 91);
+        FrameBuffer parallel = new FrameBuffer(173, 91);
+        int drawnSingle;
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            drawnSingle = new Rasterizer(8, pool).draw(positions, indices, colors, perspective(), single);
+        }
+        int drawnParallel = new Rasterizer().draw(positions, indices, colors, perspective(), parallel);
+        assertEquals(drawnSingle, drawnParallel);
+        assertArrayEquals(single.getColors(), parallel.getColors());
+        assertArrayEquals(single.getDepths(), parallel.getDepths());
+    }
+
+    @Test
+    void testInvalidInput() {
+        Vector3Buffer positions = buffer(-1, -1, 0, 1, -1, 0, 0, 1, 0);
+        FrameBuffer target = new FrameBuffer(4, 4);
+        Rasterizer rasterizer = new Rasterizer();
+        assertThrows(IllegalArgumentException.class, () -> rasterizer.draw(positions, new int[]{0, 1}, new int[]{1}, identity(), target));
+        assertThrows(IllegalArgumentException.class, () -> rasterizer.draw(positions, new int[]{0, 1, 2}, new int[0], identity(), target));
+        assertThrows(IndexOutOfBoundsException.class, () -> rasterizer.draw(positions, new int[]{0, 1, 3}, new int[]{1}, identity(), target));
+        assertThrows(IllegalArgumentException.class, () -> new FrameBuffer(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new Rasterizer(0, ForkJoinPool.commonPool()));
+    }
+}
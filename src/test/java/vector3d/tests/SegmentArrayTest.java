@@ -0,0 +1,152 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Matrix4SegmentArray;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3SegmentArray;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import io.github.artemboldirew.vector3d.core.Vector4SegmentArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentArrayTest {
+    private Arena arena;
+    private Matrix4 matrix;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        arena = Arena.ofConfined();
+        matrix = new Matrix4(new float[][]{
+                {1.0f, 2.0f, 3.0f, 4.0f},
+                {5.0f, 6.0f, 7.0f, 8.0f},
+                {9.0f, 10.0f, 11.0f, 12.0f},
+                {13.0f, 14.0f, 15.0f, 16.0f}
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        arena.close();
+    }
+
+    @Test
+    void testVector4TransformMatchesMatrix4Multiply() {
+        Vector4SegmentArray vectors = Vector4SegmentArray.allocate(arena, 2);
+        vectors.set(0, 1.0f, 2.0f, 3.0f, 4.0f);
+        vectors.set(1, 1.0f, 0.0f, 0.0f, 0.0f);
+        vectors.transform(matrix);
+        assertArrayEquals(new float[][]{{30.0f}, {70.0f}, {110.0f}, {150.0f}}, vectors.get(0, new Vector4()).getVector());
+        assertArrayEquals(new float[][]{{1.0f}, {5.0f}, {9.0f}, {13.0f}}, vectors.get(1, new Vector4()).getVector());
+    }
+
+    @Test
+    void testVector3NormalizeRange() {
+        Vector3SegmentArray vectors = Vector3SegmentArray.allocate(arena, 3);
+        vectors.set(0, 3.0f, 0.0f, 4.0f);
+        vectors.set(1, 0.0f, 2.0f, 0.0f);
+        vectors.set(2, 5.0f, 5.0f, 5.0f);
+        vectors.normalize(0, 2);
+        assertArrayEquals(new float[][]{{0.6f}, {0.0f}, {0.8f}}, vectors.get(0, new Vector3()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {1.0f}, {0.0f}}, vectors.get(1, new Vector3()).getVector());
+        assertArrayEquals(new float[][]{{5.0f}, {5.0f}, {5.0f}}, vectors.get(2, new Vector3()).getVector());
+    }
+
+    @Test
+    void testVector3TransformByMatrix4AsPoint() {
+        Vector3SegmentArray vectors = Vector3SegmentArray.allocate(arena, 1);
+        vectors.set(0, 1.0f, 2.0f, 3.0f);
+        vectors.transform(matrix);
+        assertArrayEquals(new float[][]{{18.0f}, {46.0f}, {74.0f}}, vectors.get(0, new Vector3()).getVector());
+    }
+
+    @Test
+    void testMatrix4MultiplyMatchesMatrix4() {
+        Matrix4SegmentArray mats = Matrix4SegmentArray.allocate(arena, 2);
+        mats.set(0, matrix);
+        mats.set(1, Matrix4.getE());
+        Matrix4 right = new Matrix4(new float[][]{
+                {2.0f, 0.0f, 1.0f, 0.0f},
+                {0.0f, 1.0f, 0.0f, 2.0f},
+                {1.0f, 0.0f, 2.0f, 0.0f},
+                {0.0f, 2.0f, 0.0f, 1.0f}
+        });
+        mats.multiply(right);
+        assertArrayEquals(new Matrix4(matrix).multiply(right).getMatrix(), mats.get(0, new Matrix4()).getMatrix());
+        assertArrayEquals(Matrix4.getE().multiply(right).getMatrix(), mats.get(1, new Matrix4()).getMatrix());
+    }
+
+    @Test
+    void testPerElementTransform() {
+        Matrix4SegmentArray mats = Matrix4SegmentArray.allocate(arena, 1);
+        mats.set(0, matrix);
+        Vector4SegmentArray vectors = Vector4SegmentArray.allocate(arena, 1);
+        vectors.set(0, 1.0f, 2.0f, 3.0f, 4.0f);
+        mats.transform(vectors);
+        assertArrayEquals(new float[][]{{30.0f}, {70.0f}, {110.0f}, {150.0f}}, vectors.get(0, new Vector4()).getVector());
+    }
+
+    @Test
+    void testMappedFileRoundTrip() throws IOException {
+        Path file = tempDir.resolve("points.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             Arena mapArena = Arena.ofConfined()) {
+            Vector3SegmentArray vectors = Vector3SegmentArray.map(channel, FileChannel.MapMode.READ_WRITE, 0, 2, mapArena);
+            vectors.set(0, 0.0f, 0.0f, 2.0f);
+            vectors.set(1, 1.0f, 1.0f, 1.0f);
+            vectors.normalize();
+            vectors.segment().force();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Arena mapArena = Arena.ofConfined()) {
+            Vector3SegmentArray vectors = Vector3SegmentArray.map(channel, FileChannel.MapMode.READ_ONLY, 0, 2, mapArena);
+            assertEquals(2, vectors.size());
+            assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {1.0f}}, vectors.get(0, new Vector3()).getVector());
+            assertEquals(1.0f, vectors.get(1, new Vector3()).getLength(), 0.0001f);
+        }
+    }
+
+    @Test
+    void testExplicitByteOrder() {
+        MemorySegment segment = arena.allocate(Vector3SegmentArray.BYTES, Float.BYTES);
+        Vector3SegmentArray big = new Vector3SegmentArray(segment, ByteOrder.BIG_ENDIAN);
+        assertEquals(ByteOrder.BIG_ENDIAN, big.order());
+        big.set(0, 1.0f, 0.0f, -2.0f);
+        // 1.0f = 0x3F800000: старший байт идёт первым
+        assertEquals((byte) 0x3F, segment.get(ValueLayout.JAVA_BYTE, 0));
+        assertEquals((byte) 0x80, segment.get(ValueLayout.JAVA_BYTE, 1));
+        assertArrayEquals(new float[][]{{1.0f}, {0.0f}, {-2.0f}}, big.get(0, new Vector3()).getVector());
+        big.transform(new Matrix4(new float[][]{
+                {2.0f, 0.0f, 0.0f, 1.0f},
+                {0.0f, 1.0f, 0.0f, 0.0f},
+                {0.0f, 0.0f, 1.0f, 0.0f},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        }));
+        assertEquals(3.0f, segment.get(ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN), 0));
+        Vector3SegmentArray little = new Vector3SegmentArray(segment, ByteOrder.LITTLE_ENDIAN);
+        float swapped = Float.intBitsToFloat(Integer.reverseBytes(Float.floatToRawIntBits(3.0f)));
+        assertEquals(swapped, little.get(0, new Vector3()).getVector()[0][0]);
+    }
+
+    @Test
+    void testInvalidSegmentSizeAndIndexThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new Vector3SegmentArray(arena.allocate(10, 4)));
+        Vector4SegmentArray vectors = Vector4SegmentArray.allocate(arena, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> vectors.get(1, new Vector4()));
+    }
+}
@@ -0,0 +1,145 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.MathUtil;
+import io.github.artemboldirew.vector3d.core.SparseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseMatrixTest {
+    private final Random random = new Random(11);
+
+    private float[][] randomSparse(int rows, int cols, float density) {
+        float[][] m = new float[rows][cols];
+        for (float[] row : m) {
+            for (int j = 0; j < cols; j++) {
+                if (random.nextFloat() < density) {
+                    row[j] = random.nextFloat() * 2.0f - 1.0f;
+                }
+            }
+        }
+        return m;
+    }
+
+    // Лапласиан одномерной сетки: 2 на диагонали, -1 на соседних
+    private static SparseMatrix laplacian(int n) {
+        int[] r = new int[3 * n];
+        int[] c = new int[3 * n];
+        float[] v = new float[3 * n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int d = -1; d <= 1; d++) {
+                int j = Math.floorMod(i + d, n);
+                r[k] = i;
+                c[k] = j;
+                v[k++] = d == 0 ? 2.0f : -1.0f;
+            }
+        }
+        return SparseMatrix.fromTriplets(n, n, r, c, v);
+    }
+
+    private static void assertMatrixEquals(float[][] expected, float[][] actual, float eps) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual[i], eps);
+        }
+    }
+
+    @Test
+    void testDenseRoundTrip() {
+        float[][] dense = randomSparse(13, 21, 0.2f);
+        SparseMatrix sparse = SparseMatrix.fromDense(dense);
+        assertMatrixEquals(dense, sparse.toDense(), 0.0f);
+        int nonZeros = 0;
+        for (float[] row : dense) {
+            for (float v : row) {
+                nonZeros += v != 0.0f ? 1 : 0;
+            }
+        }
+        assertEquals(nonZeros, sparse.nonZeros());
+        assertEquals(dense[3][5], sparse.get(3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> sparse.get(13, 0));
+    }
+
+    @Test
+    void testTripletsSumDuplicates() {
+        SparseMatrix m = SparseMatrix.fromTriplets(3, 3,
+                new int[]{2, 0, 2, 0, 1},
+                new int[]{1, 2, 1, 0, 1},
+                new float[]{1.0f, 5.0f, 2.0f, 4.0f, 7.0f});
+        assertEquals(4, m.nonZeros());
+        assertArrayEquals(new int[]{0, 2, 3, 4}, m.getRowPointers());
+        assertArrayEquals(new int[]{0, 2, 1, 1}, m.getColumnIndices());
+        assertEquals(3.0f, m.get(2, 1));
+        assertEquals(0.0f, m.get(1, 0));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> SparseMatrix.fromTriplets(2, 2, new int[]{2}, new int[]{0}, new float[]{1.0f}));
+    }
+
+    @Test
+    void testSpMV() {
+        float[][] dense = randomSparse(40, 30, 0.15f);
+        SparseMatrix sparse = SparseMatrix.fromDense(dense);
+        float[][] x = new float[30][1];
+        float[] xs = new float[30];
+        for (int i = 0; i < 30; i++) {
+            xs[i] = x[i][0] = random.nextFloat();
+        }
+        float[][] expected = MathUtil.multiplyMatrices(dense, x);
+        float[] y = sparse.multiply(xs, new float[40]);
+        for (int i = 0; i < 40; i++) {
+            assertEquals(expected[i][0], y[i], 1e-5f);
+        }
+        assertThrows(IllegalArgumentException.class, () -> sparse.multiply(new float[29], new float[40]));
+    }
+
+    @Test
+    void testParallelSpMVMatchesSequential() {
+        int n = 50_000;
+        SparseMatrix l = laplacian(n);
+        assertEquals(3 * n, l.nonZeros());
+        float[] x = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextFloat();
+        }
+        float[] sequential = l.multiply(x, new float[n]);
+        float[] parallel = l.multiply(x, new float[n], new BatchTransformEngine(ForkJoinPool.commonPool(), 1024));
+        assertArrayEquals(sequential, parallel);
+        assertEquals(2.0f * x[7] - x[6] - x[8], sequential[7], 1e-6f);
+    }
+
+    @Test
+    void testSparseDenseProduct() {
+        float[][] a = randomSparse(25, 40, 0.1f);
+        float[][] b = randomSparse(40, 33, 1.0f);
+        SparseMatrix sparse = SparseMatrix.fromDense(a);
+        float[][] expected = MathUtil.multiplyMatrices(a, b);
+        assertMatrixEquals(expected, sparse.multiply(b), 1e-5f);
+        assertMatrixEquals(expected, sparse.multiply(b, new BatchTransformEngine(ForkJoinPool.commonPool(), 4)), 1e-5f);
+        assertThrows(IllegalArgumentException.class, () -> sparse.multiply(new float[39][3]));
+    }
+
+    @Test
+    void testTranspose() {
+        float[][] dense = randomSparse(17, 9, 0.3f);
+        SparseMatrix t = SparseMatrix.fromDense(dense).transpose();
+        assertEquals(9, t.getRows());
+        assertEquals(17, t.getColumns());
+        assertMatrixEquals(MathUtil.transposeMatrix(dense), t.toDense(), 0.0f);
+        assertMatrixEquals(dense, t.transpose().toDense(), 0.0f);
+    }
+
+    @Test
+    void testInvalidCsr() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(2, 2, new int[]{0, 1}, new int[]{0}, new float[]{1.0f}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 2, new int[]{0, 2}, new int[]{1, 0}, new float[]{1.0f, 2.0f}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 2, new int[]{0, 1}, new int[]{2}, new float[]{1.0f}));
+    }
+}
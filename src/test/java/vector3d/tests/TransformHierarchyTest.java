@@ -0,0 +1,127 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.BatchTransformEngine;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.TransformHierarchy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransformHierarchyTest {
+    private TransformHierarchy hierarchy;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        hierarchy = new TransformHierarchy(2);
+        random = new Random(5);
+    }
+
+    private Matrix4 translation(float x, float y, float z) {
+        Matrix4 mat = new Matrix4();
+        for (int i = 0; i < 4; i++) {
+            mat.set(i, i, 1.0f);
+        }
+        return mat.set(0, 3, x).set(1, 3, y).set(2, 3, z);
+    }
+
+    private Matrix4 randomMatrix() {
+        Matrix4 mat = new Matrix4();
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                mat.set(row, col, random.nextFloat() - 0.5f);
+            }
+        }
+        return mat;
+    }
+
+    private Matrix4 naiveWorld(TransformHierarchy h, int node) {
+        Matrix4 world = h.getLocal(node, new Matrix4());
+        for (int p = h.getParent(node); p != TransformHierarchy.NO_PARENT; p = h.getParent(p)) {
+            world = Matrix4.multiply(h.getLocal(p, new Matrix4()), world, new Matrix4());
+        }
+        return world;
+    }
+
+    private void assertMatrixClose(Matrix4 expected, Matrix4 actual) {
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                assertEquals(expected.get(row, col), actual.get(row, col), 1e-4f);
+            }
+        }
+    }
+
+    @Test
+    void testChainedTranslations() {
+        int root = hierarchy.add(TransformHierarchy.NO_PARENT, translation(1.0f, 0.0f, 0.0f));
+        int child = hierarchy.add(root, translation(0.0f, 2.0f, 0.0f));
+        int grandChild = hierarchy.add(child, translation(0.0f, 0.0f, 3.0f));
+        hierarchy.update();
+        assertEquals(2, hierarchy.getDepth(grandChild));
+        assertMatrixClose(translation(1.0f, 2.0f, 3.0f), hierarchy.getWorld(grandChild, new Matrix4()));
+    }
+
+    @Test
+    void testDirtyParentPropagatesToChildren() {
+        int root = hierarchy.add(TransformHierarchy.NO_PARENT, translation(1.0f, 0.0f, 0.0f));
+        int left = hierarchy.add(root, translation(0.0f, 1.0f, 0.0f));
+        int right = hierarchy.add(root, translation(0.0f, -1.0f, 0.0f));
+        hierarchy.update();
+        assertFalse(hierarchy.isDirty(left));
+
+        hierarchy.setLocal(root, translation(5.0f, 0.0f, 0.0f));
+        assertTrue(hierarchy.isDirty(root));
+        hierarchy.update();
+        assertMatrixClose(translation(5.0f, 1.0f, 0.0f), hierarchy.getWorld(left, new Matrix4()));
+        assertMatrixClose(translation(5.0f, -1.0f, 0.0f), hierarchy.getWorld(right, new Matrix4()));
+        assertFalse(hierarchy.isDirty(root));
+        assertFalse(hierarchy.isDirty(right));
+    }
+
+    @Test
+    void testCleanNodesAreNotRecomputed() {
+        int root = hierarchy.add(TransformHierarchy.NO_PARENT, translation(1.0f, 0.0f, 0.0f));
+        int left = hierarchy.add(root, translation(0.0f, 1.0f, 0.0f));
+        int right = hierarchy.add(root, translation(0.0f, -1.0f, 0.0f));
+        hierarchy.update();
+
+        // Подменяем кэш напрямую: чистый узел не должен его перезаписать
+        hierarchy.getWorlds()[right * 16 + 3] = 42.0f;
+        hierarchy.setLocal(left, translation(0.0f, 7.0f, 0.0f));
+        hierarchy.update();
+        assertMatrixClose(translation(1.0f, 7.0f, 0.0f), hierarchy.getWorld(left, new Matrix4()));
+        assertEquals(42.0f, hierarchy.getWorld(right, new Matrix4()).get(0, 3), 0.0f);
+    }
+
+    @Test
+    void testParallelUpdateMatchesNaiveChain() {
+        TransformHierarchy big = new TransformHierarchy();
+        for (int i = 0; i < 2000; i++) {
+            int parent = i < 3 ? TransformHierarchy.NO_PARENT : random.nextInt(i);
+            big.add(parent, randomMatrix());
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            BatchTransformEngine engine = new BatchTransformEngine(pool, 8);
+            big.update(engine);
+            for (int i = 0; i < big.size(); i += 37) {
+                assertMatrixClose(naiveWorld(big, i), big.getWorld(i, new Matrix4()));
+            }
+
+            big.setLocal(1, randomMatrix());
+            big.add(1, randomMatrix());
+            big.update(engine);
+            for (int i = 0; i < big.size(); i++) {
+                assertMatrixClose(naiveWorld(big, i), big.getWorld(i, new Matrix4()));
+            }
+        }
+    }
+
+    @Test
+    void testInvalidParentThrows() {
+        assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.add(0, translation(0.0f, 0.0f, 0.0f)));
+    }
+}
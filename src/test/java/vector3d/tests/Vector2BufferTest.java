@@ -0,0 +1,133 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Vector2;
+import io.github.artemboldirew.vector3d.core.Vector2Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vector2BufferTest {
+    private Vector2Buffer buffer1;
+    private Vector2Buffer buffer2;
+
+    @BeforeEach
+    void setUp() {
+        buffer1 = new Vector2Buffer(
+                new float[]{1.0f, 3.0f, 0.0f},
+                new float[]{2.0f, 4.0f, -5.0f});
+        buffer2 = new Vector2Buffer(
+                new float[]{2.0f, 0.0f, 1.0f},
+                new float[]{3.0f, 1.0f, 0.0f});
+    }
+
+    private Vector2 vec(float x, float y) {
+        return new Vector2(new float[][]{{x}, {y}});
+    }
+
+    @Test
+    void testConstructorMismatchedArraysThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new Vector2Buffer(new float[2], new float[3]));
+    }
+
+    @Test
+    void testGetAndSet() {
+        Vector2Buffer buffer = new Vector2Buffer(2);
+        buffer.set(1, vec(4.0f, 5.0f));
+        assertArrayEquals(new float[][]{{4.0f}, {5.0f}}, buffer.get(1, new Vector2()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}}, buffer.get(0, new Vector2()).getVector());
+    }
+
+    @Test
+    void testAddMatchesVector2() {
+        buffer1.add(buffer2);
+        Vector2 expected = vec(1.0f, 2.0f).add(vec(2.0f, 3.0f));
+        assertArrayEquals(expected.getVector(), buffer1.get(0, new Vector2()).getVector());
+        assertArrayEquals(new float[]{3.0f, 3.0f, 1.0f}, buffer1.getX());
+    }
+
+    @Test
+    void testSubtractRangeLeavesOtherElements() {
+        buffer1.subtract(buffer2, 1, 2);
+        assertArrayEquals(new float[]{1.0f, 3.0f, 0.0f}, buffer1.getX());
+        assertArrayEquals(new float[]{2.0f, 3.0f, -5.0f}, buffer1.getY());
+    }
+
+    @Test
+    void testMultiplyAndDivideRanges() {
+        buffer1.multiply(2.0f, 0, 2);
+        assertArrayEquals(new float[]{4.0f, 8.0f, -5.0f}, buffer1.getY());
+        buffer1.divide(4.0f);
+        assertArrayEquals(new float[]{1.0f, 2.0f, -1.25f}, buffer1.getY());
+    }
+
+    @Test
+    void testNormalize() {
+        buffer1.normalize();
+        Vector2 v = new Vector2();
+        for (int i = 0; i < buffer1.size(); i++) {
+            assertEquals(1.0f, buffer1.get(i, v).getLength(), 0.0001f);
+        }
+        assertArrayEquals(new float[]{0.6f, 0.0f}, new float[]{buffer1.getX()[1], buffer1.getX()[2]}, 0.0001f);
+        assertArrayEquals(new float[]{0.8f, -1.0f}, new float[]{buffer1.getY()[1], buffer1.getY()[2]}, 0.0001f);
+    }
+
+    @Test
+    void testNormalizeRangeLeavesOtherElements() {
+        buffer1.normalize(1, 2);
+        assertArrayEquals(new float[]{1.0f, 0.6f, 0.0f}, buffer1.getX(), 0.0001f);
+        assertArrayEquals(new float[]{2.0f, 0.8f, -5.0f}, buffer1.getY(), 0.0001f);
+    }
+
+    @Test
+    void testScalarProduct() {
+        float[] dots = buffer1.scalarProduct(buffer2, new float[3]);
+        assertArrayEquals(new float[]{8.0f, 4.0f, 0.0f}, dots, 0.0f);
+        float[] range = {-1.0f, -1.0f, -1.0f};
+        buffer1.scalarProduct(buffer2, range, 1, 3);
+        assertArrayEquals(new float[]{-1.0f, 4.0f, 0.0f}, range, 0.0f);
+    }
+
+    @Test
+    void testTransformTreatsVectorsAsPoints() {
+        // Поворот на 90° и перенос на (10, 20); последняя строка не читается
+        Matrix3 mat = new Matrix3(new float[][]{
+                {0.0f, -1.0f, 10.0f},
+                {1.0f, 0.0f, 20.0f},
+                {5.0f, 5.0f, 5.0f}
+        });
+        buffer1.transform(mat);
+        assertArrayEquals(new float[]{8.0f, 6.0f, 15.0f}, buffer1.getX());
+        assertArrayEquals(new float[]{21.0f, 23.0f, 20.0f}, buffer1.getY());
+    }
+
+    @Test
+    void testTransformRangeLeavesOtherElements() {
+        Matrix3 scale = new Matrix3(new float[][]{
+                {2.0f, 0.0f, 0.0f},
+                {0.0f, 3.0f, 0.0f},
+                {0.0f, 0.0f, 1.0f}
+        });
+        buffer1.transform(scale, 1, 3);
+        assertArrayEquals(new float[]{1.0f, 6.0f, 0.0f}, buffer1.getX());
+        assertArrayEquals(new float[]{2.0f, 12.0f, -15.0f}, buffer1.getY());
+    }
+
+    @Test
+    void testInvalidRangeThrows() {
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer1.add(buffer2, 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer1.scalarProduct(buffer2, new float[2]));
+        assertThrows(IllegalArgumentException.class, () -> buffer1.add(new Vector2Buffer(5)));
+    }
+
+    @Test
+    void testLengthsAndDistances() {
+        float[] dest = new float[3];
+        assertArrayEquals(new float[]{5.0f, 25.0f, 25.0f}, buffer1.lengthSquared(dest), 0.0f);
+        assertArrayEquals(new float[]{(float) Math.sqrt(5.0), 5.0f, 5.0f}, buffer1.length(dest), 1e-6f);
+        assertArrayEquals(new float[]{2.0f, 18.0f, 26.0f}, buffer1.distanceSquared(buffer2, dest), 0.0f);
+        dest[2] = -1.0f;
+        buffer1.distance(buffer2, dest, 0, 2);
+        assertArrayEquals(new float[]{(float) Math.sqrt(2.0), (float) Math.sqrt(18.0), -1.0f}, dest, 1e-6f);
+    }
+}
@@ -0,0 +1,109 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Vector2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vector2Test {
+    private Vector2 vector1;
+    private Vector2 vector2;
+
+    @BeforeEach
+    void setUp() {
+        vector1 = new Vector2(new float[][]{{1.0f}, {2.0f}});
+        vector2 = new Vector2(new float[][]{{4.0f}, {6.0f}});
+    }
+
+    @Test
+    void testConstructorInvalidVectorThrowsException() {
+        float[][] invalidVector = {{1.0f}, {2.0f}, {3.0f}}; // 3x1 instead of 2x1
+        assertThrows(IllegalArgumentException.class, () -> new Vector2(invalidVector));
+    }
+
+    // Тесты операций с записью в dest
+    @Test
+    void testStaticAddWritesIntoDest() {
+        Vector2 dest = new Vector2();
+        Vector2 result = Vector2.add(vector1, vector2, dest);
+        assertSame(dest, result);
+        assertArrayEquals(new float[][]{{5.0f}, {8.0f}}, dest.getVector());
+        assertArrayEquals(new float[][]{{1.0f}, {2.0f}}, vector1.getVector());
+        assertArrayEquals(new float[][]{{4.0f}, {6.0f}}, vector2.getVector());
+    }
+
+    @Test
+    void testStaticSubtractMultiplyAndDivide() {
+        Vector2 dest = new Vector2();
+        assertSame(dest, Vector2.subtract(vector2, vector1, dest));
+        assertArrayEquals(new float[][]{{3.0f}, {4.0f}}, dest.getVector());
+        assertSame(dest, Vector2.multiply(vector1, 3.0f, dest));
+        assertArrayEquals(new float[][]{{3.0f}, {6.0f}}, dest.getVector());
+        assertSame(dest, Vector2.divide(vector2, 2.0f, dest));
+        assertArrayEquals(new float[][]{{2.0f}, {3.0f}}, dest.getVector());
+        assertArrayEquals(new float[][]{{4.0f}, {6.0f}}, vector2.getVector());
+    }
+
+    @Test
+    void testStaticOperationsWithAliasedDest() {
+        Vector2.add(vector1, vector2, vector1);
+        assertArrayEquals(new float[][]{{5.0f}, {8.0f}}, vector1.getVector());
+        Vector2.subtract(vector1, vector2, vector1);
+        assertArrayEquals(new float[][]{{1.0f}, {2.0f}}, vector1.getVector());
+        Vector2.multiply(vector1, -2.0f, vector1);
+        assertArrayEquals(new float[][]{{-2.0f}, {-4.0f}}, vector1.getVector());
+    }
+
+    @Test
+    void testStaticNormalizeKeepsSource() {
+        Vector2 src = new Vector2(new float[][]{{3.0f}, {4.0f}});
+        Vector2 dest = Vector2.normalize(src, new Vector2());
+        assertArrayEquals(new float[][]{{0.6f}, {0.8f}}, dest.getVector());
+        assertEquals(5.0f, src.getLength(), 0.001f);
+        Vector2.normalize(src, src);
+        assertEquals(1.0f, src.getLength(), 0.001f);
+    }
+
+    @Test
+    void testSetCopiesComponents() {
+        Vector2 dest = new Vector2().set(vector2);
+        vector2.multiply(2.0f);
+        assertArrayEquals(new float[][]{{4.0f}, {6.0f}}, dest.getVector());
+    }
+
+    // Тесты длины, расстояния и нормализации
+    @Test
+    void testLengthSquaredAndDistance() {
+        assertEquals(5.0f, vector1.lengthSquared(), 0.0f);
+        assertEquals((float) Math.sqrt(5.0), vector1.getLength(), 0.0f);
+        assertEquals(25.0f, vector1.distanceSquared(vector2), 0.0f);
+        assertEquals(5.0f, vector2.distance(vector1), 0.0f);
+        assertEquals(0.0f, vector1.distance(vector1), 0.0f);
+    }
+
+    @Test
+    void testNormalize() {
+        Vector2 result = new Vector2(new float[][]{{-3.0f}, {4.0f}}).normalize();
+        assertArrayEquals(new float[][]{{-0.6f}, {0.8f}}, result.getVector());
+        assertEquals(1.0f, result.getLength(), 1e-6f);
+    }
+
+    @Test
+    void testNormalizeZeroVectorGivesNaN() {
+        Vector2 zero = new Vector2().normalize();
+        assertTrue(Float.isNaN(zero.getVector()[0][0]));
+    }
+
+    // Длина считается в double: большие компоненты не дают +∞, малые — нулевую длину
+    @Test
+    void testExtremeComponents() {
+        Vector2 big = new Vector2(new float[][]{{3.0e30f}, {4.0e30f}});
+        assertEquals(5.0e30f, big.getLength(), 1e24f);
+        assertEquals(5.0e30f, big.distance(new Vector2()), 1e24f);
+        Vector2 tiny = new Vector2(new float[][]{{1.0e-23f}, {0.0f}});
+        assertEquals(1.0e-23f, tiny.getLength(), 1e-29f);
+        assertArrayEquals(new float[][]{{1.0f}, {0.0f}}, tiny.normalize().getVector());
+        Vector2 dest = Vector2.normalize(new Vector2(new float[][]{{0.0f}, {-3.0e38f}}), new Vector2());
+        assertArrayEquals(new float[][]{{0.0f}, {-1.0f}}, dest.getVector());
+    }
+}
@@ -0,0 +1,131 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix3;
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector3;
+import io.github.artemboldirew.vector3d.core.Vector3Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vector3BufferTest {
+    private Vector3Buffer buffer1;
+    private Vector3Buffer buffer2;
+
+    @BeforeEach
+    void setUp() {
+        buffer1 = new Vector3Buffer(
+                new float[]{1.0f, 0.0f, 3.0f},
+                new float[]{2.0f, 3.0f, 0.0f},
+                new float[]{3.0f, 4.0f, 0.0f});
+        buffer2 = new Vector3Buffer(
+                new float[]{2.0f, 1.0f, 0.0f},
+                new float[]{3.0f, 0.0f, 1.0f},
+                new float[]{4.0f, 0.0f, 0.0f});
+    }
+
+    private Vector3 vec(float x, float y, float z) {
+        return new Vector3(new float[][]{{x}, {y}, {z}});
+    }
+
+    @Test
+    void testConstructorMismatchedArraysThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Vector3Buffer(new float[2], new float[3], new float[3]));
+    }
+
+    @Test
+    void testGetAndSet() {
+        Vector3Buffer buffer = new Vector3Buffer(2);
+        buffer.set(1, vec(4.0f, 5.0f, 6.0f));
+        assertArrayEquals(new float[][]{{4.0f}, {5.0f}, {6.0f}}, buffer.get(1, new Vector3()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {0.0f}}, buffer.get(0, new Vector3()).getVector());
+    }
+
+    @Test
+    void testAddMatchesVector3() {
+        buffer1.add(buffer2);
+        Vector3 expected = vec(1.0f, 2.0f, 3.0f).add(vec(2.0f, 3.0f, 4.0f));
+        assertArrayEquals(expected.getVector(), buffer1.get(0, new Vector3()).getVector());
+        assertArrayEquals(new float[]{3.0f, 1.0f, 3.0f}, buffer1.getX());
+    }
+
+    @Test
+    void testSubtractRangeLeavesOtherElements() {
+        buffer1.subtract(buffer2, 1, 2);
+        assertArrayEquals(new float[]{1.0f, -1.0f, 3.0f}, buffer1.getX());
+        assertArrayEquals(new float[]{2.0f, 3.0f, 0.0f}, buffer1.getY());
+    }
+
+    @Test
+    void testMultiplyAndDivide() {
+        buffer1.multiply(2.0f);
+        assertArrayEquals(new float[]{4.0f, 6.0f, 0.0f}, buffer1.getY());
+        buffer1.divide(2.0f);
+        assertArrayEquals(new float[]{2.0f, 3.0f, 0.0f}, buffer1.getY());
+    }
+
+    @Test
+    void testNormalize() {
+        buffer1.normalize();
+        Vector3 v = new Vector3();
+        for (int i = 0; i < buffer1.size(); i++) {
+            assertEquals(1.0f, buffer1.get(i, v).getLength(), 0.0001f);
+        }
+        assertArrayEquals(new float[]{0.5345225f, 0.6f, 0.0f}, buffer1.getY(), 0.0001f);
+    }
+
+    @Test
+    void testScalarProduct() {
+        float[] dots = buffer1.scalarProduct(buffer2, new float[3]);
+        assertArrayEquals(new float[]{20.0f, 0.0f, 0.0f}, dots, 0.0f);
+    }
+
+    @Test
+    void testVectorProductMatchesVector3() {
+        buffer1.vectorProduct(buffer2);
+        Vector3 expected = vec(1.0f, 2.0f, 3.0f).vectorProduct(vec(2.0f, 3.0f, 4.0f));
+        assertArrayEquals(expected.getVector(), buffer1.get(0, new Vector3()).getVector());
+    }
+
+    @Test
+    void testTransformByMatrix3MatchesMatrix3Multiply() {
+        Matrix3 mat = new Matrix3(new float[][]{
+                {1.0f, 2.0f, 3.0f},
+                {4.0f, 5.0f, 6.0f},
+                {7.0f, 8.0f, 9.0f}
+        });
+        buffer1.transform(mat);
+        assertArrayEquals(mat.multiply(vec(1.0f, 2.0f, 3.0f)).getVector(), buffer1.get(0, new Vector3()).getVector());
+    }
+
+    @Test
+    void testTransformByMatrix4AsPoint() {
+        Matrix4 translation = new Matrix4(new float[][]{
+                {1.0f, 0.0f, 0.0f, 10.0f},
+                {0.0f, 1.0f, 0.0f, 20.0f},
+                {0.0f, 0.0f, 1.0f, 30.0f},
+                {0.0f, 0.0f, 0.0f, 1.0f}
+        });
+        buffer1.transform(translation, 0, 1);
+        assertArrayEquals(new float[][]{{11.0f}, {22.0f}, {33.0f}}, buffer1.get(0, new Vector3()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {3.0f}, {4.0f}}, buffer1.get(1, new Vector3()).getVector());
+    }
+
+    @Test
+    void testInvalidRangeThrows() {
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer1.add(buffer2, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> buffer1.add(new Vector3Buffer(5)));
+    }
+
+    @Test
+    void testLengthsAndDistances() {
+        float[] dest = new float[3];
+        assertArrayEquals(new float[]{14.0f, 25.0f, 9.0f}, buffer1.lengthSquared(dest), 0.0f);
+        assertArrayEquals(new float[]{(float) Math.sqrt(14.0), 5.0f, 3.0f}, buffer1.length(dest), 1e-6f);
+        assertArrayEquals(new float[]{3.0f, 26.0f, 10.0f}, buffer1.distanceSquared(buffer2, dest), 0.0f);
+        dest[2] = -1.0f;
+        buffer1.distance(buffer2, dest, 0, 2);
+        assertArrayEquals(new float[]{(float) Math.sqrt(3.0), (float) Math.sqrt(26.0), -1.0f}, dest, 1e-6f);
+    }
+}
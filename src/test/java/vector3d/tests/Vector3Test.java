@@ -3,6 +3,10 @@ package vector3d.tests;
 import io.github.artemboldirew.vector3d.core.Vector3;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import static org.junit.jupiter.api.Assertions.*;
 
 class Vector3Test {
@@ -238,4 +242,96 @@ class Vector3Test {
         assertEquals(3, vectorArray.length);
         assertEquals(1, vectorArray[0].length);
     }
-}
\ No newline at end of file
+
+    // Тесты операций с записью в dest
+    @Test
+    void testStaticAddWritesIntoDest() {
+        Vector3 dest = new Vector3();
+        Vector3 result = Vector3.add(vector1, vector2, dest);
+        assertSame(dest, result);
+        assertArrayEquals(new float[][]{{3.0f}, {5.0f}, {7.0f}}, dest.getVector());
+        assertArrayEquals(new float[][]{{1.0f}, {2.0f}, {3.0f}}, vector1.getVector());
+    }
+
+    @Test
+    void testStaticSubtractAndMultiply() {
+        Vector3 dest = new Vector3();
+        Vector3.subtract(vector2, vector1, dest);
+        assertArrayEquals(new float[][]{{1.0f}, {1.0f}, {1.0f}}, dest.getVector());
+        Vector3.multiply(vector1, 3.0f, dest);
+        assertArrayEquals(new float[][]{{3.0f}, {6.0f}, {9.0f}}, dest.getVector());
+    }
+
+    @Test
+    void testStaticVectorProductWithAliasedDest() {
+        Vector3 x = new Vector3(new float[][]{{1.0f}, {0.0f}, {0.0f}});
+        Vector3 y = new Vector3(new float[][]{{0.0f}, {1.0f}, {0.0f}});
+        Vector3.vectorProduct(x, y, x);
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {1.0f}}, x.getVector());
+    }
+
+    @Test
+    void testStaticNormalizeKeepsSource() {
+        Vector3 src = new Vector3(new float[][]{{0.0f}, {3.0f}, {4.0f}});
+        Vector3 dest = Vector3.normalize(src, new Vector3());
+        assertEquals(1.0f, dest.getLength(), 0.001f);
+        assertEquals(5.0f, src.getLength(), 0.001f);
+    }
+
+    @Test
+    void testLengthSquaredAndDistance() {
+        Vector3 a = new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}});
+        Vector3 b = new Vector3(new float[][]{{4.0f}, {6.0f}, {3.0f}});
+        assertEquals(14.0f, a.lengthSquared(), 0.0f);
+        assertEquals(25.0f, a.distanceSquared(b), 0.0f);
+        assertEquals(5.0f, b.distance(a), 0.0f);
+    }
+
+    @Test
+    void testNormalizeZeroVectorGivesNaN() {
+        Vector3 zero = new Vector3().normalize();
+        assertTrue(Float.isNaN(zero.getVector()[0][0]));
+    }
+
+    @Test
+    void testBufferAndSegmentRoundTrip() {
+        Vector3[] vecs = {
+                new Vector3(new float[][]{{1.0f}, {2.0f}, {3.0f}}),
+                new Vector3(new float[][]{{4.0f}, {5.0f}, {6.0f}})
+        };
+        FloatBuffer floats = Vector3.get(vecs, FloatBuffer.allocate(7), 1);
+        assertEquals(4.0f, floats.get(4), 0.0f);
+        assertArrayEquals(vecs[1].getVector(), new Vector3().set(floats, 4).getVector());
+
+        ByteBuffer bytes = vecs[0].get(ByteBuffer.allocateDirect(12), 0);
+        assertArrayEquals(vecs[0].getVector(), new Vector3().set(bytes, 0).getVector());
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = Vector3.get(vecs, arena.allocate(24), 0);
+            Vector3[] copies = Vector3.set(new Vector3[]{new Vector3(), new Vector3()}, segment, 0);
+            assertArrayEquals(vecs[0].getVector(), copies[0].getVector());
+            assertArrayEquals(vecs[1].getVector(), copies[1].getVector());
+        }
+    }
+
+    // Длина считается в double: большие компоненты не дают +∞, малые — нулевую длину
+    @Test
+    void testLengthOfExtremeComponents() {
+        Vector3 big = new Vector3(new float[][]{{3.0e30f}, {4.0e30f}, {0.0f}});
+        assertEquals(5.0e30f, big.getLength(), 1e24f);
+        assertEquals(5.0e30f, big.distance(new Vector3()), 1e24f);
+        Vector3 small = new Vector3(new float[][]{{3.0e-25f}, {4.0e-25f}, {0.0f}});
+        assertEquals(5.0e-25f, small.getLength(), 1e-31f);
+    }
+
+    @Test
+    void testNormalizeExtremeComponents() {
+        Vector3 tiny = new Vector3(new float[][]{{1.0e-23f}, {0.0f}, {0.0f}}).normalize();
+        assertArrayEquals(new float[][]{{1.0f}, {0.0f}, {0.0f}}, tiny.getVector());
+        Vector3 subnormal = Vector3.normalize(new Vector3(new float[][]{{0.0f}, {3.0e-42f}, {4.0e-42f}}), new Vector3());
+        assertEquals(0.6f, subnormal.getVector()[1][0], 1e-3f);
+        assertEquals(0.8f, subnormal.getVector()[2][0], 1e-3f);
+        Vector3 huge = new Vector3(new float[][]{{0.0f}, {0.0f}, {-3.0e38f}}).normalize();
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {-1.0f}}, huge.getVector());
+    }
+}
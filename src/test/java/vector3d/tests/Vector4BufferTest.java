@@ -0,0 +1,103 @@
+package vector3d.tests;
+
+import io.github.artemboldirew.vector3d.core.Matrix4;
+import io.github.artemboldirew.vector3d.core.Vector4;
+import io.github.artemboldirew.vector3d.core.Vector4Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vector4BufferTest {
+    private Vector4Buffer buffer;
+    private Matrix4 matrix;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new Vector4Buffer(3);
+        buffer.set(0, 1.0f, 2.0f, 3.0f, 4.0f);
+        buffer.set(1, 1.0f, 0.0f, 0.0f, 0.0f);
+        buffer.set(2, 0.0f, 0.0f, 0.0f, 0.0f);
+        matrix = new Matrix4(new float[][]{
+                {1.0f, 2.0f, 3.0f, 4.0f},
+                {5.0f, 6.0f, 7.0f, 8.0f},
+                {9.0f, 10.0f, 11.0f, 12.0f},
+                {13.0f, 14.0f, 15.0f, 16.0f}
+        });
+    }
+
+    @Test
+    void testTransformMatchesMatrix4Multiply() {
+        buffer.transform(matrix);
+        assertArrayEquals(new float[][]{{30.0f}, {70.0f}, {110.0f}, {150.0f}}, buffer.get(0, new Vector4()).getVector());
+        assertArrayEquals(new float[][]{{1.0f}, {5.0f}, {9.0f}, {13.0f}}, buffer.get(1, new Vector4()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {0.0f}, {0.0f}, {0.0f}}, buffer.get(2, new Vector4()).getVector());
+    }
+
+    @Test
+    void testNormalizeKeepsW() {
+        buffer.normalize(0, 1);
+        Vector4 v = buffer.get(0, new Vector4());
+        assertEquals(1.0f, v.getLength(), 0.0001f);
+        assertEquals(4.0f, v.getVector()[3][0], 0.0f);
+    }
+
+    @Test
+    void testAddAndScalarProduct() {
+        Vector4Buffer other = new Vector4Buffer(3);
+        other.set(0, 1.0f, 1.0f, 1.0f, 1.0f);
+        float[] dots = buffer.scalarProduct(other, new float[3]);
+        assertArrayEquals(new float[]{10.0f, 0.0f, 0.0f}, dots, 0.0f);
+        buffer.add(other);
+        assertArrayEquals(new float[]{5.0f, 0.0f, 0.0f}, buffer.getW());
+    }
+
+    @Test
+    void testTransformRangeLeavesOtherElements() {
+        buffer.transform(matrix, 1, 2);
+        assertArrayEquals(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}}, buffer.get(0, new Vector4()).getVector());
+        assertArrayEquals(new float[][]{{1.0f}, {5.0f}, {9.0f}, {13.0f}}, buffer.get(1, new Vector4()).getVector());
+    }
+
+    @Test
+    void testNormalizeAllKeepsW() {
+        buffer.set(1, 0.0f, 3.0f, 4.0f, -7.0f);
+        buffer.normalize(0, 2);
+        assertArrayEquals(new float[][]{{0.0f}, {0.6f}, {0.8f}, {-7.0f}}, buffer.get(1, new Vector4()).getVector());
+        assertArrayEquals(new float[]{4.0f, -7.0f, 0.0f}, buffer.getW());
+        assertEquals(1.0f, buffer.get(0, new Vector4()).getLength(), 0.0001f);
+    }
+
+    @Test
+    void testScalarProductIncludesWAndRange() {
+        Vector4Buffer other = new Vector4Buffer(3);
+        other.set(0, 0.0f, 0.0f, 0.0f, 2.0f);
+        other.set(1, 3.0f, 1.0f, 1.0f, 1.0f);
+        other.set(2, 1.0f, 1.0f, 1.0f, 1.0f);
+        float[] dots = {-1.0f, -1.0f, -1.0f};
+        buffer.scalarProduct(other, dots, 1, 3);
+        assertArrayEquals(new float[]{-1.0f, 3.0f, 0.0f}, dots, 0.0f);
+        buffer.scalarProduct(other, dots);
+        assertArrayEquals(new float[]{8.0f, 3.0f, 0.0f}, dots, 0.0f);
+    }
+
+    @Test
+    void testRangeOperationsLeaveOtherElements() {
+        Vector4Buffer other = new Vector4Buffer(3);
+        other.set(0, 1.0f, 1.0f, 1.0f, 1.0f);
+        other.set(1, 1.0f, 1.0f, 1.0f, 1.0f);
+        buffer.subtract(other, 1, 2);
+        buffer.multiply(2.0f, 0, 1);
+        assertArrayEquals(new float[][]{{2.0f}, {4.0f}, {6.0f}, {8.0f}}, buffer.get(0, new Vector4()).getVector());
+        assertArrayEquals(new float[][]{{0.0f}, {-1.0f}, {-1.0f}, {-1.0f}}, buffer.get(1, new Vector4()).getVector());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.add(other, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> buffer.add(new Vector4Buffer(4)));
+    }
+
+    @Test
+    void testLengthsIgnoreW() {
+        float[] dest = new float[3];
+        assertArrayEquals(new float[]{14.0f, 1.0f, 0.0f}, buffer.lengthSquared(dest), 0.0f);
+        Vector4Buffer origin = new Vector4Buffer(3);
+        assertArrayEquals(new float[]{(float) Math.sqrt(14.0), 1.0f, 0.0f}, buffer.distance(origin, dest), 1e-6f);
+    }
+}
@@ -198,4 +198,56 @@ class Vector4Test {
         assertEquals(4, vectorArray.length);
         assertEquals(1, vectorArray[0].length);
     }
-}
\ No newline at end of file
+
+    // Тесты операций с записью в dest
+    @Test
+    void testStaticAddWritesIntoDest() {
+        Vector4 dest = new Vector4();
+        Vector4 result = Vector4.add(vector1, vector1, dest);
+        assertSame(dest, result);
+        assertArrayEquals(new float[][]{{2.0f}, {4.0f}, {6.0f}, {8.0f}}, dest.getVector());
+    }
+
+    @Test
+    void testStaticDivideAndSet() {
+        Vector4 dest = Vector4.divide(new Vector4(new float[][]{{2.0f}, {4.0f}, {6.0f}, {8.0f}}), 2.0f, new Vector4());
+        assertArrayEquals(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}}, dest.getVector());
+        Vector4 copy = new Vector4().set(dest);
+        assertArrayEquals(dest.getVector(), copy.getVector());
+    }
+
+    @Test
+    void testLength4IncludesW() {
+        Vector4 vec = new Vector4(new float[][]{{1.0f}, {2.0f}, {3.0f}, {4.0f}});
+        assertEquals(14.0f, vec.lengthSquared(), 0.0f);
+        assertEquals(30.0f, vec.lengthSquared4(), 0.0f);
+        assertEquals((float) Math.sqrt(30.0), vec.getLength4(), 1e-6f);
+    }
+
+    @Test
+    void testDistanceIgnoresW() {
+        Vector4 a = new Vector4(new float[][]{{1.0f}, {1.0f}, {1.0f}, {1.0f}});
+        Vector4 b = new Vector4(new float[][]{{4.0f}, {5.0f}, {1.0f}, {9.0f}});
+        assertEquals(25.0f, a.distanceSquared(b), 0.0f);
+        assertEquals(5.0f, a.distance(b), 0.0f);
+    }
+
+    // Длина считается в double: большие компоненты не дают +∞, малые — нулевую длину
+    @Test
+    void testLengthOfExtremeComponents() {
+        Vector4 big = new Vector4(new float[][]{{3.0e30f}, {4.0e30f}, {0.0f}, {1.0f}});
+        assertEquals(5.0e30f, big.getLength(), 1e24f);
+        assertEquals(5.0e30f, big.getLength4(), 1e24f);
+        assertEquals(5.0e30f, big.distance(new Vector4()), 1e24f);
+        Vector4 small = new Vector4(new float[][]{{3.0e-25f}, {4.0e-25f}, {0.0f}, {0.0f}});
+        assertEquals(5.0e-25f, small.getLength(), 1e-31f);
+    }
+
+    @Test
+    void testNormalizeExtremeComponents() {
+        Vector4 tiny = new Vector4(new float[][]{{1.0e-23f}, {0.0f}, {0.0f}, {2.0f}}).normalize();
+        assertArrayEquals(new float[][]{{1.0f}, {0.0f}, {0.0f}, {2.0f}}, tiny.getVector());
+        Vector4 huge = Vector4.normalize(new Vector4(new float[][]{{0.0f}, {3.0e38f}, {0.0f}, {1.0f}}), new Vector4());
+        assertArrayEquals(new float[][]{{0.0f}, {1.0f}, {0.0f}, {1.0f}}, huge.getVector());
+    }
+}